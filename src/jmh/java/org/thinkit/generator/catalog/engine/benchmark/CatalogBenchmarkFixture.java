@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.dto.CatalogCreator;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogEnumeration;
+import org.thinkit.generator.catalog.engine.dto.CatalogField;
+import org.thinkit.generator.catalog.engine.dto.CatalogMatrix;
+import org.thinkit.generator.catalog.engine.dto.CatalogMeta;
+import org.thinkit.generator.common.duke.catalog.LombokState;
+
+import lombok.NonNull;
+
+/**
+ * ベンチマークで使用するカタログマトリクスを生成するクラスです。
+ * <p>
+ * 生成されるカタログ定義はクラス名のみが異なり、同一の形状を持ちます。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+final class CatalogBenchmarkFixture {
+
+    /**
+     * パッケージ名
+     */
+    private static final String PACKAGE_NAME = "org.thinkit.generator.catalog.benchmark";
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private CatalogBenchmarkFixture() {
+    }
+
+    /**
+     * 引数として渡された条件でカタログマトリクスを生成し返却します。
+     *
+     * @param definitionCount  カタログ定義の数
+     * @param enumerationCount カタログ定義ごとの列挙子の数
+     * @param catalogType      カタログ種別
+     * @param lombokState      Lombok適用状態
+     * @return カタログマトリクス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static CatalogMatrix createCatalogMatrix(int definitionCount, int enumerationCount,
+            @NonNull CatalogType catalogType, @NonNull LombokState lombokState) {
+
+        final List<CatalogDefinition> catalogDefinitions = new ArrayList<>(definitionCount);
+
+        for (int i = 0; i < definitionCount; i++) {
+            catalogDefinitions.add(createCatalogDefinition(String.format("BenchmarkCatalog%s", i), enumerationCount,
+                    catalogType, lombokState));
+        }
+
+        return CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Benchmark").build())
+                .catalogDefinitions(catalogDefinitions).build();
+    }
+
+    /**
+     * 引数として渡された条件でカタログ定義を生成し返却します。
+     *
+     * @param className        クラス名
+     * @param enumerationCount 列挙子の数
+     * @param catalogType      カタログ種別
+     * @param lombokState      Lombok適用状態
+     * @return カタログ定義
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static CatalogDefinition createCatalogDefinition(@NonNull String className, int enumerationCount,
+            @NonNull CatalogType catalogType, @NonNull LombokState lombokState) {
+
+        final boolean biCatalog = catalogType == CatalogType.BI_CATALOG;
+        final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>(enumerationCount);
+
+        for (int i = 0; i < enumerationCount; i++) {
+            catalogEnumerations.add(CatalogEnumeration.builder().literal(String.format("ELEMENT_%s", i)).code(i)
+                    .tag(biCatalog ? String.format("element %s", i) : "")
+                    .description(String.format("The description of element %s.", i)).build());
+        }
+
+        final List<CatalogField> catalogFields = new ArrayList<>(2);
+        catalogFields.add(CatalogField.builder().variableName("code").dataType("int").description("The code").build());
+
+        if (biCatalog) {
+            catalogFields
+                    .add(CatalogField.builder().variableName("tag").dataType("String").description("The tag").build());
+        }
+
+        return CatalogDefinition.builder()
+                .catalogMeta(CatalogMeta.builder().version("1.0.0").catalogType(catalogType).lombokState(lombokState)
+                        .build())
+                .packageName(PACKAGE_NAME).className(className).tagDataType(biCatalog ? "String" : "")
+                .catalogEnumerations(catalogEnumerations).catalogFields(catalogFields).build();
+    }
+}
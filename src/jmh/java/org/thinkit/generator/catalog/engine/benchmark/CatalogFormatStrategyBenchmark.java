@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.formatter.CatalogResourceFormatter;
+import org.thinkit.generator.catalog.engine.strategy.CatalogFormatStrategy;
+import org.thinkit.generator.common.duke.catalog.LombokState;
+
+/**
+ * 組み立て済みのカタログリソースの整形処理を整形方式ごとに計測するベンチマーククラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogFormatStrategyBenchmark {
+
+    /**
+     * カタログ定義ごとの列挙子の数
+     */
+    @Param({ "10", "100", "1000" })
+    private int enumerationCount;
+
+    /**
+     * カタログ種別
+     */
+    @Param({ "CATALOG", "BI_CATALOG" })
+    private CatalogType catalogType;
+
+    /**
+     * Lombok適用状態
+     */
+    @Param({ "LOMBOK", "NONE" })
+    private LombokState lombokState;
+
+    /**
+     * 整形方式
+     */
+    @Param({ "SHARED_GJF", "STRICT_GJF", "NATIVE_AOSP" })
+    private FormatMode formatMode;
+
+    /**
+     * 整形前のカタログリソース
+     */
+    private String resource;
+
+    /**
+     * 整形方式に対応する整形処理
+     */
+    private CatalogFormatStrategy formatStrategy;
+
+    /**
+     * 整形前のカタログリソースと整形処理を生成します。
+     */
+    @Setup
+    public void setUp() {
+        this.resource = CatalogResourceFormatter.builder().formatMode(FormatMode.NONE).build()
+                .format(CatalogBenchmarkFixture.createCatalogMatrix(1, this.enumerationCount, this.catalogType,
+                        this.lombokState))
+                .get(0).getResource();
+        this.formatStrategy = CatalogFormatStrategy.of(this.formatMode);
+    }
+
+    /**
+     * 組み立て済みのカタログリソースを整形します。
+     *
+     * @return 整形されたカタログリソース
+     */
+    @Benchmark
+    public String format() {
+        return this.formatStrategy.format(this.resource);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.dto.CatalogMatrix;
+import org.thinkit.generator.catalog.engine.dto.CatalogResourceGroup;
+import org.thinkit.generator.catalog.engine.formatter.CatalogResourceFormatter;
+import org.thinkit.generator.common.duke.catalog.LombokState;
+
+/**
+ * {@link CatalogResourceFormatter#format(CatalogMatrix)} の処理時間を計測するベンチマーククラスです。
+ * <p>
+ * カタログ定義の数、カタログ定義ごとの列挙子の数、カタログ種別およびLombok適用状態の組み合わせごとに計測します。
+ * 整形方式は既定値の {@link FormatMode#STRICT_GJF} で計測し、 {@code -p formatMode=NATIVE_AOSP} のように指定した場合は指定された整形方式で計測します。
+ * フォーマッターはトライアルごとに生成されるため、レンダープランのキャッシュが有効な状態での処理時間を計測します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogResourceFormatterBenchmark {
+
+    /**
+     * カタログ定義の数
+     */
+    @Param({ "1", "100", "10000" })
+    private int definitionCount;
+
+    /**
+     * カタログ定義ごとの列挙子の数
+     */
+    @Param({ "10", "100" })
+    private int enumerationCount;
+
+    /**
+     * カタログ種別
+     */
+    @Param({ "CATALOG", "BI_CATALOG" })
+    private CatalogType catalogType;
+
+    /**
+     * Lombok適用状態
+     */
+    @Param({ "LOMBOK", "NONE" })
+    private LombokState lombokState;
+
+    /**
+     * 整形方式
+     */
+    @Param({ "STRICT_GJF" })
+    private FormatMode formatMode;
+
+    /**
+     * カタログマトリクス
+     */
+    private CatalogMatrix catalogMatrix;
+
+    /**
+     * フォーマッター
+     */
+    private CatalogResourceFormatter formatter;
+
+    /**
+     * 計測対象のカタログマトリクスとフォーマッターを生成します。
+     */
+    @Setup
+    public void setUp() {
+        this.catalogMatrix = CatalogBenchmarkFixture.createCatalogMatrix(this.definitionCount, this.enumerationCount,
+                this.catalogType, this.lombokState);
+        this.formatter = CatalogResourceFormatter.builder().formatMode(this.formatMode).build();
+    }
+
+    /**
+     * カタログマトリクスからカタログリソースを生成します。
+     *
+     * @return カタログリソースグループ
+     */
+    @Benchmark
+    public CatalogResourceGroup format() {
+        return this.formatter.format(this.catalogMatrix);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.framework.content.Attribute;
+import org.thinkit.framework.content.Condition;
+import org.thinkit.framework.content.Content;
+import org.thinkit.framework.content.ContentInvoker;
+import org.thinkit.framework.content.annotation.ContentMapping;
+import org.thinkit.framework.envali.Envali;
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.content.CatalogContentRegistry;
+import org.thinkit.generator.catalog.engine.content.CatalogPackageLoader;
+import org.thinkit.generator.catalog.engine.content.entity.CatalogPackage;
+import org.thinkit.generator.catalog.engine.content.entity.LombokPackage;
+import org.thinkit.generator.catalog.engine.dto.CatalogMatrix;
+import org.thinkit.generator.catalog.engine.dto.CatalogResourceGroup;
+import org.thinkit.generator.catalog.engine.dto.CatalogValidator;
+import org.thinkit.generator.catalog.engine.formatter.CatalogResourceFormatter;
+import org.thinkit.generator.common.duke.catalog.LombokState;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * カタログリソースの生成処理を段階ごとに計測するベンチマーククラスです。
+ * <p>
+ * 入力値の検証、コンテンツの参照とロード、整形を行わないリソースの組み立てをそれぞれ独立して計測します。
+ * 整形処理は {@link CatalogFormatStrategyBenchmark} で計測します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogStageBenchmark {
+
+    /**
+     * カタログ定義ごとの列挙子の数
+     */
+    @Param({ "10", "100", "1000" })
+    private int enumerationCount;
+
+    /**
+     * カタログ種別
+     */
+    @Param({ "CATALOG", "BI_CATALOG" })
+    private CatalogType catalogType;
+
+    /**
+     * Lombok適用状態
+     */
+    @Param({ "LOMBOK", "NONE" })
+    private LombokState lombokState;
+
+    /**
+     * カタログ定義を1件保持するカタログマトリクス
+     */
+    private CatalogMatrix catalogMatrix;
+
+    /**
+     * 整形を行わないフォーマッター
+     */
+    private CatalogResourceFormatter formatter;
+
+    /**
+     * 計測対象のカタログマトリクスとフォーマッターを生成します。
+     */
+    @Setup
+    public void setUp() {
+        this.catalogMatrix = CatalogBenchmarkFixture.createCatalogMatrix(1, this.enumerationCount, this.catalogType,
+                this.lombokState);
+        this.formatter = CatalogResourceFormatter.builder().formatMode(FormatMode.NONE).build();
+    }
+
+    /**
+     * フォーマッターと同様に {@link CatalogValidator} でカタログマトリクスの入力値を検証します。
+     *
+     * @return 検証したカタログマトリクス
+     */
+    @Benchmark
+    public CatalogMatrix validate() {
+        CatalogValidator.validate(this.catalogMatrix);
+        return this.catalogMatrix;
+    }
+
+    /**
+     * 比較のために {@link Envali} のリフレクションを使用してカタログマトリクスの入力値を検証します。
+     *
+     * @return 検証したカタログマトリクス
+     */
+    @Benchmark
+    public CatalogMatrix validateReflectively() {
+        Envali.validate(this.catalogMatrix);
+        return this.catalogMatrix;
+    }
+
+    /**
+     * ロード済みのコンテンツからカタログパッケージを参照します。
+     *
+     * @return カタログ種別に対応するカタログパッケージ
+     */
+    @Benchmark
+    public CatalogPackage lookupCatalogPackage() {
+        return CatalogContentRegistry.getInstance().getCatalogPackage(this.catalogType);
+    }
+
+    /**
+     * ロード済みのコンテンツから Lombok のパッケージを参照します。
+     *
+     * @return Lombok のパッケージリスト
+     */
+    @Benchmark
+    public List<LombokPackage> lookupLombokPackages() {
+        return CatalogContentRegistry.getInstance().getLombokPackages();
+    }
+
+    /**
+     * {@link CatalogContentRegistry} を経由せずに {@link CatalogPackageLoader} でカタログパッケージをロードします。
+     * <p>
+     * {@link CatalogPackageLoader} はビルド時に生成された参照テーブルを参照するため、コンテンツファイルの読み込みと解析は計測に含まれません。
+     *
+     * @return カタログ種別に対応するカタログパッケージ
+     */
+    @Benchmark
+    public CatalogPackage loadCatalogPackage() {
+        return ContentInvoker.of(CatalogPackageLoader.of(this.catalogType)).invoke();
+    }
+
+    /**
+     * 比較のためにコンテンツファイルを読み込んで解析し、カタログパッケージをロードします。
+     * <p>
+     * 参照テーブルが生成される以前の {@link CatalogPackageLoader} と同様に {@link Content#loadContent(Content)} を呼び出します。
+     *
+     * @return カタログ種別に対応するカタログパッケージ
+     */
+    @Benchmark
+    public CatalogPackage parseCatalogPackage() {
+        return ContentInvoker.of(ParsingCatalogPackageLoader.of(CatalogPackageLoader.of(this.catalogType))).invoke();
+    }
+
+    /**
+     * 整形を行わずにカタログリソースを組み立てます。
+     *
+     * @return カタログリソースグループ
+     */
+    @Benchmark
+    public CatalogResourceGroup assemble() {
+        return this.formatter.format(this.catalogMatrix);
+    }
+
+    /**
+     * コンテンツファイル「CatalogPackage」を実行時に読み込んで解析するローダークラスです。
+     * <p>
+     * 検索に使用する要素と条件は {@link CatalogPackageLoader} から取得します。
+     */
+    @RequiredArgsConstructor(staticName = "of")
+    @ContentMapping(content = "org/thinkit/generator/catalog/engine/CatalogPackage")
+    private static final class ParsingCatalogPackageLoader implements Content<CatalogPackage> {
+
+        /**
+         * 検索に使用する要素と条件を提供するローダー
+         */
+        private final CatalogPackageLoader delegate;
+
+        @Override
+        public CatalogPackage execute() {
+
+            final List<Map<String, String>> content = this.loadContent(this);
+
+            if (content.isEmpty()) {
+                throw new IllegalStateException();
+            }
+
+            return CatalogPackage.builder().packageName(content.get(0).get("catalogPackage")).build();
+        }
+
+        @Override
+        public Set<Attribute> getAttributes() {
+            return this.delegate.getAttributes();
+        }
+
+        @Override
+        public List<Map<Condition, String>> getConditions() {
+            return this.delegate.getConditions();
+        }
+    }
+}
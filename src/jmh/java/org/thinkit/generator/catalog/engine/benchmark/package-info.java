@@ -0,0 +1,4 @@
+/**
+ * カタログリソースの生成処理を計測する JMH のベンチマーククラスを管理するパッケージです。
+ */
+package org.thinkit.generator.catalog.engine.benchmark;
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.dto.CatalogChangeSet;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogResourceGroup;
+import org.thinkit.generator.catalog.engine.formatter.CatalogFingerprint;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 前回の生成時におけるフィンガープリントと比較し、カタログ定義リストを変更、未変更および削除されたカタログへ分類するクラスです。
+ * <p>
+ * カタログ定義ごとに {@link CatalogFingerprint#of(String, CatalogDefinition, FormatMode)} でフィンガープリントを算出し、
+ * 前回のフィンガープリントと一致しないカタログ定義を再生成の対象とします。前回のフィンガープリントに含まれ、
+ * 今回のカタログ定義リストに含まれないカタログは削除されたカタログとして扱います。
+ *
+ * <pre>
+ * 操作例:
+ * <code>
+ * CatalogChangeDetector changeDetector = CatalogChangeDetector.of(creator, formatMode, previousFingerprints,
+ *         catalogDefinitions);
+ * CatalogResourceGroup changedCatalogResources = render(changeDetector.getChangedCatalogDefinitions());
+ * CatalogChangeSet changeSet = changeDetector.toChangeSet(changedCatalogResources);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+public final class CatalogChangeDetector {
+
+    /**
+     * 今回の生成対象となったカタログの完全修飾名とフィンガープリントのマップ (カタログ定義の定義順)
+     */
+    private final Map<String, String> fingerprints;
+
+    /**
+     * 新規追加または変更されたカタログ定義リスト
+     */
+    @Getter
+    private final List<CatalogDefinition> changedCatalogDefinitions;
+
+    /**
+     * 変更がないカタログの完全修飾名リスト
+     */
+    private final List<String> unchangedCatalogs;
+
+    /**
+     * 前回の生成から削除されたカタログの完全修飾名リスト
+     */
+    private final List<String> removedCatalogs;
+
+    /**
+     * コンストラクタ
+     *
+     * @param fingerprints              今回の生成対象となったカタログの完全修飾名とフィンガープリントのマップ
+     * @param changedCatalogDefinitions 新規追加または変更されたカタログ定義リスト
+     * @param unchangedCatalogs         変更がないカタログの完全修飾名リスト
+     * @param removedCatalogs           前回の生成から削除されたカタログの完全修飾名リスト
+     */
+    private CatalogChangeDetector(Map<String, String> fingerprints, List<CatalogDefinition> changedCatalogDefinitions,
+            List<String> unchangedCatalogs, List<String> removedCatalogs) {
+        this.fingerprints = fingerprints;
+        this.changedCatalogDefinitions = changedCatalogDefinitions;
+        this.unchangedCatalogs = unchangedCatalogs;
+        this.removedCatalogs = removedCatalogs;
+    }
+
+    /**
+     * 引数として渡されたカタログ定義リストを前回の生成時におけるフィンガープリントと比較して分類し、分類結果を保持する
+     * {@link CatalogChangeDetector} クラスの新しいインスタンスを返却します。
+     *
+     * @param creator              作成者
+     * @param formatMode           整形方式
+     * @param previousFingerprints 前回の生成時におけるカタログの完全修飾名とフィンガープリントのマップ
+     * @param catalogDefinitions   カタログ定義リスト
+     * @return {@link CatalogChangeDetector} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static CatalogChangeDetector of(@NonNull String creator, @NonNull FormatMode formatMode,
+            @NonNull Map<String, String> previousFingerprints, @NonNull List<CatalogDefinition> catalogDefinitions) {
+
+        final Map<String, String> fingerprints = new LinkedHashMap<>(catalogDefinitions.size());
+        final List<CatalogDefinition> changedCatalogDefinitions = new ArrayList<>();
+        final List<String> unchangedCatalogs = new ArrayList<>();
+
+        catalogDefinitions.forEach(catalogDefinition -> {
+            final String qualifiedName = CatalogFingerprint.qualifiedNameOf(catalogDefinition);
+            final String fingerprint = CatalogFingerprint.of(creator, catalogDefinition, formatMode);
+
+            fingerprints.put(qualifiedName, fingerprint);
+
+            if (fingerprint.equals(previousFingerprints.get(qualifiedName))) {
+                unchangedCatalogs.add(qualifiedName);
+            } else {
+                changedCatalogDefinitions.add(catalogDefinition);
+            }
+        });
+
+        final List<String> removedCatalogs = new ArrayList<>();
+
+        previousFingerprints.keySet().forEach(qualifiedName -> {
+            if (!fingerprints.containsKey(qualifiedName)) {
+                removedCatalogs.add(qualifiedName);
+            }
+        });
+
+        return new CatalogChangeDetector(fingerprints, changedCatalogDefinitions, unchangedCatalogs, removedCatalogs);
+    }
+
+    /**
+     * 引数として渡された再生成済みのカタログリソースグループと分類結果を {@link CatalogChangeSet} に格納し返却します。
+     *
+     * @param changedCatalogResources {@link #getChangedCatalogDefinitions()} を基に生成されたカタログリソースグループ
+     * @return 差分生成の結果
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public CatalogChangeSet toChangeSet(@NonNull CatalogResourceGroup changedCatalogResources) {
+        return CatalogChangeSet.builder().changedCatalogResources(changedCatalogResources)
+                .unchangedCatalogs(this.unchangedCatalogs).removedCatalogs(this.removedCatalogs)
+                .fingerprints(this.fingerprints).build();
+    }
+}
@@ -0,0 +1,1074 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import org.thinkit.generator.catalog.engine.formatter.CatalogFingerprint;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 整形済みのカタログリソースをカタログ定義のフィンガープリントをキーとしてディスク上に保持する永続キャッシュです。
+ * <p>
+ * キャッシュは指定されたディレクトリ配下に追記専用のセグメントファイルと索引ファイルで構成されます。
+ * <ul>
+ * <li>セグメントファイルにはエンジンのバージョンを含むヘッダーに続いて、キー、CRC32 チェックサムおよび整形済みのリソースからなるレコードが追記されます。</li>
+ * <li>索引ファイルにはキーごとのレコードの位置が最終参照順に格納されます。索引ファイルは {@link #close()} の呼び出し時に書き込まれ、
+ * 索引ファイルが存在しない場合はセグメントファイルを走査して索引を再構築します。</li>
+ * <li>セグメントファイルの合計サイズが上限を超えた場合は最も長く参照されていないエントリーから破棄します。
+ * 有効なレコードが半分未満になったセグメントファイルは有効なレコードを書き込み中のセグメントファイルへ移した後に削除されます。</li>
+ * </ul>
+ * <p>
+ * エンジンのバージョンが異なるセグメントファイルは読み込まれずに削除されるため、エンジンを更新した後に古い生成結果が返却されることはありません。
+ * このクラスのすべての公開メソッドはスレッドセーフです。索引の参照と更新のみを排他制御し、レコードの読み込みは位置指定の読み込みで
+ * ロックの外側で行うため、複数のスレッドから同時にキャッシュを参照することができます。
+ * 入出力中のスレッドへの割り込みによってセグメントファイルのチャネルが閉じられた場合は、チャネルを開き直して処理を継続します。
+ *
+ * <pre>
+ * 操作例:
+ * <code>
+ * try (CatalogRenderCache renderCache = CatalogRenderCache.open(directory, 256L * 1024 * 1024)) {
+ *     CatalogResourceFormatter.builder().renderCache(renderCache).build().format(catalogMatrix);
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class CatalogRenderCache implements Closeable {
+
+    /**
+     * セグメントファイルの識別子
+     */
+    private static final int SEGMENT_MAGIC = 0x43525347;
+
+    /**
+     * 索引ファイルの識別子
+     */
+    private static final int INDEX_MAGIC = 0x43524958;
+
+    /**
+     * 索引ファイルの形式バージョン
+     */
+    private static final int INDEX_FORMAT_VERSION = 1;
+
+    /**
+     * 索引ファイル名
+     */
+    private static final String INDEX_FILE_NAME = "index.bin";
+
+    /**
+     * セグメントファイル名の形式
+     */
+    private static final String SEGMENT_FILE_NAME_FORMAT = "segment-%08d.dat";
+
+    /**
+     * セグメントファイル名の接頭辞
+     */
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+
+    /**
+     * セグメントファイル名の接尾辞
+     */
+    private static final String SEGMENT_FILE_SUFFIX = ".dat";
+
+    /**
+     * セグメントファイルの最小サイズ
+     */
+    private static final long MIN_SEGMENT_BYTES = 64L * 1024;
+
+    /**
+     * キャッシュの最大サイズに対するセグメントファイルの数の目安
+     */
+    private static final int SEGMENTS_PER_CACHE = 8;
+
+    /**
+     * レコードのヘッダー部のサイズ (キー長、リソース長および CRC32 チェックサム)
+     */
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES * 3;
+
+    /**
+     * キャッシュディレクトリ
+     */
+    @ToString.Include
+    private final Path directory;
+
+    /**
+     * セグメントファイルの合計サイズの上限
+     */
+    @ToString.Include
+    private final long maxBytes;
+
+    /**
+     * セグメントファイルの切り替えを行うサイズ
+     */
+    private final long segmentBytes;
+
+    /**
+     * エンジンのバージョン
+     */
+    private final String engineVersion;
+
+    /**
+     * キーとエントリーのマップ (最終参照順)
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * セグメント番号とセグメントのマップ
+     */
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+
+    /**
+     * 書き込み中のセグメント
+     */
+    private Segment activeSegment;
+
+    /**
+     * セグメントファイルの合計サイズ
+     */
+    private long diskBytes;
+
+    /**
+     * クローズされたか否か
+     */
+    private boolean closed;
+
+    /**
+     * コンストラクタ
+     *
+     * @param directory     キャッシュディレクトリ
+     * @param maxBytes      セグメントファイルの合計サイズの上限
+     * @param engineVersion エンジンのバージョン
+     */
+    private CatalogRenderCache(Path directory, long maxBytes, String engineVersion) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.segmentBytes = Math.max(MIN_SEGMENT_BYTES, maxBytes / SEGMENTS_PER_CACHE);
+        this.engineVersion = engineVersion;
+    }
+
+    /**
+     * 引数として渡されたディレクトリのキャッシュを開き返却します。
+     * <p>
+     * ディレクトリが存在しない場合は新たに作成します。キャッシュのエンジンバージョンには
+     * {@link CatalogFingerprint#getEngineVersion()} が使用されます。
+     *
+     * @param directory キャッシュディレクトリ
+     * @param maxBytes  セグメントファイルの合計サイズの上限
+     * @return キャッシュ
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 上限に {@code 1} 未満の値が渡された場合
+     * @exception UncheckedIOException    キャッシュの読み込み処理で入出力エラーが発生した場合
+     */
+    public static CatalogRenderCache open(@NonNull Path directory, long maxBytes) {
+        return open(directory, maxBytes, CatalogFingerprint.getEngineVersion());
+    }
+
+    /**
+     * 引数として渡されたディレクトリおよびエンジンのバージョンでキャッシュを開き返却します。
+     * <p>
+     * ディレクトリが存在しない場合は新たに作成します。 {@code engineVersion} と異なるバージョンで書き込まれたセグメントファイルは削除されます。
+     *
+     * @param directory     キャッシュディレクトリ
+     * @param maxBytes      セグメントファイルの合計サイズの上限
+     * @param engineVersion エンジンのバージョン
+     * @return キャッシュ
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 上限に {@code 1} 未満の値が渡された場合
+     * @exception UncheckedIOException    キャッシュの読み込み処理で入出力エラーが発生した場合
+     */
+    public static CatalogRenderCache open(@NonNull Path directory, long maxBytes, @NonNull String engineVersion) {
+
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException(
+                    String.format("The maximum size of the cache must be positive but was %d.", maxBytes));
+        }
+
+        final CatalogRenderCache renderCache = new CatalogRenderCache(directory, maxBytes, engineVersion);
+
+        try {
+            Files.createDirectories(directory);
+            renderCache.load();
+        } catch (IOException e) {
+            renderCache.closeQuietly();
+            throw new UncheckedIOException(e);
+        }
+
+        return renderCache;
+    }
+
+    /**
+     * 引数として渡されたキーに対応する整形済みのリソースを返却します。
+     * <p>
+     * レコードが破損していた場合はエントリーを破棄し、空の {@link Optional} を返却します。
+     *
+     * @param key キー
+     * @return キーに対応する整形済みのリソース。キャッシュに存在しない場合は空の {@link Optional}
+     *
+     * @exception NullPointerException  引数として {@code null} が渡された場合
+     * @exception IllegalStateException キャッシュがクローズされている場合
+     * @exception UncheckedIOException キャッシュの読み込み処理で入出力エラーが発生した場合
+     */
+    public Optional<String> get(@NonNull String key) {
+
+        Entry entry;
+        Optional<String> resource;
+
+        for (int attempt = 0;; attempt++) {
+            final FileChannel channel;
+
+            synchronized (this) {
+                this.checkOpen();
+                entry = this.entries.get(key);
+
+                if (entry == null) {
+                    return Optional.empty();
+                }
+
+                channel = this.segments.get(entry.segmentId).channel;
+            }
+
+            try {
+                resource = read(channel, entry, key);
+                break;
+            } catch (ClosedChannelException e) {
+                // 他のスレッドへの割り込みで閉じられたチャネルを開き直し、セグメントファイルが破棄または圧縮された場合は索引から再度参照する
+                this.reopenClosedSegments();
+
+                if (e instanceof ClosedByInterruptException || attempt > 0) {
+                    return Optional.empty();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        if (resource.isEmpty()) {
+            synchronized (this) {
+                if (this.entries.remove(key, entry)) {
+                    this.segments.get(entry.segmentId).liveBytes -= entry.length;
+                }
+            }
+        }
+
+        return resource;
+    }
+
+    /**
+     * 引数として渡されたキーと整形済みのリソースをキャッシュへ追加します。
+     * <p>
+     * キーが既に存在する場合は最終参照日時のみ更新します。追加によってセグメントファイルの合計サイズが上限を超えた場合は、
+     * 最も長く参照されていないエントリーから破棄します。
+     *
+     * @param key      キー
+     * @param resource 整形済みのリソース
+     *
+     * @exception NullPointerException  引数として {@code null} が渡された場合
+     * @exception IllegalStateException キャッシュがクローズされている場合
+     * @exception UncheckedIOException キャッシュの書き込み処理で入出力エラーが発生した場合
+     */
+    public void put(@NonNull String key, @NonNull String resource) {
+
+        synchronized (this) {
+            this.checkOpen();
+
+            if (this.entries.get(key) != null) {
+                return;
+            }
+        }
+
+        final ByteBuffer record = createRecord(key, resource.getBytes(StandardCharsets.UTF_8));
+
+        synchronized (this) {
+            this.checkOpen();
+
+            if (this.entries.get(key) != null) {
+                return;
+            }
+
+            try {
+                this.append(key, record);
+                this.evict();
+            } catch (ClosedChannelException e) {
+                this.reopenClosedSegments();
+                throw new UncheckedIOException(e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 引数として渡されたキーに対応する整形済みのリソースを返却します。
+     * <p>
+     * キャッシュに存在しない場合は {@code renderer} でリソースを生成し、生成結果をキャッシュへ追加した上で返却します。
+     * 同一のキーに対して複数のスレッドから同時に呼び出された場合は、それぞれのスレッドでリソースが生成されることがあります。
+     *
+     * @param key      キー
+     * @param renderer キャッシュに存在しない場合に整形済みのリソースを生成する処理
+     * @return キーに対応する整形済みのリソース
+     *
+     * @exception NullPointerException  引数として {@code null} が渡された場合
+     * @exception IllegalStateException キャッシュがクローズされている場合
+     * @exception UncheckedIOException キャッシュの読み込みまたは書き込み処理で入出力エラーが発生した場合
+     */
+    public String computeIfAbsent(@NonNull String key, @NonNull Supplier<String> renderer) {
+
+        final Optional<String> cachedResource = this.get(key);
+
+        if (cachedResource.isPresent()) {
+            return cachedResource.get();
+        }
+
+        final String resource = renderer.get();
+        this.put(key, resource);
+
+        return resource;
+    }
+
+    /**
+     * キャッシュに格納されたエントリー数を返却します。
+     *
+     * @return エントリー数
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * セグメントファイルの合計サイズを返却します。
+     *
+     * @return セグメントファイルの合計サイズ
+     */
+    public synchronized long getDiskBytes() {
+        return this.diskBytes;
+    }
+
+    /**
+     * 索引ファイルを書き込み、キャッシュを閉じます。
+     *
+     * @throws IOException 索引ファイルの書き込み処理で入出力エラーが発生した場合
+     */
+    @Override
+    public synchronized void close() throws IOException {
+
+        if (this.closed) {
+            return;
+        }
+
+        try {
+            for (Segment segment : this.segments.values()) {
+                if (segment.channel.size() > segment.endOffset) {
+                    segment.channel.truncate(segment.endOffset);
+                }
+
+                segment.channel.force(true);
+            }
+
+            this.writeIndex();
+        } finally {
+            this.closeQuietly();
+        }
+    }
+
+    /**
+     * 索引ファイルまたはセグメントファイルからキャッシュの状態を読み込みます。
+     * <p>
+     * 索引ファイルは読み込み後に削除されます。異常終了した場合は次回の読み込み時にセグメントファイルから索引が再構築されます。
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void load() throws IOException {
+
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(this.directory,
+                SEGMENT_FILE_PREFIX + "*" + SEGMENT_FILE_SUFFIX)) {
+            for (Path path : paths) {
+                final String fileName = path.getFileName().toString();
+                final int segmentId;
+
+                try {
+                    segmentId = Integer.parseInt(fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                            fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+
+                final Segment segment = Segment.open(path, segmentId);
+
+                if (!this.engineVersion.equals(segment.readEngineVersion())) {
+                    segment.channel.close();
+                    Files.delete(path);
+                    continue;
+                }
+
+                this.segments.put(segmentId, segment);
+                this.diskBytes += segment.channel.size();
+            }
+        }
+
+        final Path indexPath = this.directory.resolve(INDEX_FILE_NAME);
+
+        if (!Files.exists(indexPath) || !this.readIndex(indexPath)) {
+            this.entries.clear();
+            this.segments.values().forEach(segment -> segment.liveBytes = 0);
+
+            for (Segment segment : this.segments.values()) {
+                this.scan(segment);
+            }
+        }
+
+        Files.deleteIfExists(indexPath);
+
+        if (!this.segments.isEmpty() && this.segments.lastEntry().getValue().channel.size() < this.segmentBytes) {
+            this.activeSegment = this.segments.lastEntry().getValue();
+        } else {
+            this.rollSegment();
+        }
+
+        this.evict();
+    }
+
+    /**
+     * 索引ファイルを読み込みます。
+     *
+     * @param indexPath 索引ファイル
+     * @return 索引ファイルを読み込めた場合は {@code true} 、索引ファイルが破損しているかバージョンが異なる場合は {@code false}
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private boolean readIndex(Path indexPath) throws IOException {
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(indexPath))) {
+
+            if (input.readInt() != INDEX_MAGIC || input.readInt() != INDEX_FORMAT_VERSION
+                    || !this.engineVersion.equals(input.readUTF())) {
+                return false;
+            }
+
+            final int entryCount = input.readInt();
+
+            for (int i = 0; i < entryCount; i++) {
+                final String key = input.readUTF();
+                final Entry entry = new Entry(input.readInt(), input.readLong(), input.readInt());
+                final Segment segment = this.segments.get(entry.segmentId);
+
+                if (segment != null && entry.offset + entry.length <= segment.channel.size()) {
+                    this.entries.put(key, entry);
+                    segment.liveBytes += entry.length;
+                }
+            }
+
+            return true;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 索引ファイルを一時ファイルへ書き込んだ後に置き換えます。
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void writeIndex() throws IOException {
+
+        final Path indexPath = this.directory.resolve(INDEX_FILE_NAME);
+        final Path temporaryPath = this.directory.resolve(INDEX_FILE_NAME + ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+            output.writeInt(INDEX_MAGIC);
+            output.writeInt(INDEX_FORMAT_VERSION);
+            output.writeUTF(this.engineVersion);
+            output.writeInt(this.entries.size());
+
+            for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+                output.writeUTF(entry.getKey());
+                output.writeInt(entry.getValue().segmentId);
+                output.writeLong(entry.getValue().offset);
+                output.writeInt(entry.getValue().length);
+            }
+        }
+
+        Files.move(temporaryPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * セグメントファイルを先頭から走査して索引を再構築します。
+     * <p>
+     * 末尾の不完全なレコードは無視されます。同一のキーが複数存在する場合は後に書き込まれたレコードが有効になります。
+     *
+     * @param segment セグメント
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void scan(Segment segment) throws IOException {
+
+        final long size = segment.channel.size();
+        final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        long offset = segment.headerBytes;
+
+        while (offset + RECORD_HEADER_BYTES <= size) {
+            header.clear();
+
+            if (!readFully(segment.channel, header, offset)) {
+                break;
+            }
+
+            header.flip();
+
+            final int keyLength = header.getInt();
+            final int resourceLength = header.getInt();
+            final long recordLength = (long) RECORD_HEADER_BYTES + keyLength + resourceLength;
+
+            if (keyLength < 0 || resourceLength < 0 || offset + recordLength > size) {
+                break;
+            }
+
+            final ByteBuffer key = ByteBuffer.allocate(keyLength);
+
+            if (!readFully(segment.channel, key, offset + RECORD_HEADER_BYTES)) {
+                break;
+            }
+
+            this.link(new String(key.array(), StandardCharsets.UTF_8),
+                    new Entry(segment.id, offset, (int) recordLength));
+
+            offset += recordLength;
+        }
+
+        segment.endOffset = offset;
+    }
+
+    /**
+     * 引数として渡されたエントリーのレコードを読み込み、整形済みのリソースを返却します。
+     * <p>
+     * 位置指定の読み込みのみを行うため、ロックを保持せずに複数のスレッドから同時に呼び出すことができます。
+     *
+     * @param channel エントリーを格納するセグメントファイルのチャネル
+     * @param entry   エントリー
+     * @param key     キー
+     * @return 整形済みのリソース。レコードが破損している場合は空の {@link Optional}
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private static Optional<String> read(FileChannel channel, Entry entry, String key) throws IOException {
+
+        final ByteBuffer record = ByteBuffer.allocate(entry.length);
+
+        if (!readFully(channel, record, entry.offset)) {
+            return Optional.empty();
+        }
+
+        record.flip();
+
+        final int keyLength = record.getInt();
+        final int resourceLength = record.getInt();
+        final int checksum = record.getInt();
+
+        if (RECORD_HEADER_BYTES + keyLength + resourceLength != entry.length) {
+            return Optional.empty();
+        }
+
+        final byte[] bytes = record.array();
+        final String storedKey = new String(bytes, RECORD_HEADER_BYTES, keyLength, StandardCharsets.UTF_8);
+
+        final CRC32 crc32 = new CRC32();
+        crc32.update(bytes, RECORD_HEADER_BYTES + keyLength, resourceLength);
+
+        if (!storedKey.equals(key) || (int) crc32.getValue() != checksum) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new String(bytes, RECORD_HEADER_BYTES + keyLength, resourceLength, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 引数として渡されたバッファが満たされるか、ファイルの終端に達するまで指定位置から読み込みます。
+     *
+     * @param channel  ファイルチャネル
+     * @param buffer   読み込み先のバッファ
+     * @param position 読み込みを開始する位置
+     * @return バッファが満たされた場合は {@code true} 、ファイルの終端に達した場合は {@code false}
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+
+        final int start = buffer.position();
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position() - start) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 引数として渡されたキーと整形済みのリソースから、 CRC32 チェックサムを含むレコードを生成します。
+     *
+     * @param key      キー
+     * @param resource 整形済みのリソース
+     * @return 読み込み位置が先頭に設定されたレコード
+     */
+    private static ByteBuffer createRecord(String key, byte[] resource) {
+
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final CRC32 crc32 = new CRC32();
+        crc32.update(resource);
+
+        final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + keyBytes.length + resource.length);
+        record.putInt(keyBytes.length).putInt(resource.length).putInt((int) crc32.getValue());
+        record.put(keyBytes).put(resource);
+
+        return record.flip();
+    }
+
+    /**
+     * 引数として渡されたレコードを書き込み中のセグメントファイルへ追記し、キーを索引へ登録します。
+     *
+     * @param key    キー
+     * @param record {@link #createRecord(String, byte[])} で生成したレコード
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void append(String key, ByteBuffer record) throws IOException {
+
+        final int recordLength = record.remaining();
+        final long tailBytes = this.activeSegment.channel.size() - this.activeSegment.endOffset;
+
+        if (tailBytes > 0) {
+            // 割り込みなどで書き込みが中断された不完全なレコードを切り詰める
+            this.activeSegment.channel.truncate(this.activeSegment.endOffset);
+            this.diskBytes -= tailBytes;
+        }
+
+        if (this.activeSegment.endOffset + recordLength > this.segmentBytes
+                && this.activeSegment.endOffset > this.activeSegment.headerBytes) {
+            this.rollSegment();
+        }
+
+        final long offset = this.activeSegment.endOffset;
+
+        while (record.hasRemaining()) {
+            this.activeSegment.channel.write(record, offset + record.position());
+        }
+
+        this.activeSegment.endOffset = offset + recordLength;
+        this.diskBytes += recordLength;
+        this.link(key, new Entry(this.activeSegment.id, offset, recordLength));
+    }
+
+    /**
+     * 引数として渡されたキーとエントリーを索引へ登録します。
+     * <p>
+     * キーが既に登録されている場合は古いエントリーを無効にします。
+     *
+     * @param key   キー
+     * @param entry エントリー
+     */
+    private void link(String key, Entry entry) {
+
+        final Entry previous = this.entries.put(key, entry);
+
+        if (previous != null) {
+            this.segments.get(previous.segmentId).liveBytes -= previous.length;
+        }
+
+        this.segments.get(entry.segmentId).liveBytes += entry.length;
+    }
+
+    /**
+     * 引数として渡されたキーのエントリーを索引から削除します。
+     *
+     * @param key キー
+     */
+    private void remove(String key) {
+
+        final Entry entry = this.entries.remove(key);
+
+        if (entry != null) {
+            this.segments.get(entry.segmentId).liveBytes -= entry.length;
+        }
+    }
+
+    /**
+     * セグメントファイルの合計サイズが上限以下になるまで、最も長く参照されていないエントリーから破棄します。
+     * <p>
+     * 有効なレコードがなくなったセグメントファイルは削除し、有効なレコードが半分未満になったセグメントファイルは圧縮します。
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void evict() throws IOException {
+
+        while (this.diskBytes > this.maxBytes && !this.entries.isEmpty()) {
+            final Iterator<Map.Entry<String, Entry>> eldest = this.entries.entrySet().iterator();
+            final Entry entry = eldest.next().getValue();
+            eldest.remove();
+
+            final Segment segment = this.segments.get(entry.segmentId);
+            segment.liveBytes -= entry.length;
+
+            if (segment != this.activeSegment) {
+                if (segment.liveBytes == 0) {
+                    this.deleteSegment(segment);
+                } else if (segment.liveBytes * 2 < segment.channel.size()) {
+                    this.compact(segment);
+                }
+            }
+        }
+
+        if (this.entries.isEmpty() && this.diskBytes > this.maxBytes) {
+            for (Segment segment : new ArrayList<>(this.segments.values())) {
+                this.deleteSegment(segment);
+            }
+
+            this.rollSegment();
+        }
+    }
+
+    /**
+     * 引数として渡されたセグメントファイルの有効なレコードを書き込み中のセグメントファイルへ移し、セグメントファイルを削除します。
+     *
+     * @param segment 圧縮するセグメント
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void compact(Segment segment) throws IOException {
+
+        final Map<String, Entry> liveEntries = new HashMap<>();
+
+        this.entries.forEach((key, entry) -> {
+            if (entry.segmentId == segment.id) {
+                liveEntries.put(key, entry);
+            }
+        });
+
+        final List<String> order = new ArrayList<>(this.entries.keySet());
+
+        for (Map.Entry<String, Entry> liveEntry : liveEntries.entrySet()) {
+            final Optional<String> resource = read(segment.channel, liveEntry.getValue(), liveEntry.getKey());
+            this.remove(liveEntry.getKey());
+
+            if (resource.isPresent()) {
+                this.append(liveEntry.getKey(),
+                        createRecord(liveEntry.getKey(), resource.get().getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        this.restoreOrder(order);
+        this.deleteSegment(segment);
+    }
+
+    /**
+     * 引数として渡されたキーの順序で索引の参照順を並べ替えます。
+     *
+     * @param order 最も長く参照されていない順に並べたキーのリスト
+     */
+    private void restoreOrder(List<String> order) {
+
+        final Map<String, Entry> reordered = new LinkedHashMap<>(this.entries.size());
+
+        order.forEach(key -> {
+            final Entry entry = this.entries.get(key);
+
+            if (entry != null) {
+                reordered.put(key, entry);
+            }
+        });
+
+        this.entries.clear();
+        this.entries.putAll(reordered);
+    }
+
+    /**
+     * 新しいセグメントファイルを作成し、書き込み中のセグメントとします。
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void rollSegment() throws IOException {
+
+        final int segmentId = this.segments.isEmpty() ? 0 : this.segments.lastKey() + 1;
+        final Segment segment = Segment.create(
+                this.directory.resolve(String.format(SEGMENT_FILE_NAME_FORMAT, segmentId)), segmentId,
+                this.engineVersion);
+
+        this.segments.put(segmentId, segment);
+        this.diskBytes += segment.channel.size();
+        this.activeSegment = segment;
+    }
+
+    /**
+     * 引数として渡されたセグメントファイルを削除します。
+     *
+     * @param segment 削除するセグメント
+     *
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void deleteSegment(Segment segment) throws IOException {
+        this.diskBytes -= segment.channel.size();
+        this.segments.remove(segment.id);
+        segment.channel.close();
+        Files.deleteIfExists(segment.path);
+    }
+
+    /**
+     * スレッドへの割り込みによって閉じられたセグメントファイルのチャネルを開き直します。
+     * <p>
+     * 割り込まれたスレッドが {@link FileChannel} で入出力を行うと、チャネルはそのチャネルを共有するすべてのスレッドに対して閉じられます。
+     * キャッシュがクローズされている場合と、破棄されたセグメントファイルのチャネルは開き直しません。
+     *
+     * @exception IllegalStateException キャッシュがクローズされている場合
+     * @exception UncheckedIOException セグメントファイルを開く処理で入出力エラーが発生した場合
+     */
+    private synchronized void reopenClosedSegments() {
+        this.checkOpen();
+
+        try {
+            for (Segment segment : this.segments.values()) {
+                if (!segment.channel.isOpen()) {
+                    segment.channel = FileChannel.open(segment.path, StandardOpenOption.READ,
+                            StandardOpenOption.WRITE);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * キャッシュがクローズされていないことを検証します。
+     *
+     * @exception IllegalStateException キャッシュがクローズされている場合
+     */
+    private void checkOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("The render cache has already been closed.");
+        }
+    }
+
+    /**
+     * 入出力エラーを無視してすべてのセグメントファイルを閉じます。
+     */
+    private void closeQuietly() {
+        this.closed = true;
+
+        this.segments.values().forEach(segment -> {
+            try {
+                segment.channel.close();
+            } catch (IOException e) {
+                // 後続のセグメントファイルを閉じるため例外は無視する
+            }
+        });
+    }
+
+    /**
+     * 索引のエントリーです。
+     */
+    private static final class Entry {
+
+        /**
+         * セグメント番号
+         */
+        private final int segmentId;
+
+        /**
+         * セグメントファイル内のレコードの開始位置
+         */
+        private final long offset;
+
+        /**
+         * レコードのサイズ
+         */
+        private final int length;
+
+        /**
+         * コンストラクタ
+         *
+         * @param segmentId セグメント番号
+         * @param offset    セグメントファイル内のレコードの開始位置
+         * @param length    レコードのサイズ
+         */
+        private Entry(int segmentId, long offset, int length) {
+            this.segmentId = segmentId;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * 追記専用のセグメントファイルです。
+     */
+    private static final class Segment {
+
+        /**
+         * セグメントファイル
+         */
+        private final Path path;
+
+        /**
+         * セグメント番号
+         */
+        private final int id;
+
+        /**
+         * ファイルチャネル
+         */
+        private FileChannel channel;
+
+        /**
+         * ヘッダー部のサイズ
+         */
+        private long headerBytes;
+
+        /**
+         * 有効なレコードの合計サイズ
+         */
+        private long liveBytes;
+
+        /**
+         * 最後に書き込みを完了したレコードの終了位置
+         */
+        private long endOffset;
+
+        /**
+         * コンストラクタ
+         *
+         * @param path    セグメントファイル
+         * @param id      セグメント番号
+         * @param channel ファイルチャネル
+         */
+        private Segment(Path path, int id, FileChannel channel) {
+            this.path = path;
+            this.id = id;
+            this.channel = channel;
+        }
+
+        /**
+         * 既存のセグメントファイルを開きます。
+         *
+         * @param path セグメントファイル
+         * @param id   セグメント番号
+         * @return セグメント
+         *
+         * @throws IOException 入出力エラーが発生した場合
+         */
+        private static Segment open(Path path, int id) throws IOException {
+
+            final Segment segment = new Segment(path, id,
+                    FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            segment.endOffset = segment.channel.size();
+
+            return segment;
+        }
+
+        /**
+         * 新しいセグメントファイルを作成し、ヘッダー部を書き込みます。
+         *
+         * @param path          セグメントファイル
+         * @param id            セグメント番号
+         * @param engineVersion エンジンのバージョン
+         * @return セグメント
+         *
+         * @throws IOException 入出力エラーが発生した場合
+         */
+        private static Segment create(Path path, int id, String engineVersion) throws IOException {
+
+            final Segment segment = new Segment(path, id, FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE));
+            final byte[] version = engineVersion.getBytes(StandardCharsets.UTF_8);
+            final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2 + version.length);
+
+            header.putInt(SEGMENT_MAGIC).putInt(version.length).put(version).flip();
+
+            while (header.hasRemaining()) {
+                segment.channel.write(header, header.position());
+            }
+
+            segment.headerBytes = segment.channel.size();
+            segment.endOffset = segment.headerBytes;
+
+            return segment;
+        }
+
+        /**
+         * ヘッダー部からエンジンのバージョンを読み込みます。
+         *
+         * @return エンジンのバージョン。ヘッダー部が破損している場合は {@code null}
+         *
+         * @throws IOException 入出力エラーが発生した場合
+         */
+        private String readEngineVersion() throws IOException {
+
+            final ByteBuffer prefix = ByteBuffer.allocate(Integer.BYTES * 2);
+
+            if (!readFully(this.channel, prefix, 0)) {
+                return null;
+            }
+
+            prefix.flip();
+
+            final int magic = prefix.getInt();
+            final int length = prefix.getInt();
+
+            if (magic != SEGMENT_MAGIC || length < 0 || Integer.BYTES * 2L + length > this.channel.size()) {
+                return null;
+            }
+
+            final ByteBuffer version = ByteBuffer.allocate(length);
+
+            if (!readFully(this.channel, version, Integer.BYTES * 2)) {
+                return null;
+            }
+
+            this.headerBytes = Integer.BYTES * 2L + length;
+
+            return new String(version.array(), StandardCharsets.UTF_8);
+        }
+    }
+}
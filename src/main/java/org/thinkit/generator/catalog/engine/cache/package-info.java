@@ -0,0 +1,4 @@
+/**
+ * カタログリソースの生成結果を保持するキャッシュクラスを管理するパッケージです。
+ */
+package org.thinkit.generator.catalog.engine.cache;
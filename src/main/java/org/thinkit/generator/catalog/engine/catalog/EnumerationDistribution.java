@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.catalog;
+
+import org.thinkit.api.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 合成したカタログ定義に含める列挙子の件数の分布を管理するカタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@RequiredArgsConstructor
+public enum EnumerationDistribution implements Catalog<EnumerationDistribution> {
+
+    /**
+     * 最小件数から最大件数までの一様分布
+     */
+    UNIFORM(0),
+
+    /**
+     * 大半のカタログ定義は最小件数の近くに集まり、少数のカタログ定義のみが最大件数に近づく裾の長い分布
+     */
+    SKEWED(1);
+
+    /**
+     * コード値
+     */
+    @Getter
+    private final int code;
+}
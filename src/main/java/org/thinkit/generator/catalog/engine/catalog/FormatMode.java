@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.catalog;
+
+import org.thinkit.api.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 生成されたカタログリソースの整形方式を管理するカタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@RequiredArgsConstructor
+public enum FormatMode implements Catalog<FormatMode> {
+
+    /**
+     * 整形を行わず組み立てたリソースをそのまま出力する
+     */
+    NONE(0),
+
+    /**
+     * 整形オプションごとに共有される google-java-format のフォーマッターで整形する
+     */
+    SHARED_GJF(1),
+
+    /**
+     * リソースごとに生成される google-java-format のフォーマッターで整形する
+     */
+    STRICT_GJF(2),
+
+    /**
+     * 構文解析を行わずに AOSP スタイルで整形する
+     */
+    NATIVE_AOSP(3),
+
+    /**
+     * 構文解析を行わずに AOSP スタイルで整形し、 google-java-format の整形結果と一致することを検証する
+     */
+    VERIFIED_AOSP(4);
+
+    /**
+     * コード値
+     */
+    @Getter
+    private final int code;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.catalog;
+
+import org.thinkit.api.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * カタログリソースの生成処理の段階を管理するカタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@RequiredArgsConstructor
+public enum GenerationStage implements Catalog<GenerationStage> {
+
+    /**
+     * 入力値の検証
+     */
+    VALIDATION(0),
+
+    /**
+     * 依存パッケージのコンテンツの参照
+     */
+    CONTENT_LOOKUP(1),
+
+    /**
+     * カタログクラスを構成するファクトリー製品の組み立て
+     */
+    ASSEMBLY(2),
+
+    /**
+     * 組み立てたファクトリー製品の文字列への出力
+     */
+    RENDERING(3),
+
+    /**
+     * 出力されたリソースの整形
+     */
+    FORMATTING(4);
+
+    /**
+     * コード値
+     */
+    @Getter
+    private final int code;
+}
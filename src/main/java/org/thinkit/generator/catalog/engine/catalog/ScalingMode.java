@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.catalog;
+
+import org.thinkit.api.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 列挙子の数が多いカタログクラスの生成方式を管理するカタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@RequiredArgsConstructor
+public enum ScalingMode implements Catalog<ScalingMode> {
+
+    /**
+     * 列挙子の数に関係なく、列挙子のコンストラクタ引数で値を保持する
+     */
+    NONE(0),
+
+    /**
+     * 列挙型の静的初期化子が JVM の上限を超える場合はサイドテーブルで値を保持し、1つの列挙型に収まらない場合は検証で拒否する
+     */
+    AUTO(1);
+
+    /**
+     * コード値
+     */
+    @Getter
+    private final int code;
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.content;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.thinkit.framework.content.ContentInvoker;
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.content.entity.CatalogPackage;
+import org.thinkit.generator.catalog.engine.content.entity.LombokPackage;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * カタログジェネレーターで使用するコンテンツを一度だけロードし、プロセス全体で共有するレジストリです。
+ * <p>
+ * {@link CatalogPackageLoader} および {@link LombokPackageLoader} によるコンテンツのロードはコンテンツファイルの読み込みと解析を伴うため、
+ * カタログ定義ごとに実行すると同一のファイルを繰り返し解析することになります。このクラスは初回参照時にすべてのカタログ種別の
+ * {@link CatalogPackage} と Lombok のパッケージをロードし、以降の参照ではロード済みの不変なオブジェクトを返却します。
+ * 参照時に新しいオブジェクトを生成することはありません。
+ * <p>
+ * このクラスはスレッドセーフです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+public final class CatalogContentRegistry {
+
+    /**
+     * カタログ種別ごとのカタログパッケージ
+     */
+    private final Map<CatalogType, CatalogPackage> catalogPackages;
+
+    /**
+     * Lombok のパッケージリスト
+     */
+    private final List<LombokPackage> lombokPackages;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private CatalogContentRegistry() {
+
+        final Map<CatalogType, CatalogPackage> catalogPackages = new EnumMap<>(CatalogType.class);
+
+        for (CatalogType catalogType : CatalogType.values()) {
+            catalogPackages.put(catalogType, ContentInvoker.of(CatalogPackageLoader.of(catalogType)).invoke());
+        }
+
+        this.catalogPackages = Collections.unmodifiableMap(catalogPackages);
+        this.lombokPackages = List.copyOf(ContentInvoker.of(LombokPackageLoader.newInstance()).invoke());
+    }
+
+    /**
+     * {@link CatalogContentRegistry} のシングルトンインスタンスを返却します。
+     *
+     * @return {@link CatalogContentRegistry} のシングルトンインスタンス
+     */
+    public static CatalogContentRegistry getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * {@link CatalogContentRegistry} のシングルトンインスタンスを保持するインナークラスです。<br>
+     * {@link CatalogContentRegistry} シングルトンインスタンスは初回参照時にメモリに読み込まれます。
+     */
+    private static class InstanceHolder {
+
+        /**
+         * シングルトンインスタンス
+         */
+        private static final CatalogContentRegistry INSTANCE = new CatalogContentRegistry();
+    }
+
+    /**
+     * 引数として渡されたカタログ種別に対応するカタログパッケージを返却します。
+     *
+     * @param catalogType カタログ種別
+     * @return カタログ種別に対応するカタログパッケージ
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public CatalogPackage getCatalogPackage(@NonNull CatalogType catalogType) {
+        return this.catalogPackages.get(catalogType);
+    }
+
+    /**
+     * Lombok のパッケージを格納した不変リストを返却します。
+     *
+     * @return Lombok のパッケージを格納した不変リスト
+     */
+    public List<LombokPackage> getLombokPackages() {
+        return this.lombokPackages;
+    }
+}
@@ -109,17 +109,24 @@ public final class CatalogPackageLoader implements Content<CatalogPackage> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * コンテンツはビルド時に {@code CatalogPackageContent} クラスへ変換されているため、実行時にコンテンツファイルの読み込みは行いません。
+     *
+     * @exception IllegalStateException カタログ種別に対応するコンテンツが存在しない場合
+     */
     @Override
     public CatalogPackage execute() {
 
-        final List<Map<String, String>> content = this.loadContent(this);
+        final String catalogPackage = CatalogPackageContent
+                .catalogPackage(String.valueOf(this.catalogType.getCode()));
 
-        if (content.isEmpty()) {
+        if (catalogPackage == null) {
             throw new IllegalStateException();
         }
 
-        return CatalogPackage.builder().packageName(content.get(0).get(ContentAttribute.CATALOG_PACKAGE.getString()))
-                .build();
+        return CatalogPackage.builder().packageName(catalogPackage).build();
     }
 
     @Override
@@ -71,14 +71,18 @@ public final class LombokPackageLoader implements Content<LombokPackageGroup> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * コンテンツはビルド時に {@code LombokPackageContent} クラスへ変換されているため、実行時にコンテンツファイルの読み込みは行いません。
+     */
     @Override
     public LombokPackageGroup execute() {
 
-        final LombokPackageGroup lombokPackageGroup = LombokPackageGroup.of(0);
+        final LombokPackageGroup lombokPackageGroup = LombokPackageGroup.of(LombokPackageContent.LOMBOK_PACKAGE.size());
 
-        this.loadContent(this).forEach(content -> {
-            lombokPackageGroup.add(LombokPackage.builder()
-                    .packageName(content.get(ContentAttribute.LOMBOK_PACKAGE.getString())).build());
+        LombokPackageContent.LOMBOK_PACKAGE.forEach(lombokPackage -> {
+            lombokPackageGroup.add(LombokPackage.builder().packageName(lombokPackage).build());
         });
 
         return lombokPackageGroup;
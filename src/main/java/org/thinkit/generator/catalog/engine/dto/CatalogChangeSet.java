@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 差分生成の結果を管理するデータクラスです。
+ * <p>
+ * カタログは {@code パッケージ名.クラス名} の完全修飾名で識別されます。 {@link #getFingerprints()}
+ * で取得できるフィンガープリントを永続化し、次回の差分生成時に前回のフィンガープリントとして渡してください。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CatalogChangeSet implements Serializable {
+
+    /**
+     * シリアルバージョンUID
+     */
+    private static final long serialVersionUID = -3164810236954117297L;
+
+    /**
+     * 新規追加または変更されたため再生成されたカタログリソースグループ
+     */
+    @Getter
+    @NonNull
+    private CatalogResourceGroup changedCatalogResources;
+
+    /**
+     * 変更がないため再生成されなかったカタログの完全修飾名リスト
+     */
+    @Getter
+    @NonNull
+    private List<String> unchangedCatalogs;
+
+    /**
+     * 前回の生成から削除されたカタログの完全修飾名リスト
+     */
+    @Getter
+    @NonNull
+    private List<String> removedCatalogs;
+
+    /**
+     * 今回の生成対象となったカタログの完全修飾名とフィンガープリントのマップ
+     */
+    @Getter
+    @NonNull
+    private Map<String, String> fingerprints;
+}
@@ -22,6 +22,7 @@ import org.thinkit.framework.envali.annotation.RequireNonEmpty;
 import org.thinkit.framework.envali.annotation.RequireNonNull;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
 import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.ScalingMode;
 import org.thinkit.generator.common.duke.catalog.LombokState;
 
 import lombok.AccessLevel;
@@ -80,4 +81,38 @@ public final class CatalogMeta implements ValidatableEntity, Serializable {
     @RequireNonNull
     @Builder.Default
     private LombokState lombokState = LombokState.NONE;
+
+    /**
+     * コード値から列挙子を取得する {@code fromCode(int)} メソッドを生成するか否か
+     */
+    @Getter
+    @Builder.Default
+    private boolean codeLookup = false;
+
+    /**
+     * タグから列挙子を取得する {@code fromTag} メソッドを生成するか否か
+     * <p>
+     * カタログ種別が {@link CatalogType#BI_CATALOG} の場合にのみ有効です。
+     */
+    @Getter
+    @Builder.Default
+    private boolean tagLookup = false;
+
+    /**
+     * タグをプリミティブ型のフィールドで保持するか否か
+     * <p>
+     * カタログ種別が {@link CatalogType#BI_CATALOG} で、タグのデータ型が {@code Character} 、 {@code Integer} または
+     * {@code Long} の場合にのみ有効です。
+     */
+    @Getter
+    @Builder.Default
+    private boolean primitiveTag = false;
+
+    /**
+     * 列挙子の数が多いカタログクラスの生成方式
+     */
+    @Getter
+    @RequireNonNull
+    @Builder.Default
+    private ScalingMode scalingMode = ScalingMode.NONE;
 }
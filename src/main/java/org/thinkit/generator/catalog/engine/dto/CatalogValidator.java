@@ -0,0 +1,405 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.dto;
+
+import java.util.List;
+
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.generator.catalog.engine.catalog.ScalingMode;
+
+import lombok.NonNull;
+
+/**
+ * このパッケージのDTOクラスの入力値をリフレクションを使用せずに検証するクラスです。
+ * <p>
+ * 各DTOクラスのフィールドに設定された {@code @RequireNonNull} 、 {@code @RequireNonEmpty} 、 {@code @RequirePositive} および
+ * {@code @NestedEntity} と同一の検証を、DTOクラスごとに特化した処理でゲッターから取得した値に対して行います。
+ * 最初に検出した不正な値で検証を終了し、不正な値までのパスを含むメッセージで {@link IllegalArgumentException} を送出します。
+ * パスの文字列は不正な値を検出した場合のみ組み立てられるため、検証に成功した場合は列挙子の件数に関係なくオブジェクトを生成しません。
+ * <p>
+ * 生成方式が {@link ScalingMode#AUTO} のカタログ定義は、1つの列挙型に宣言できる {@value #MAX_SCALED_CATALOG_ENUMERATIONS}
+ * 件を超える列挙子を保持する場合も不正な値として扱います。
+ * <p>
+ * DTOクラスへ検証用のアノテーションを追加または変更した場合は、このクラスの検証処理も同様に変更してください。
+ *
+ * <pre>
+ * 不正な値を検出した場合のメッセージ例:
+ * <code>
+ * catalogMatrix.catalogDefinitions[12].catalogEnumerations[345].literal must not be empty.
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class CatalogValidator {
+
+    /**
+     * 生成方式が {@link ScalingMode#AUTO} のカタログ定義が保持できる列挙子の最大数
+     * <p>
+     * 列挙子は列挙型の静的初期化子で生成され、コンストラクタ引数を持たない列挙子1件あたり16バイトのバイトコードが必要になるため、
+     * JVM がメソッドごとに許容する65535バイトを超えない件数に余裕を持たせた値です。
+     */
+    public static final int MAX_SCALED_CATALOG_ENUMERATIONS = 4000;
+
+    /**
+     * 独立して検証したカタログ定義を表す番号
+     */
+    private static final int ROOT = -1;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private CatalogValidator() {
+    }
+
+    /**
+     * 引数として渡されたエンティティの種類に応じた検証を行います。
+     *
+     * @param entity 検証対象のエンティティ
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException エンティティに不正な値が含まれる場合、またはこのパッケージのDTOクラス以外が渡された場合
+     */
+    public static void validate(@NonNull ValidatableEntity entity) {
+        if (entity instanceof CatalogMatrix) {
+            validate((CatalogMatrix) entity);
+        } else if (entity instanceof CatalogDefinition) {
+            validate((CatalogDefinition) entity);
+        } else if (entity instanceof CatalogCreator) {
+            validate((CatalogCreator) entity);
+        } else {
+            throw new IllegalArgumentException(
+                    String.format("Unsupported entity type: %s.", entity.getClass().getName()));
+        }
+    }
+
+    /**
+     * 引数として渡されたカタログマトリクスと、格納されたすべてのカタログ定義を検証します。
+     *
+     * @param catalogMatrix カタログマトリクス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException カタログマトリクスに不正な値が含まれる場合
+     */
+    public static void validate(@NonNull CatalogMatrix catalogMatrix) {
+
+        validateMatrixCreator(catalogMatrix.getCatalogCreator());
+
+        final List<CatalogDefinition> catalogDefinitions = catalogMatrix.getCatalogDefinitions();
+
+        final int size = catalogDefinitions == null ? 0 : catalogDefinitions.size();
+
+        validateMatrixDefinitionCount(size);
+
+        for (int i = 0; i < size; i++) {
+            validateMatrixDefinition(catalogDefinitions.get(i), i);
+        }
+    }
+
+    /**
+     * 引数として渡されたカタログ作成者をカタログマトリクスのカタログ作成者として検証します。
+     * <p>
+     * カタログ定義を1件ずつ処理する場合に、 {@link #validate(CatalogMatrix)} と同一の規則およびパスで検証するために使用します。
+     *
+     * @param catalogCreator カタログ作成者
+     *
+     * @exception IllegalArgumentException カタログ作成者が {@code null} の場合、またはカタログ作成者に不正な値が含まれる場合
+     */
+    public static void validateMatrixCreator(CatalogCreator catalogCreator) {
+
+        if (catalogCreator == null) {
+            throw invalid("catalogMatrix.catalogCreator", "must not be null");
+        }
+
+        validate(catalogCreator, "catalogMatrix.catalogCreator");
+    }
+
+    /**
+     * 引数として渡されたカタログ定義をカタログマトリクスの {@code definitionIndex} 番目のカタログ定義として検証します。
+     * <p>
+     * カタログ定義を1件ずつ処理する場合に、 {@link #validate(CatalogMatrix)} と同一の規則およびパスで検証するために使用します。
+     *
+     * @param catalogDefinition カタログ定義
+     * @param definitionIndex   カタログマトリクスにおけるカタログ定義の番号
+     *
+     * @exception IllegalArgumentException カタログ定義が {@code null} の場合、カタログ定義に不正な値が含まれる場合、
+     *                                     または {@code definitionIndex} が負数の場合
+     */
+    public static void validateMatrixDefinition(CatalogDefinition catalogDefinition, int definitionIndex) {
+
+        if (definitionIndex < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Definition index must not be negative but was %d.", definitionIndex));
+        }
+
+        if (catalogDefinition == null) {
+            throw invalid(definitionPath(definitionIndex), "must not be null");
+        }
+
+        validate(catalogDefinition, definitionIndex);
+    }
+
+    /**
+     * 引数として渡された件数をカタログマトリクスが保持するカタログ定義の件数として検証します。
+     * <p>
+     * カタログ定義を1件ずつ処理する場合に、すべてのカタログ定義を処理した後で {@link #validate(CatalogMatrix)}
+     * と同一の規則およびパスで検証するために使用します。
+     *
+     * @param definitionCount カタログ定義の件数
+     *
+     * @exception IllegalArgumentException 件数が {@code 1} 未満の場合
+     */
+    public static void validateMatrixDefinitionCount(long definitionCount) {
+        if (definitionCount < 1L) {
+            throw invalid("catalogMatrix.catalogDefinitions", "must not be empty");
+        }
+    }
+
+    /**
+     * 引数として渡されたカタログ作成者を検証します。
+     *
+     * @param catalogCreator カタログ作成者
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException カタログ作成者に不正な値が含まれる場合
+     */
+    public static void validate(@NonNull CatalogCreator catalogCreator) {
+        validate(catalogCreator, "catalogCreator");
+    }
+
+    /**
+     * 引数として渡されたカタログ定義を検証します。
+     *
+     * @param catalogDefinition カタログ定義
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException カタログ定義に不正な値が含まれる場合
+     */
+    public static void validate(@NonNull CatalogDefinition catalogDefinition) {
+        validate(catalogDefinition, ROOT);
+    }
+
+    /**
+     * 引数として渡されたカタログ作成者を検証します。
+     *
+     * @param catalogCreator カタログ作成者
+     * @param path           カタログ作成者のパス
+     *
+     * @exception IllegalArgumentException カタログ作成者に不正な値が含まれる場合
+     */
+    private static void validate(CatalogCreator catalogCreator, String path) {
+        if (isEmpty(catalogCreator.getCreator())) {
+            throw invalid(path + ".creator", "must not be empty");
+        }
+    }
+
+    /**
+     * 引数として渡されたカタログ定義と、格納されたカタログメタ、列挙子およびフィールドを検証します。
+     *
+     * @param catalogDefinition カタログ定義
+     * @param definitionIndex   カタログマトリクスにおけるカタログ定義の番号 ({@link #ROOT} の場合は独立したカタログ定義)
+     *
+     * @exception IllegalArgumentException カタログ定義に不正な値が含まれる場合
+     */
+    private static void validate(CatalogDefinition catalogDefinition, int definitionIndex) {
+
+        final CatalogMeta catalogMeta = catalogDefinition.getCatalogMeta();
+
+        if (catalogMeta == null) {
+            throw invalid(definitionPath(definitionIndex) + ".catalogMeta", "must not be null");
+        }
+
+        validate(catalogMeta, definitionIndex);
+
+        if (isEmpty(catalogDefinition.getPackageName())) {
+            throw invalid(definitionPath(definitionIndex) + ".packageName", "must not be empty");
+        }
+
+        if (isEmpty(catalogDefinition.getClassName())) {
+            throw invalid(definitionPath(definitionIndex) + ".className", "must not be empty");
+        }
+
+        if (catalogDefinition.getTagDataType() == null) {
+            throw invalid(definitionPath(definitionIndex) + ".tagDataType", "must not be null");
+        }
+
+        final List<CatalogEnumeration> catalogEnumerations = catalogDefinition.getCatalogEnumerations();
+
+        if (catalogEnumerations == null || catalogEnumerations.isEmpty()) {
+            throw invalid(definitionPath(definitionIndex) + ".catalogEnumerations", "must not be empty");
+        }
+
+        if (catalogMeta.getScalingMode() == ScalingMode.AUTO
+                && catalogEnumerations.size() > MAX_SCALED_CATALOG_ENUMERATIONS) {
+            throw invalid(definitionPath(definitionIndex) + ".catalogEnumerations", String.format(
+                    "must not have more than %d elements because an enum cannot declare more constants, but had %d. "
+                            + "Split the catalog into multiple definitions",
+                    MAX_SCALED_CATALOG_ENUMERATIONS, catalogEnumerations.size()));
+        }
+
+        for (int i = 0, size = catalogEnumerations.size(); i < size; i++) {
+            validate(catalogEnumerations.get(i), definitionIndex, i);
+        }
+
+        final List<CatalogField> catalogFields = catalogDefinition.getCatalogFields();
+
+        if (catalogFields == null || catalogFields.isEmpty()) {
+            throw invalid(definitionPath(definitionIndex) + ".catalogFields", "must not be empty");
+        }
+
+        for (int i = 0, size = catalogFields.size(); i < size; i++) {
+            validate(catalogFields.get(i), definitionIndex, i);
+        }
+    }
+
+    /**
+     * 引数として渡されたカタログメタを検証します。
+     *
+     * @param catalogMeta     カタログメタ
+     * @param definitionIndex カタログメタを保持するカタログ定義の番号
+     *
+     * @exception IllegalArgumentException カタログメタに不正な値が含まれる場合
+     */
+    private static void validate(CatalogMeta catalogMeta, int definitionIndex) {
+
+        if (isEmpty(catalogMeta.getVersion())) {
+            throw invalid(definitionPath(definitionIndex) + ".catalogMeta.version", "must not be empty");
+        }
+
+        if (catalogMeta.getCatalogType() == null) {
+            throw invalid(definitionPath(definitionIndex) + ".catalogMeta.catalogType", "must not be null");
+        }
+
+        if (catalogMeta.getDependentPackages() == null) {
+            throw invalid(definitionPath(definitionIndex) + ".catalogMeta.dependentPackages", "must not be null");
+        }
+
+        if (catalogMeta.getLombokState() == null) {
+            throw invalid(definitionPath(definitionIndex) + ".catalogMeta.lombokState", "must not be null");
+        }
+
+        if (catalogMeta.getScalingMode() == null) {
+            throw invalid(definitionPath(definitionIndex) + ".catalogMeta.scalingMode", "must not be null");
+        }
+    }
+
+    /**
+     * 引数として渡された列挙子を検証します。
+     *
+     * @param catalogEnumeration 列挙子
+     * @param definitionIndex    列挙子を保持するカタログ定義の番号
+     * @param index              カタログ定義における列挙子の番号
+     *
+     * @exception IllegalArgumentException 列挙子に不正な値が含まれる場合
+     */
+    private static void validate(CatalogEnumeration catalogEnumeration, int definitionIndex, int index) {
+
+        if (catalogEnumeration == null) {
+            throw invalid(elementPath(definitionIndex, "catalogEnumerations", index), "must not be null");
+        }
+
+        if (isEmpty(catalogEnumeration.getLiteral())) {
+            throw invalid(elementPath(definitionIndex, "catalogEnumerations", index) + ".literal",
+                    "must not be empty");
+        }
+
+        if (catalogEnumeration.getCode() < 0) {
+            throw invalid(elementPath(definitionIndex, "catalogEnumerations", index) + ".code",
+                    String.format("must not be negative but was %d", catalogEnumeration.getCode()));
+        }
+
+        if (catalogEnumeration.getTag() == null) {
+            throw invalid(elementPath(definitionIndex, "catalogEnumerations", index) + ".tag", "must not be null");
+        }
+
+        if (isEmpty(catalogEnumeration.getDescription())) {
+            throw invalid(elementPath(definitionIndex, "catalogEnumerations", index) + ".description",
+                    "must not be empty");
+        }
+    }
+
+    /**
+     * 引数として渡されたフィールドを検証します。
+     *
+     * @param catalogField    フィールド
+     * @param definitionIndex フィールドを保持するカタログ定義の番号
+     * @param index           カタログ定義におけるフィールドの番号
+     *
+     * @exception IllegalArgumentException フィールドに不正な値が含まれる場合
+     */
+    private static void validate(CatalogField catalogField, int definitionIndex, int index) {
+
+        if (catalogField == null) {
+            throw invalid(elementPath(definitionIndex, "catalogFields", index), "must not be null");
+        }
+
+        if (isEmpty(catalogField.getVariableName())) {
+            throw invalid(elementPath(definitionIndex, "catalogFields", index) + ".variableName", "must not be empty");
+        }
+
+        if (isEmpty(catalogField.getDataType())) {
+            throw invalid(elementPath(definitionIndex, "catalogFields", index) + ".dataType", "must not be empty");
+        }
+
+        if (isEmpty(catalogField.getDescription())) {
+            throw invalid(elementPath(definitionIndex, "catalogFields", index) + ".description", "must not be empty");
+        }
+    }
+
+    /**
+     * 引数として渡された文字列が {@code null} または空文字列か判定します。
+     *
+     * @param value 文字列
+     * @return {@code null} または空文字列の場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    /**
+     * 引数として渡された番号のカタログ定義のパスを返却します。
+     *
+     * @param definitionIndex カタログ定義の番号 ({@link #ROOT} の場合は独立したカタログ定義)
+     * @return カタログ定義のパス
+     */
+    private static String definitionPath(int definitionIndex) {
+        return definitionIndex == ROOT ? "catalogDefinition"
+                : String.format("catalogMatrix.catalogDefinitions[%d]", definitionIndex);
+    }
+
+    /**
+     * 引数として渡されたカタログ定義が保持するリストの要素のパスを返却します。
+     *
+     * @param definitionIndex カタログ定義の番号
+     * @param listName        リストのフィールド名
+     * @param index           リストにおける要素の番号
+     * @return 要素のパス
+     */
+    private static String elementPath(int definitionIndex, String listName, int index) {
+        return String.format("%s.%s[%d]", definitionPath(definitionIndex), listName, index);
+    }
+
+    /**
+     * 引数として渡されたパスの値が不正であることを表す例外を生成します。
+     *
+     * @param path   不正な値のパス
+     * @param reason 不正な理由
+     * @return 不正な値を表す例外
+     */
+    private static IllegalArgumentException invalid(String path, String reason) {
+        return new IllegalArgumentException(String.format("%s %s.", path, reason));
+    }
+}
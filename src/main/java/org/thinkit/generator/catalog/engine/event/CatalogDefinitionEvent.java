@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.event;
+
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogMeta;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import lombok.NonNull;
+import lombok.Setter;
+
+/**
+ * カタログ定義ごとの処理を Java Flight Recorder へ記録するイベントの抽象クラスです。
+ * <p>
+ * 処理対象のカタログ定義のクラス名、パッケージ名、列挙子の数、フィールドの数、カタログ種別、Lombok適用状態および出力サイズを記録します。
+ * イベントの値は {@link #shouldCommit()} が {@code true} を返却した場合のみ設定してください。記録が無効な場合にイベントの値を算出する処理が実行されず、
+ * 生成されたイベントは JIT コンパイラによって除去されるため、記録が無効な場合の処理コストはほぼ発生しません。
+ *
+ * <pre>
+ * 記録の操作例:
+ * <code>
+ * CatalogDefinitionRenderEvent event = new CatalogDefinitionRenderEvent();
+ * event.begin();
+ * // do something
+ * event.end();
+ *
+ * if (event.shouldCommit()) {
+ *     event.setCatalogDefinition(catalogDefinition);
+ *     event.commit();
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@Category(CatalogDefinitionEvent.CATEGORY)
+@StackTrace(false)
+public abstract class CatalogDefinitionEvent extends Event {
+
+    /**
+     * イベントのカテゴリー
+     */
+    static final String CATEGORY = "Catalog Generator";
+
+    /**
+     * クラス名
+     */
+    @Label("Class Name")
+    private String className;
+
+    /**
+     * パッケージ名
+     */
+    @Label("Package Name")
+    private String packageName;
+
+    /**
+     * 列挙子の数
+     */
+    @Label("Enumeration Count")
+    private int enumerationCount;
+
+    /**
+     * フィールドの数
+     */
+    @Label("Field Count")
+    private int fieldCount;
+
+    /**
+     * カタログ種別
+     */
+    @Label("Catalog Type")
+    private String catalogType;
+
+    /**
+     * Lombok適用状態
+     */
+    @Label("Lombok State")
+    private String lombokState;
+
+    /**
+     * 出力されたリソースを UTF-8 で符号化した場合のバイト数
+     */
+    @Setter
+    @Label("Output Size")
+    @DataAmount(DataAmount.BYTES)
+    private long outputSize;
+
+    /**
+     * 引数として渡されたカタログ定義の情報をイベントへ設定します。
+     *
+     * @param catalogDefinition カタログ定義
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public void setCatalogDefinition(@NonNull CatalogDefinition catalogDefinition) {
+
+        final CatalogMeta catalogMeta = catalogDefinition.getCatalogMeta();
+
+        this.className = catalogDefinition.getClassName();
+        this.packageName = catalogDefinition.getPackageName();
+        this.enumerationCount = catalogDefinition.getCatalogEnumerations().size();
+        this.fieldCount = catalogDefinition.getCatalogFields().size();
+        this.catalogType = catalogMeta.getCatalogType().name();
+        this.lombokState = catalogMeta.getLombokState().name();
+    }
+}
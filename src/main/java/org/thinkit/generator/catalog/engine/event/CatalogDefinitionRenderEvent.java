@@ -0,0 +1,33 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * カタログ定義ごとのリソースの生成を Java Flight Recorder へ記録するイベントです。
+ * <p>
+ * 永続キャッシュの参照からリソースの整形までの処理時間を記録します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@Name("org.thinkit.generator.catalog.CatalogDefinitionRender")
+@Label("Catalog Definition Render")
+@Description("Generates the resource of a catalog definition")
+public final class CatalogDefinitionRenderEvent extends CatalogDefinitionEvent {
+}
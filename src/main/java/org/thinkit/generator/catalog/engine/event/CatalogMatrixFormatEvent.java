@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * カタログマトリクス全体の処理を Java Flight Recorder へ記録するイベントです。
+ * <p>
+ * イベントの値は {@link #shouldCommit()} が {@code true} を返却した場合のみ設定してください。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@Name("org.thinkit.generator.catalog.CatalogMatrixFormat")
+@Label("Catalog Matrix Format")
+@Category(CatalogDefinitionEvent.CATEGORY)
+@Description("Generates the resources of all catalog definitions in a catalog matrix")
+@StackTrace(false)
+public final class CatalogMatrixFormatEvent extends Event {
+
+    /**
+     * カタログ定義の数
+     */
+    @Setter
+    @Label("Definition Count")
+    private int definitionCount;
+
+    /**
+     * すべてのカタログ定義の列挙子の数の合計
+     */
+    @Setter
+    @Label("Enumeration Count")
+    private long enumerationCount;
+
+    /**
+     * 整形方式
+     */
+    @Setter
+    @Label("Format Mode")
+    private String formatMode;
+
+    /**
+     * 並列度
+     */
+    @Setter
+    @Label("Parallelism")
+    private int parallelism;
+
+    /**
+     * 出力されたリソースを UTF-8 で符号化した場合のバイト数の合計 (シンクへ書き込む場合は {@code 0})
+     */
+    @Setter
+    @Label("Output Size")
+    @DataAmount(DataAmount.BYTES)
+    private long outputSize;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.event;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 組み立てられたカタログリソースの整形を Java Flight Recorder へ記録するイベントです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@Name("org.thinkit.generator.catalog.CatalogSourceFormat")
+@Label("Catalog Source Format")
+@Description("Formats the assembled resource of a catalog definition")
+public final class CatalogSourceFormatEvent extends CatalogDefinitionEvent {
+
+    /**
+     * 整形方式
+     */
+    @Setter
+    @Label("Format Mode")
+    private String formatMode;
+
+    /**
+     * 整形前のリソースを UTF-8 で符号化した場合のバイト数
+     */
+    @Setter
+    @Label("Input Size")
+    @DataAmount(DataAmount.BYTES)
+    private long inputSize;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 依存パッケージのコンテンツの参照を Java Flight Recorder へ記録するイベントです。
+ * <p>
+ * コンテンツの参照はカタログ定義の形状ごとにレンダープランを生成する際に1度だけ実行されるため、クラス名およびパッケージ名は記録しません。
+ * イベントの値は {@link #shouldCommit()} が {@code true} を返却した場合のみ設定してください。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@Name("org.thinkit.generator.catalog.ContentLookup")
+@Label("Content Lookup")
+@Category(CatalogDefinitionEvent.CATEGORY)
+@Description("Looks up the dependent packages of a catalog shape from the loaded contents")
+@StackTrace(false)
+public final class ContentLookupEvent extends Event {
+
+    /**
+     * カタログ種別
+     */
+    @Setter
+    @Label("Catalog Type")
+    private String catalogType;
+
+    /**
+     * Lombok適用状態
+     */
+    @Setter
+    @Label("Lombok State")
+    private String lombokState;
+
+    /**
+     * 参照されたパッケージの数
+     */
+    @Setter
+    @Label("Package Count")
+    private int packageCount;
+}
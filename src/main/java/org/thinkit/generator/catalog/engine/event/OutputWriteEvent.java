@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.event;
+
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.NonNull;
+import lombok.Setter;
+
+/**
+ * カタログリソースの出力先への書き込みを Java Flight Recorder へ記録するイベントです。
+ * <p>
+ * イベントの値は {@link #shouldCommit()} が {@code true} を返却した場合のみ設定してください。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@Name("org.thinkit.generator.catalog.OutputWrite")
+@Label("Output Write")
+@Category(CatalogDefinitionEvent.CATEGORY)
+@Description("Writes a catalog resource to a sink")
+@StackTrace(false)
+public final class OutputWriteEvent extends Event {
+
+    /**
+     * 書き込み先のシンク
+     */
+    @Setter
+    @Label("Sink")
+    private String sink;
+
+    /**
+     * クラス名
+     */
+    @Label("Class Name")
+    private String className;
+
+    /**
+     * パッケージ名
+     */
+    @Label("Package Name")
+    private String packageName;
+
+    /**
+     * 書き込んだリソースのバイト数
+     */
+    @Setter
+    @Label("Output Size")
+    @DataAmount(DataAmount.BYTES)
+    private long outputSize;
+
+    /**
+     * 内容が一致したため書き込みを省略したか否か
+     */
+    @Setter
+    @Label("Skipped")
+    private boolean skipped;
+
+    /**
+     * 引数として渡されたカタログリソースのクラス名とパッケージ名をイベントへ設定します。
+     *
+     * @param catalogResource カタログリソース
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public void setCatalogResource(@NonNull CatalogResource catalogResource) {
+        this.className = catalogResource.getClassName();
+        this.packageName = catalogResource.getPackageName();
+    }
+}
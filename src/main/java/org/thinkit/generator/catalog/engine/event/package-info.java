@@ -0,0 +1,4 @@
+/**
+ * カタログリソースの生成処理を Java Flight Recorder へ記録するイベントクラスを管理するパッケージです。
+ */
+package org.thinkit.generator.catalog.engine.event;
@@ -33,7 +33,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogAnnotation extends Annotation {
+public final class CatalogAnnotation extends Annotation implements CatalogRenderable {
 
     /**
      * コンストラクタ
@@ -60,23 +60,29 @@ public final class CatalogAnnotation extends Annotation {
 
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append(super.getAnnotationPattern().getTag());
 
         final List<AnnotationParameter> annotationParameters = super.getAnnotationParameters();
 
         if (annotationParameters == null) {
-            return super.getAnnotationPattern().getTag();
+            return;
         }
 
-        final StringBuilder parameters = new StringBuilder();
-        final String comma = Delimiter.COMMA.getTag();
+        resource.append('(');
 
-        annotationParameters.forEach(parameter -> {
-            parameters.append(parameter.createResource());
-            parameters.append(comma);
-        });
+        for (int i = 0, size = annotationParameters.size(); i < size; i++) {
+            if (i > 0) {
+                resource.append(Delimiter.COMMA.getTag());
+            }
 
-        parameters.setLength(parameters.length() - comma.length());
+            ((CatalogRenderable) annotationParameters.get(i)).render(resource);
+        }
 
-        return String.format("%s(%s)", super.getAnnotationPattern().getTag(), parameters.toString());
+        resource.append(')');
     }
 }
@@ -28,7 +28,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogAnnotationParameter extends AnnotationParameter {
+public final class CatalogAnnotationParameter extends AnnotationParameter implements CatalogRenderable {
 
     /**
      * コンストラクタ
@@ -55,6 +55,11 @@ public final class CatalogAnnotationParameter extends AnnotationParameter {
 
     @Override
     public String createResource() {
-        return String.format("%s = %s", super.getFieldName(), super.createParameter());
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append(super.getFieldName()).append(" = ").append(super.createParameter());
     }
 }
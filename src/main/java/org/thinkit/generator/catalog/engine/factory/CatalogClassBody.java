@@ -14,6 +14,9 @@
 
 package org.thinkit.generator.catalog.engine.factory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.thinkit.common.catalog.Brace;
 import org.thinkit.common.catalog.Delimiter;
 import org.thinkit.common.catalog.Indentation;
@@ -32,13 +35,23 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogClassBody extends ClassBody {
+public final class CatalogClassBody extends ClassBody implements CatalogRenderable {
 
     /**
      * 改行
      */
     private static final String RETURN = Indentation.RETURN.getTag();
 
+    /**
+     * プリミティブ型のタグのアクセサ ({@code null} の場合は生成しない)
+     */
+    private CatalogTagAccessor tagAccessor;
+
+    /**
+     * クラスボディの末尾に出力するメンバーリスト
+     */
+    private final List<CatalogMember> members = new ArrayList<>(0);
+
     /**
      * コンストラクタ
      *
@@ -64,15 +77,45 @@ public final class CatalogClassBody extends ClassBody {
         return new CatalogClassBody(classDescription, resourceName);
     }
 
+    /**
+     * プリミティブ型のタグのアクセサを追加します。
+     * <p>
+     * 追加されたアクセサはメソッドの後に出力されます。
+     *
+     * @param tagAccessor プリミティブ型のタグのアクセサ
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public ClassBody add(@NonNull CatalogTagAccessor tagAccessor) {
+        this.tagAccessor = tagAccessor;
+        return this;
+    }
+
+    /**
+     * クラスボディの末尾に出力するメンバーを追加します。
+     * <p>
+     * 追加されたメンバーは追加された順序でクラスボディの末尾に出力されます。
+     *
+     * @param member クラスボディの末尾に出力するメンバー
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public ClassBody add(@NonNull CatalogMember member) {
+        this.members.add(member);
+        return this;
+    }
+
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
 
-        final StringBuilder classBody = new StringBuilder();
-
+    @Override
+    public void render(@NonNull StringBuilder classBody) {
         this.createClassDescription(classBody);
         this.createClassBody(classBody);
-
-        return classBody.toString();
     }
 
     /**
@@ -83,7 +126,7 @@ public final class CatalogClassBody extends ClassBody {
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private void createClassDescription(@NonNull StringBuilder classBody) {
-        classBody.append(super.getClassDescription().createResource());
+        ((CatalogRenderable) super.getClassDescription()).render(classBody);
         classBody.append(RETURN);
     }
 
@@ -98,13 +141,14 @@ public final class CatalogClassBody extends ClassBody {
 
         if (this.isAppliedLombok()) {
             super.getAnnotations().forEach(annotation -> {
-                classBody.append(annotation.createResource());
+                ((CatalogRenderable) annotation).render(classBody);
                 classBody.append(RETURN);
             });
         }
 
-        classBody.append(String.format("public enum %s implements %s {", super.getResourceName(),
-                super.getInterfaces().get(0).createResource()));
+        classBody.append("public enum ").append(super.getResourceName()).append(" implements ");
+        ((CatalogRenderable) super.getInterfaces().get(0)).render(classBody);
+        classBody.append(" {");
         classBody.append(RETURN).append(RETURN);
 
         this.createEnumeration(classBody);
@@ -115,6 +159,16 @@ public final class CatalogClassBody extends ClassBody {
             this.createMethod(classBody);
         }
 
+        if (this.tagAccessor != null) {
+            classBody.append(RETURN);
+            this.tagAccessor.render(classBody);
+        }
+
+        this.members.forEach(member -> {
+            classBody.append(RETURN);
+            member.render(classBody);
+        });
+
         classBody.append(Brace.END.getTag());
         classBody.append(RETURN);
     }
@@ -128,13 +182,18 @@ public final class CatalogClassBody extends ClassBody {
      */
     private void createEnumeration(@NonNull StringBuilder classBody) {
         super.getEnumerations().forEach(enumeration -> {
-            classBody.append(String.format("%s,", enumeration.createResource()));
+            ((CatalogRenderable) enumeration).render(classBody);
+            classBody.append(Delimiter.COMMA.getTag());
             classBody.append(RETURN).append(RETURN);
         });
 
         classBody.setLength(classBody.length() - (1 + RETURN.length() * 2));
         classBody.append(Delimiter.SEMICOLON.getTag());
-        classBody.append(RETURN).append(RETURN);
+        classBody.append(RETURN);
+
+        if (!super.getFields().isEmpty()) {
+            classBody.append(RETURN);
+        }
     }
 
     /**
@@ -145,8 +204,13 @@ public final class CatalogClassBody extends ClassBody {
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private void createField(@NonNull StringBuilder classBody) {
+
+        if (super.getFields().isEmpty()) {
+            return;
+        }
+
         super.getFields().forEach(field -> {
-            classBody.append(field.createResource());
+            ((CatalogRenderable) field).render(classBody);
             classBody.append(RETURN).append(RETURN);
         });
 
@@ -161,8 +225,13 @@ public final class CatalogClassBody extends ClassBody {
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private void createConstructor(@NonNull StringBuilder classBody) {
+
+        if (super.getConstructors().isEmpty()) {
+            return;
+        }
+
         super.getConstructors().forEach(constructor -> {
-            classBody.append(constructor.createResource());
+            ((CatalogRenderable) constructor).render(classBody);
             classBody.append(RETURN).append(RETURN);
         });
 
@@ -177,8 +246,13 @@ public final class CatalogClassBody extends ClassBody {
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private void createMethod(@NonNull StringBuilder classBody) {
+
+        if (super.getMethods().isEmpty()) {
+            return;
+        }
+
         super.getMethods().forEach(method -> {
-            classBody.append(method.createResource());
+            ((CatalogRenderable) method).render(classBody);
             classBody.append(RETURN).append(RETURN);
         });
 
@@ -30,7 +30,20 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogClassDescription extends ClassDescription {
+public final class CatalogClassDescription extends ClassDescription implements CatalogRenderable {
+
+    /**
+     * 作成者タグまでのクラスJavadoc
+     */
+    private static final String DESCRIPTION = """
+            /**
+             * This catalog class was created by Catalog Generator.
+             * <p>
+             * You may learn more about the Catalog API at
+             *
+             *     https://github.com/myConsciousness/catalog-api
+             *
+             * @author\s""";
 
     /**
      * 引数として渡された情報を基に {@link CatalogClassDescription} クラスの新しいインスタンスを生成し返却します。
@@ -59,16 +72,12 @@ public final class CatalogClassDescription extends ClassDescription {
 
     @Override
     public String createResource() {
-        return """
-                /**
-                 * This catalog class was created by Catalog Generator.
-                 * <p>
-                 * You may learn more about the Catalog API at
-                 *
-                 *     https://github.com/myConsciousness/catalog-api
-                 *
-                 * @author %s
-                 * @since %s
-                 */""".formatted(super.getCreator(), super.getVersion());
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append(DESCRIPTION).append(super.getCreator()).append("\n * @since ").append(super.getVersion())
+                .append("\n */");
     }
 }
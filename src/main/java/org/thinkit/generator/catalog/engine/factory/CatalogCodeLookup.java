@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.factory;
+
+import java.util.TreeMap;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * カタログクラスのコード値から列挙子を取得する {@code fromCode(int)} メソッドを生成する処理を定義したファクトリークラスです。
+ * <p>
+ * {@link #put(int, String)} メソッドで追加されたコード値の分布から次のいずれかの検索方式を選択します。
+ * <ul>
+ * <li>コード値の範囲に対して半数以上のコード値が定義されている場合は、コード値から添字を算出する配列</li>
+ * <li>コード値が疎らで列挙子の数が {@value CatalogLookup#SWITCH_THRESHOLD} 以下の場合は {@code switch} 文</li>
+ * <li>コード値が疎らで列挙子の数が {@value CatalogLookup#SWITCH_THRESHOLD}
+ * を超える場合は、プリミティブ型のキーを持つオープンアドレス法のハッシュテーブル</li>
+ * </ul>
+ * <p>
+ * 配列およびハッシュテーブルは初回の検索時に初期化されるホルダークラスに保持されるため、カタログクラスの初期化処理は増加しません。
+ * 定義されていないコード値が渡された場合、生成された {@code fromCode(int)} メソッドは {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class CatalogCodeLookup extends CatalogLookup {
+
+    /**
+     * コード値のハッシュ値を算出する乗数
+     */
+    private static final String HASH_MULTIPLIER = "0x9E3779B9";
+
+    /**
+     * コード値の昇順に並べたコード値と列挙子のリテラルのマップ
+     */
+    private final TreeMap<Integer, String> literals = new TreeMap<>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param className クラス名
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private CatalogCodeLookup(@NonNull String className) {
+        super(className);
+    }
+
+    /**
+     * 引数として渡された情報を基に {@link CatalogCodeLookup} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param className クラス名
+     * @return {@link CatalogCodeLookup} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    protected static CatalogCodeLookup of(@NonNull String className) {
+        return new CatalogCodeLookup(className);
+    }
+
+    /**
+     * 検索対象の列挙子を追加します。
+     *
+     * @param code    コード値
+     * @param literal 列挙子のリテラル
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 同一のコード値を持つ列挙子が既に追加されている場合
+     */
+    public CatalogCodeLookup put(int code, @NonNull String literal) {
+
+        final String duplicateLiteral = this.literals.putIfAbsent(code, literal);
+
+        if (duplicateLiteral != null) {
+            throw new IllegalArgumentException(String.format("The code %d of %s is already used by %s in %s.", code,
+                    literal, duplicateLiteral, super.getClassName()));
+        }
+
+        return this;
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+
+        final TreeMap<Integer, String> literals = this.literals;
+
+        if (literals.isEmpty()) {
+            throw new IllegalStateException(String.format("No constant is defined in %s.", super.getClassName()));
+        }
+
+        final long range = (long) literals.lastKey() - literals.firstKey() + 1;
+
+        if (range <= 2L * literals.size()) {
+            this.renderArrayLookup(resource, literals.firstKey(), (int) range);
+        } else if (literals.size() <= SWITCH_THRESHOLD) {
+            this.renderSwitchLookup(resource);
+        } else {
+            this.renderHashLookup(resource);
+        }
+    }
+
+    /**
+     * コード値から添字を算出する配列で検索する {@code fromCode(int)} メソッドを出力します。
+     *
+     * @param resource 出力先のバッファ
+     * @param minCode  最小のコード値
+     * @param length   配列の長さ
+     */
+    private void renderArrayLookup(StringBuilder resource, int minCode, int length) {
+
+        final String className = super.getClassName();
+
+        appendMethodDescription(resource, "code");
+        resource.append("public static ").append(className).append(" fromCode(int code) {\n");
+        resource.append("final int index = ").append(offsetOf("code", minCode)).append(";\n\n");
+        resource.append("if (index < 0 || index >= CodeLookup.CONSTANTS.length) {\nreturn null;\n}\n\n");
+        resource.append("return CodeLookup.CONSTANTS[index];\n}\n\n");
+
+        appendHolderDescription(resource, "fromCode(int)");
+        resource.append("private static final class CodeLookup {\n\n");
+        resource.append("/**\n * The constants indexed by code.\n */\n");
+        resource.append("private static final ").append(className).append("[] CONSTANTS = new ").append(className)
+                .append('[').append(length).append("];\n\n");
+        resource.append("static {\nfor (").append(className).append(" constant : values()) {\n");
+        resource.append("CONSTANTS[").append(offsetOf("constant.getCode()", minCode)).append("] = constant;\n");
+        resource.append("}\n}\n}\n");
+    }
+
+    /**
+     * {@code switch} 文で検索する {@code fromCode(int)} メソッドを出力します。
+     *
+     * @param resource 出力先のバッファ
+     */
+    private void renderSwitchLookup(StringBuilder resource) {
+
+        appendMethodDescription(resource, "code");
+        resource.append("public static ").append(super.getClassName()).append(" fromCode(int code) {\n");
+        resource.append("switch (code) {\n");
+
+        this.literals.forEach((code, literal) -> {
+            resource.append("case ").append(code.intValue()).append(":\nreturn ").append(literal).append(";\n");
+        });
+
+        resource.append("default:\nreturn null;\n}\n}\n");
+    }
+
+    /**
+     * オープンアドレス法のハッシュテーブルで検索する {@code fromCode(int)} メソッドを出力します。
+     * <p>
+     * ハッシュテーブルの容量は列挙子の数の2倍以上の2の累乗とし、コード値に乗数を掛けた値の上位ビットを初期位置とする線形探索で衝突を解決します。
+     *
+     * @param resource 出力先のバッファ
+     */
+    private void renderHashLookup(StringBuilder resource) {
+
+        final String className = super.getClassName();
+        final int capacity = capacityOf(this.literals.size());
+        final int shift = shiftOf(capacity);
+
+        appendMethodDescription(resource, "code");
+        resource.append("public static ").append(className).append(" fromCode(int code) {\n");
+        resource.append("int slot = (code * ").append(HASH_MULTIPLIER).append(") >>> CodeLookup.SHIFT;\n\n");
+        resource.append("while (CodeLookup.CONSTANTS[slot] != null) {\n");
+        resource.append("if (CodeLookup.CODES[slot] == code) {\nreturn CodeLookup.CONSTANTS[slot];\n}\n\n");
+        resource.append("slot = (slot + 1) & CodeLookup.MASK;\n}\n\n");
+        resource.append("return null;\n}\n\n");
+
+        appendHolderDescription(resource, "fromCode(int)");
+        resource.append("private static final class CodeLookup {\n\n");
+        resource.append("/**\n * The shift of the hash of a code.\n */\n");
+        resource.append("private static final int SHIFT = ").append(shift).append(";\n\n");
+        resource.append("/**\n * The mask of a slot.\n */\n");
+        resource.append("private static final int MASK = ").append(capacity - 1).append(";\n\n");
+        resource.append("/**\n * The codes of the constants stored in slots.\n */\n");
+        resource.append("private static final int[] CODES = new int[").append(capacity).append("];\n\n");
+        resource.append("/**\n * The constants stored in slots.\n */\n");
+        resource.append("private static final ").append(className).append("[] CONSTANTS = new ").append(className)
+                .append('[').append(capacity).append("];\n\n");
+        resource.append("static {\nfor (").append(className).append(" constant : values()) {\n");
+        resource.append("int slot = (constant.getCode() * ").append(HASH_MULTIPLIER).append(") >>> SHIFT;\n\n");
+        resource.append("while (CONSTANTS[slot] != null) {\nslot = (slot + 1) & MASK;\n}\n\n");
+        resource.append("CODES[slot] = constant.getCode();\nCONSTANTS[slot] = constant;\n");
+        resource.append("}\n}\n}\n");
+    }
+}
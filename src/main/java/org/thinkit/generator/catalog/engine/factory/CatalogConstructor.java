@@ -31,7 +31,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogConstructor extends Constructor {
+public final class CatalogConstructor extends Constructor implements CatalogRenderable {
 
     /**
      * 引数として渡された {@link CatalogConstructor} クラスの新しいインスタンスを生成し返却します。
@@ -60,12 +60,13 @@ public final class CatalogConstructor extends Constructor {
 
     @Override
     public String createResource() {
-        return """
-                %s
-                %s(%s) {
-                    %s
-                }
-                """.formatted(super.getFunctionDescription().createResource(), super.getFunctionName(),
-                super.getParameter(), super.getProcess());
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        ((CatalogRenderable) super.getFunctionDescription()).render(resource);
+        resource.append('\n').append(super.getFunctionName()).append('(').append(super.getParameter())
+                .append(") {\n    ").append(super.getProcess()).append("\n}\n");
     }
 }
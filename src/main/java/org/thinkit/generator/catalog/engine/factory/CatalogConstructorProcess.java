@@ -30,7 +30,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogConstructorProcess extends ConstructorProcess {
+public final class CatalogConstructorProcess extends ConstructorProcess implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogConstructorProcess} クラスの新しいインスタンスを生成し返却します。
@@ -57,10 +57,12 @@ public final class CatalogConstructorProcess extends ConstructorProcess {
 
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
 
+    @Override
+    public void render(@NonNull StringBuilder resource) {
         final String process = super.getProcess();
-
-        return """
-                this.%s = %s;""".formatted(process, process);
+        resource.append("this.").append(process).append(" = ").append(process).append(';');
     }
 }
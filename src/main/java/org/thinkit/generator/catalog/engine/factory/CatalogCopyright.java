@@ -30,7 +30,25 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogCopyright extends Copyright {
+public final class CatalogCopyright extends Copyright implements CatalogRenderable {
+
+    /**
+     * 作成者以降のライセンス文
+     */
+    private static final String LICENSE = """
+            .
+             *
+             * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+             * in compliance with the License. You may obtain a copy of the License at
+             *
+             *     http://www.apache.org/licenses/LICENSE-2.0
+             *
+             * Unless required by applicable law or agreed to in writing, software distributed under the License
+             * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+             * or implied. See the License for the specific language governing permissions and limitations under
+             * the License.
+             */
+            """;
 
     /**
      * デフォルトコンストラクタ
@@ -63,20 +81,12 @@ public final class CatalogCopyright extends Copyright {
 
     @Override
     public String createResource() {
-        return """
-                /*
-                 * Copyright %s %s.
-                 *
-                 * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
-                 * in compliance with the License. You may obtain a copy of the License at
-                 *
-                 *     http://www.apache.org/licenses/LICENSE-2.0
-                 *
-                 * Unless required by applicable law or agreed to in writing, software distributed under the License
-                 * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
-                 * or implied. See the License for the specific language governing permissions and limitations under
-                 * the License.
-                 */
-                """.formatted(super.getCreationYear(), super.getCreator());
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append("/*\n * Copyright ").append(super.getCreationYear()).append(' ').append(super.getCreator())
+                .append(LICENSE);
     }
 }
@@ -30,7 +30,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogDependentPackage extends DependentPackage {
+public final class CatalogDependentPackage extends DependentPackage implements CatalogRenderable {
 
     /**
      * コンストラクタ
@@ -57,6 +57,11 @@ public final class CatalogDependentPackage extends DependentPackage {
 
     @Override
     public String createResource() {
-        return String.format("import %s;", super.getDependentPackage());
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append("import ").append(super.getDependentPackage()).append(';');
     }
 }
@@ -30,7 +30,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogDescription extends Description {
+public final class CatalogDescription extends Description implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogDescription} クラスの新しいインスタンスを生成します。
@@ -57,9 +57,11 @@ public final class CatalogDescription extends Description {
 
     @Override
     public String createResource() {
-        return """
-                /**
-                 * %s
-                 */""".formatted(super.getDescription());
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append("/**\n * ").append(super.getDescription()).append("\n */");
     }
 }
@@ -31,7 +31,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogDescriptionTag extends DescriptionTag {
+public final class CatalogDescriptionTag extends DescriptionTag implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogDescriptionTag} クラスの新しいインスタンスを生成します。
@@ -64,17 +64,19 @@ public final class CatalogDescriptionTag extends DescriptionTag {
 
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
 
+    @Override
+    public void render(@NonNull StringBuilder resource) {
         final AnnotationPattern annotation = super.getAnnotationPattern();
 
-        return switch (annotation) {
-            case PARAM -> """
-                    %s %s %s
-                    """.formatted(annotation.getTag(), super.getVariableName(), super.getDescription());
+        resource.append(annotation.getTag()).append(' ');
+
+        if (annotation == AnnotationPattern.PARAM) {
+            resource.append(super.getVariableName()).append(' ');
+        }
 
-            default -> """
-                    %s %s
-                    """.formatted(annotation.getTag(), super.getDescription());
-        };
+        resource.append(super.getDescription()).append('\n');
     }
 }
@@ -31,7 +31,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogEnumDefinition extends EnumDefinition {
+public final class CatalogEnumDefinition extends EnumDefinition implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogEnumDefinition} クラスの新しいインスタンスを生成します。
@@ -58,14 +58,17 @@ public final class CatalogEnumDefinition extends EnumDefinition {
 
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append(super.getLiteral());
 
         final String codeValue = super.getCodeValue();
 
-        if (StringUtils.isEmpty(codeValue)) {
-            return super.getLiteral();
+        if (!StringUtils.isEmpty(codeValue)) {
+            resource.append('(').append(codeValue).append(')');
         }
-
-        return """
-                %s(%s)""".formatted(super.getLiteral(), codeValue);
     }
 }
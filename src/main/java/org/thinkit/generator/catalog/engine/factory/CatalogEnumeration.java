@@ -33,7 +33,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogEnumeration extends Enumeration {
+public final class CatalogEnumeration extends Enumeration implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogEnumeration} クラスの新しいインスタンスを生成します。
@@ -62,11 +62,13 @@ public final class CatalogEnumeration extends Enumeration {
 
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
 
-        final StringBuilder enumeration = new StringBuilder();
-        enumeration.append(super.getDescription().createResource()).append(Indentation.returnCode());
-        enumeration.append(super.getEnumDefinition().createResource());
-
-        return enumeration.toString();
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        ((CatalogRenderable) super.getDescription()).render(resource);
+        resource.append(Indentation.returnCode());
+        ((CatalogRenderable) super.getEnumDefinition()).render(resource);
     }
 }
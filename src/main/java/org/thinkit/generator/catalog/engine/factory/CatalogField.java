@@ -33,7 +33,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogField extends Field {
+public final class CatalogField extends Field implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogField} クラスの新しいインスタンスを生成します。
@@ -62,21 +62,23 @@ public final class CatalogField extends Field {
 
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
 
-        final StringBuilder field = new StringBuilder();
+    @Override
+    public void render(@NonNull StringBuilder resource) {
         final String returnCode = Indentation.RETURN.getTag();
 
-        field.append(super.getDescription().createResource()).append(returnCode);
+        ((CatalogRenderable) super.getDescription()).render(resource);
+        resource.append(returnCode);
 
         if (this.isAppliedLombok()) {
             super.getAnnotations().forEach(annotation -> {
-                field.append(annotation.createResource());
-                field.append(returnCode);
+                ((CatalogRenderable) annotation).render(resource);
+                resource.append(returnCode);
             });
         }
 
-        field.append(super.getFieldDefinition().createResource());
-
-        return field.toString();
+        ((CatalogRenderable) super.getFieldDefinition()).render(resource);
     }
 }
@@ -30,7 +30,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogFieldDefinition extends FieldDefinition {
+public final class CatalogFieldDefinition extends FieldDefinition implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogFieldDefinition} クラスの新しいインスタンスを生成します。
@@ -59,19 +59,16 @@ public final class CatalogFieldDefinition extends FieldDefinition {
 
     @Override
     public String createResource() {
-        return switch (super.getLombokState()) {
-            case LOMBOK -> {
-                yield """
-                        private final %s %s;
-                        """.formatted(super.getDataType(), super.getVariableName());
-            }
+        return CatalogRenderable.toResource(this);
+    }
 
-            case NONE -> {
-                yield """
-                        private %s %s;
-                        """.formatted(super.getDataType(), super.getVariableName());
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append(switch (super.getLombokState()) {
+            case LOMBOK -> "private final ";
+            case NONE -> "private ";
+        });
 
-            }
-        };
+        resource.append(super.getDataType()).append(' ').append(super.getVariableName()).append(";\n");
     }
 }
@@ -14,9 +14,12 @@
 
 package org.thinkit.generator.catalog.engine.factory;
 
+import java.util.List;
+
 import org.thinkit.generator.common.duke.factory.Generics;
 
 import lombok.EqualsAndHashCode;
+import lombok.NonNull;
 import lombok.ToString;
 
 /**
@@ -29,7 +32,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogGenerics extends Generics {
+public final class CatalogGenerics extends Generics implements CatalogRenderable {
 
     /**
      * 総称型の区切り文字
@@ -53,7 +56,23 @@ public final class CatalogGenerics extends Generics {
 
     @Override
     public String createResource() {
-        return """
-                <%s>""".formatted(String.join(GENERICS_DELIMITER, super.getGenerics()));
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append('<');
+
+        final List<String> generics = super.getGenerics();
+
+        for (int i = 0, size = generics.size(); i < size; i++) {
+            if (i > 0) {
+                resource.append(GENERICS_DELIMITER);
+            }
+
+            resource.append(generics.get(i));
+        }
+
+        resource.append('>');
     }
 }
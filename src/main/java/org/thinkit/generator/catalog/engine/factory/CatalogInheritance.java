@@ -31,7 +31,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogInheritance extends Inheritance {
+public final class CatalogInheritance extends Inheritance implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogInheritance} クラスの新しいインスタンスを生成します。
@@ -83,14 +83,17 @@ public final class CatalogInheritance extends Inheritance {
 
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append(super.getLiteral());
 
-        final StringBuilder inheritance = new StringBuilder(super.getLiteral());
         final Generics generics = super.getGenerics();
 
         if (!generics.isEmpty()) {
-            inheritance.append(generics.createResource());
+            ((CatalogRenderable) generics).render(resource);
         }
-
-        return inheritance.toString();
     }
 }
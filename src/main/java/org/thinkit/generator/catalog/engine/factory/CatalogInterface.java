@@ -31,7 +31,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogInterface extends Interface {
+public final class CatalogInterface extends Interface implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogInterface} クラスの新しいインスタンスを生成します。
@@ -83,14 +83,17 @@ public final class CatalogInterface extends Interface {
 
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append(super.getLiteral());
 
-        final StringBuilder _interface = new StringBuilder(super.getLiteral());
         final Generics generics = super.getGenerics();
 
         if (!generics.isEmpty()) {
-            _interface.append(generics.createResource());
+            ((CatalogRenderable) generics).render(resource);
         }
-
-        return _interface.toString();
     }
 }
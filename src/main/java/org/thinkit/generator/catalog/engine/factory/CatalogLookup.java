@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.factory;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * カタログクラスの列挙子を値から取得する静的メソッドを生成するファクトリークラスの基底クラスです。
+ * <p>
+ * 生成されるメソッドはクラスボディの末尾に出力され、検索に使用する配列やハッシュテーブルは初回の検索時に初期化されるホルダークラスに保持されます。
+ * 定義されていない値が渡された場合、生成されたメソッドは {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public abstract class CatalogLookup extends CatalogMember {
+
+    /**
+     * {@code switch} 文で検索する列挙子の最大数
+     */
+    public static final int SWITCH_THRESHOLD = 256;
+
+    /**
+     * クラス名
+     */
+    private final String className;
+
+    /**
+     * コンストラクタ
+     *
+     * @param className クラス名
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    protected CatalogLookup(@NonNull String className) {
+        this.className = className;
+    }
+
+    /**
+     * クラス名を返却します。
+     *
+     * @return クラス名
+     */
+    protected String getClassName() {
+        return this.className;
+    }
+
+    /**
+     * 検索メソッドの Javadoc を出力します。
+     *
+     * @param resource 出力先のバッファ
+     * @param key      検索に使用する値の名前
+     */
+    protected static void appendMethodDescription(StringBuilder resource, String key) {
+        resource.append("/**\n * Returns the constant that has the specified ").append(key).append(".\n *\n");
+        resource.append(" * @param ").append(key).append(" the ").append(key).append('\n');
+        resource.append(" * @return the constant that has the specified ").append(key)
+                .append(", or {@code null} if no constant has the ").append(key).append("\n */\n");
+    }
+
+    /**
+     * 検索に使用するホルダークラスの Javadoc を出力します。
+     *
+     * @param resource 出力先のバッファ
+     * @param method   検索メソッドのシグネチャ
+     */
+    protected static void appendHolderDescription(StringBuilder resource, String method) {
+        resource.append("/**\n * The lookup table of {@link #").append(method)
+                .append("} that is initialized on first use.\n */\n");
+    }
+
+    /**
+     * 引数として渡された値の式から最小値を引いた添字の式を返却します。
+     *
+     * @param expression 値の式
+     * @param min        最小値
+     * @return 添字の式
+     */
+    protected static String offsetOf(String expression, int min) {
+
+        if (min == 0) {
+            return expression;
+        }
+
+        if (min == Integer.MIN_VALUE) {
+            return expression + " - Integer.MIN_VALUE";
+        }
+
+        return min > 0 ? expression + " - " + min : expression + " + " + -min;
+    }
+
+    /**
+     * 引数として渡された要素数を格納するオープンアドレス法のハッシュテーブルの容量を返却します。
+     * <p>
+     * 容量は要素数の2倍以上の2の累乗です。
+     *
+     * @param size 要素数
+     * @return ハッシュテーブルの容量
+     */
+    protected static int capacityOf(int size) {
+        return Integer.highestOneBit(size * 2 - 1) << 1;
+    }
+
+    /**
+     * 引数として渡された容量のハッシュテーブルで、ハッシュ値に乗数を掛けた値の上位ビットから位置を算出するためのシフト数を返却します。
+     *
+     * @param capacity ハッシュテーブルの容量
+     * @return シフト数
+     */
+    protected static int shiftOf(int capacity) {
+        return Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+}
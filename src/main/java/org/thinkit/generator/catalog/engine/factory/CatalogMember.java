@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.factory;
+
+/**
+ * カタログ定義ごとに内容が変化し、カタログクラスのクラスボディの末尾に出力されるメンバーを生成するファクトリークラスの基底クラスです。
+ * <p>
+ * メンバーはレンダープランに含まれず、 {@link CatalogRenderPlan#render(String, String, java.util.List, java.util.List)}
+ * メソッドでカタログ定義ごとに出力されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public abstract class CatalogMember implements CatalogRenderable {
+
+    /**
+     * メンバーを表現する文字列リソースを生成し返却します。
+     *
+     * @return メンバーを表現する文字列リソース
+     */
+    public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
+}
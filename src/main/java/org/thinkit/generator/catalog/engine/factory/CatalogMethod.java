@@ -32,7 +32,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogMethod extends Method {
+public final class CatalogMethod extends Method implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogMethod} クラスの新しいインスタンスを生成します。
@@ -67,12 +67,14 @@ public final class CatalogMethod extends Method {
 
     @Override
     public String createResource() {
-        return """
-                %s
-                @Override
-                %s %s %s(%s) {
-                    %s
-                }""".formatted(super.getFunctionDescription().createResource(), super.getAccessLevel(),
-                super.getReturnType(), super.getFunctionName(), super.getParameter(), super.getProcess());
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        ((CatalogRenderable) super.getFunctionDescription()).render(resource);
+        resource.append("\n@Override\n").append(super.getAccessLevel()).append(' ').append(super.getReturnType())
+                .append(' ').append(super.getFunctionName()).append('(').append(super.getParameter()).append(") {\n    ")
+                .append(super.getProcess()).append("\n}");
     }
 }
@@ -32,7 +32,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogMethodDescription extends FunctionDescription {
+public final class CatalogMethodDescription extends FunctionDescription implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogMethodDescription} クラスの新しいインスタンスを生成します。
@@ -59,32 +59,34 @@ public final class CatalogMethodDescription extends FunctionDescription {
 
     @Override
     public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
 
+    @Override
+    public void render(@NonNull StringBuilder resource) {
         final String description = super.getDescription();
 
         if (StringUtils.isEmpty(description)) {
-            return "";
+            return;
         }
 
-        final StringBuilder methodDescription = new StringBuilder();
         final String returnCode = Indentation.RETURN.getTag();
 
-        methodDescription.append("/**").append(returnCode);
-        methodDescription.append(" * ").append(description).append(returnCode);
+        resource.append("/**").append(returnCode);
+        resource.append(" * ").append(description).append(returnCode);
 
         if (super.hasAnnotation()) {
-            methodDescription.append(" *").append(returnCode);
+            resource.append(" *").append(returnCode);
 
             super.getDescriptionTags().forEach(descriptionTag -> {
-                methodDescription.append(" * ").append(descriptionTag.createResource());
-                methodDescription.append(returnCode);
+                resource.append(" * ");
+                ((CatalogRenderable) descriptionTag).render(resource);
+                resource.append(returnCode);
             });
 
-            methodDescription.setLength(methodDescription.length() - returnCode.length());
+            resource.setLength(resource.length() - returnCode.length());
         }
 
-        methodDescription.append(" */");
-
-        return methodDescription.toString();
+        resource.append(" */");
     }
 }
@@ -32,7 +32,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogMethodProcess extends MethodProcess {
+public final class CatalogMethodProcess extends MethodProcess implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogMethodProcess} クラスの新しいインスタンスを生成します。
@@ -59,13 +59,16 @@ public final class CatalogMethodProcess extends MethodProcess {
 
     @Override
     public String createResource() {
-        return switch (super.getMethodType()) {
-            case DEFAULT -> throw new UnsupportedOperationException(
-                    "This operation is not supported for generating catalog classes.");
-            case SETTER -> throw new UnsupportedOperationException(
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        switch (super.getMethodType()) {
+            case DEFAULT, SETTER -> throw new UnsupportedOperationException(
                     "This operation is not supported for generating catalog classes.");
-            case GETTER -> new CatalogMethodProcessContext(new CatalogGetterMethodProcess())
-                    .toProcess(super.getProcess());
-        };
+            case GETTER -> resource.append(
+                    new CatalogMethodProcessContext(new CatalogGetterMethodProcess()).toProcess(super.getProcess()));
+        }
     }
 }
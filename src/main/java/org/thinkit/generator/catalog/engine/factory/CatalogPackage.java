@@ -30,7 +30,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogPackage extends Package {
+public final class CatalogPackage extends Package implements CatalogRenderable {
 
     /**
      * コンストラクタ
@@ -57,6 +57,11 @@ public final class CatalogPackage extends Package {
 
     @Override
     public String createResource() {
-        return String.format("package %s;", super.getPackageName());
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append("package ").append(super.getPackageName()).append(';');
     }
 }
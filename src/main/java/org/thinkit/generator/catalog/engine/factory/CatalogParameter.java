@@ -30,7 +30,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class CatalogParameter extends Parameter {
+public final class CatalogParameter extends Parameter implements CatalogRenderable {
 
     /**
      * 引数として渡された情報を基に {@link CatalogParameter} クラスの新しいインスタンスを生成します。
@@ -59,7 +59,11 @@ public final class CatalogParameter extends Parameter {
 
     @Override
     public String createResource() {
-        return """
-                %s %s""".formatted(super.getDataType(), super.getVariableName());
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+        resource.append(super.getDataType()).append(' ').append(super.getVariableName());
     }
 }
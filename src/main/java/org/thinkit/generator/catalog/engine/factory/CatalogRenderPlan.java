@@ -0,0 +1,294 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.factory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.thinkit.common.catalog.Brace;
+import org.thinkit.common.catalog.Delimiter;
+import org.thinkit.common.catalog.Indentation;
+import org.thinkit.generator.common.duke.factory.Enumeration;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 同一の形状を持つカタログクラスのリソースを生成するためのレンダープランを定義したクラスです。
+ * <p>
+ * レンダープランは {@link #PACKAGE_NAME_PLACEHOLDER} 、 {@link #CLASS_NAME_PLACEHOLDER} および
+ * {@link #ENUMERATION_PLACEHOLDER} を埋め込んで生成された整形前のリソースを {@link #compile(String)}
+ * メソッドで固定部分と差し込み位置に分割したものです。 {@link #render(String, String, List)}
+ * メソッドは固定部分をそのまま出力し、差し込み位置にのみカタログ定義ごとのパッケージ名、クラス名および列挙子を出力します。
+ * <p>
+ * 列挙子のプレースホルダーはリテラルと説明の両方に {@link #ENUMERATION_PLACEHOLDER} を指定した1件の列挙子として埋め込んでください。
+ * 説明の開始位置から列挙子の終端を表すセミコロンの直前までが列挙子の差し込み位置になります。
+ * {@link CatalogMember} はカタログ定義ごとに {@link #render(String, String, List, List)}
+ * メソッドへ渡され、 {@link CatalogClassBody} と同様にクラスボディの末尾へ出力されます。
+ * <p>
+ * レンダープランは不変であるため、複数のスレッドから同時に使用することができます。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+public final class CatalogRenderPlan {
+
+    /**
+     * パッケージ名のプレースホルダー
+     */
+    public static final String PACKAGE_NAME_PLACEHOLDER = "\u0000packageName\u0000";
+
+    /**
+     * クラス名のプレースホルダー
+     */
+    public static final String CLASS_NAME_PLACEHOLDER = "\u0000className\u0000";
+
+    /**
+     * 列挙子のプレースホルダー
+     */
+    public static final String ENUMERATION_PLACEHOLDER = "\u0000enumeration\u0000";
+
+    /**
+     * 列挙子の説明の開始を表す文字列
+     */
+    private static final String ENUMERATION_DESCRIPTION_PREFIX = "/**\n * ";
+
+    /**
+     * 列挙子の区切り文字
+     */
+    private static final String ENUMERATION_DELIMITER = Delimiter.COMMA.getTag() + Indentation.RETURN.getTag()
+            + Indentation.RETURN.getTag();
+
+    /**
+     * 固定部分 (差し込み位置の数より1件多い)
+     */
+    private final String[] fragments;
+
+    /**
+     * 差し込み位置
+     */
+    private final Slot[] slots;
+
+    /**
+     * 固定部分の合計文字数
+     */
+    private final int fragmentLength;
+
+    /**
+     * 最後の固定部分におけるクラスボディの閉じ括弧の位置
+     */
+    private final int classBodyEnd;
+
+    /**
+     * 差し込み位置の種別を表す列挙型です。
+     */
+    private enum Slot {
+
+        /**
+         * パッケージ名
+         */
+        PACKAGE_NAME,
+
+        /**
+         * クラス名
+         */
+        CLASS_NAME,
+
+        /**
+         * 列挙子
+         */
+        ENUMERATIONS;
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param fragments 固定部分
+     * @param slots     差し込み位置
+     */
+    private CatalogRenderPlan(List<String> fragments, List<Slot> slots) {
+        this.fragments = fragments.toArray(new String[0]);
+        this.slots = slots.toArray(new Slot[0]);
+        this.fragmentLength = fragments.stream().mapToInt(String::length).sum();
+        this.classBodyEnd = this.fragments[this.fragments.length - 1].lastIndexOf(Brace.END.getTag());
+    }
+
+    /**
+     * プレースホルダーを埋め込んで生成された整形前のリソースを固定部分と差し込み位置に分割し、 {@link CatalogRenderPlan}
+     * クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param skeleton プレースホルダーを埋め込んで生成された整形前のリソース
+     * @return {@link CatalogRenderPlan} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 列挙子のプレースホルダーが含まれていない場合
+     */
+    public static CatalogRenderPlan compile(@NonNull String skeleton) {
+
+        final int enumerationStart = skeleton.indexOf(ENUMERATION_DESCRIPTION_PREFIX + ENUMERATION_PLACEHOLDER);
+
+        if (enumerationStart < 0) {
+            throw new IllegalArgumentException("The skeleton does not contain the enumeration placeholder.");
+        }
+
+        final int literalStart = skeleton.indexOf(ENUMERATION_PLACEHOLDER,
+                enumerationStart + ENUMERATION_DESCRIPTION_PREFIX.length() + ENUMERATION_PLACEHOLDER.length());
+        final int enumerationEnd = literalStart < 0 ? -1
+                : skeleton.indexOf(Delimiter.SEMICOLON.getTag(), literalStart);
+
+        if (enumerationEnd < 0) {
+            throw new IllegalArgumentException("The skeleton does not contain the enumeration placeholder.");
+        }
+
+        final List<String> fragments = new ArrayList<>();
+        final List<Slot> slots = new ArrayList<>();
+        final StringBuilder fragment = new StringBuilder();
+
+        split(skeleton.substring(0, enumerationStart), fragment, fragments, slots);
+        fragments.add(fragment.toString());
+        slots.add(Slot.ENUMERATIONS);
+        fragment.setLength(0);
+
+        split(skeleton.substring(enumerationEnd), fragment, fragments, slots);
+        fragments.add(fragment.toString());
+
+        return new CatalogRenderPlan(fragments, slots);
+    }
+
+    /**
+     * 引数として渡された文字列をパッケージ名およびクラス名のプレースホルダーの位置で分割します。
+     * <p>
+     * 最後のプレースホルダー以降の文字列は {@code fragment} に残されます。
+     *
+     * @param text      分割対象の文字列
+     * @param fragment  分割中の固定部分
+     * @param fragments 固定部分の格納先
+     * @param slots     差し込み位置の格納先
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private static void split(@NonNull String text, @NonNull StringBuilder fragment, @NonNull List<String> fragments,
+            @NonNull List<Slot> slots) {
+
+        int position = 0;
+
+        while (true) {
+            final int packageName = text.indexOf(PACKAGE_NAME_PLACEHOLDER, position);
+            final int className = text.indexOf(CLASS_NAME_PLACEHOLDER, position);
+
+            if (packageName < 0 && className < 0) {
+                fragment.append(text, position, text.length());
+                return;
+            }
+
+            final boolean isPackageName = className < 0 || (packageName >= 0 && packageName < className);
+            final int start = isPackageName ? packageName : className;
+
+            fragments.add(fragment.append(text, position, start).toString());
+            slots.add(isPackageName ? Slot.PACKAGE_NAME : Slot.CLASS_NAME);
+            fragment.setLength(0);
+
+            position = start + (isPackageName ? PACKAGE_NAME_PLACEHOLDER : CLASS_NAME_PLACEHOLDER).length();
+        }
+    }
+
+    /**
+     * 引数として渡されたパッケージ名、クラス名および列挙子を差し込み位置へ出力した整形前のリソースを返却します。
+     * <p>
+     * 列挙子は {@link CatalogResourceFactory} で生成されたファクトリー製品であることを前提としています。
+     *
+     * @param packageName  パッケージ名
+     * @param className    クラス名
+     * @param enumerations 列挙子リスト
+     * @return 整形前のリソース
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 列挙子リストが空の場合
+     */
+    public String render(@NonNull String packageName, @NonNull String className,
+            @NonNull List<Enumeration> enumerations) {
+        return this.render(packageName, className, enumerations, List.of());
+    }
+
+    /**
+     * 引数として渡されたパッケージ名、クラス名および列挙子を差し込み位置へ出力し、メンバーをクラスボディの末尾へ出力した整形前のリソースを返却します。
+     * <p>
+     * 列挙子は {@link CatalogResourceFactory} で生成されたファクトリー製品であることを前提としています。
+     *
+     * @param packageName  パッケージ名
+     * @param className    クラス名
+     * @param enumerations 列挙子リスト
+     * @param members      クラスボディの末尾に出力するメンバーリスト
+     * @return 整形前のリソース
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 列挙子リストが空の場合
+     */
+    public String render(@NonNull String packageName, @NonNull String className,
+            @NonNull List<Enumeration> enumerations, @NonNull List<CatalogMember> members) {
+
+        if (enumerations.isEmpty()) {
+            throw new IllegalArgumentException("Enumerations must not be empty.");
+        }
+
+        final StringBuilder resource = new StringBuilder(this.fragmentLength + enumerations.size() * 64);
+
+        for (int i = 0; i < this.slots.length; i++) {
+            resource.append(this.fragments[i]);
+
+            switch (this.slots[i]) {
+                case PACKAGE_NAME -> resource.append(packageName);
+                case CLASS_NAME -> resource.append(className);
+                case ENUMERATIONS -> this.renderEnumerations(resource, enumerations);
+            }
+        }
+
+        final String lastFragment = this.fragments[this.slots.length];
+
+        if (members.isEmpty()) {
+            return resource.append(lastFragment).toString();
+        }
+
+        resource.append(lastFragment, 0, this.classBodyEnd);
+
+        members.forEach(member -> {
+            resource.append(Indentation.RETURN.getTag());
+            member.render(resource);
+        });
+
+        return resource.append(lastFragment, this.classBodyEnd, lastFragment.length()).toString();
+    }
+
+    /**
+     * 引数として渡された列挙子を区切り文字で連結してリソースへ出力します。
+     *
+     * @param resource     出力先のリソース
+     * @param enumerations 列挙子リスト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private void renderEnumerations(@NonNull StringBuilder resource, @NonNull List<Enumeration> enumerations) {
+        for (int i = 0, size = enumerations.size(); i < size; i++) {
+            if (i > 0) {
+                resource.append(ENUMERATION_DELIMITER);
+            }
+
+            ((CatalogRenderable) enumerations.get(i)).render(resource);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.factory;
+
+/**
+ * カタログクラスのリソースを引数として渡されたバッファへ直接書き込むファクトリー製品を定義したインターフェースです。
+ * <p>
+ * {@link #render(StringBuilder)} メソッドは子要素のリソースを中間文字列を生成せずに同一のバッファへ書き込むため、
+ * カタログクラス全体を1つのバッファへ1パスで組み立てることができます。各ファクトリー製品の {@code createResource()}
+ * メソッドは {@link #toResource(CatalogRenderable)} メソッドを使用してこの処理へ委譲します。
+ * <p>
+ * 子要素は {@link CatalogResourceFactory} で生成されたファクトリー製品であることを前提としています。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+interface CatalogRenderable {
+
+    /**
+     * リソースを引数として渡されたバッファの末尾へ書き込みます。
+     *
+     * @param resource 書き込み先のバッファ
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    void render(StringBuilder resource);
+
+    /**
+     * 引数として渡されたファクトリー製品のリソースを新しいバッファへ書き込み、文字列として返却します。
+     *
+     * @param renderable ファクトリー製品
+     * @return リソースを表現する文字列
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static String toResource(CatalogRenderable renderable) {
+        final StringBuilder resource = new StringBuilder();
+        renderable.render(resource);
+        return resource.toString();
+    }
+}
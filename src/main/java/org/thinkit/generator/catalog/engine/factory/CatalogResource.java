@@ -14,12 +14,9 @@
 
 package org.thinkit.generator.catalog.engine.factory;
 
-import com.google.googlejavaformat.java.Formatter;
-import com.google.googlejavaformat.java.FormatterException;
-import com.google.googlejavaformat.java.JavaFormatterOptions;
-import com.google.googlejavaformat.java.JavaFormatterOptions.Style;
-
 import org.thinkit.common.catalog.Indentation;
+import org.thinkit.generator.catalog.engine.strategy.CatalogFormatStrategy;
+import org.thinkit.generator.catalog.engine.strategy.CatalogStrictGoogleJavaFormat;
 import org.thinkit.generator.common.duke.factory.ClassBody;
 import org.thinkit.generator.common.duke.factory.Copyright;
 import org.thinkit.generator.common.duke.factory.Package;
@@ -33,6 +30,7 @@ import lombok.ToString;
  * カタログクラスのリソースを生成するファクトリークラスです。
  * <p>
  * {@link #createResource()} メソッドを使用することでカタログクラスのリソースを表現した文字列を取得することができます。
+ * 組み立てられたリソースは生成時に指定された {@link CatalogFormatStrategy} で整形されます。
  *
  * @author Kato Shinya
  * @since 1.0.0
@@ -46,17 +44,25 @@ public final class CatalogResource extends Resource {
      */
     private static final String RETURN_CODE = Indentation.RETURN.getTag();
 
+    /**
+     * 整形ストラテジー
+     */
+    private final CatalogFormatStrategy formatStrategy;
+
     /**
      * コンストラクタ
      *
-     * @param copyright   著作権定義
-     * @param packageName パッケージ定義
-     * @param classBody   クラスボディ部
+     * @param copyright      著作権定義
+     * @param packageName    パッケージ定義
+     * @param classBody      クラスボディ部
+     * @param formatStrategy 整形ストラテジー
      *
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
-    private CatalogResource(@NonNull Copyright copyright, @NonNull Package packageName, @NonNull ClassBody classBody) {
+    private CatalogResource(@NonNull Copyright copyright, @NonNull Package packageName, @NonNull ClassBody classBody,
+            @NonNull CatalogFormatStrategy formatStrategy) {
         super(copyright, packageName, classBody);
+        this.formatStrategy = formatStrategy;
     }
 
     /**
@@ -71,7 +77,23 @@ public final class CatalogResource extends Resource {
      */
     protected static Resource of(@NonNull Copyright copyright, @NonNull Package packageName,
             @NonNull ClassBody classBody) {
-        return new CatalogResource(copyright, packageName, classBody);
+        return of(copyright, packageName, classBody, CatalogStrictGoogleJavaFormat.newInstance());
+    }
+
+    /**
+     * 引数として渡された情報を基に {@link CatalogResource} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param copyright      著作権定義
+     * @param packageName    パッケージ定義
+     * @param classBody      クラスボディ部
+     * @param formatStrategy 整形ストラテジー
+     * @return {@link CatalogResource} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    protected static Resource of(@NonNull Copyright copyright, @NonNull Package packageName,
+            @NonNull ClassBody classBody, @NonNull CatalogFormatStrategy formatStrategy) {
+        return new CatalogResource(copyright, packageName, classBody, formatStrategy);
     }
 
     @Override
@@ -95,7 +117,7 @@ public final class CatalogResource extends Resource {
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private void createCopyright(@NonNull StringBuilder resource) {
-        resource.append(super.getCopyright().createResource());
+        ((CatalogRenderable) super.getCopyright()).render(resource);
         resource.append(RETURN_CODE);
     }
 
@@ -107,7 +129,7 @@ public final class CatalogResource extends Resource {
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private void createPackage(@NonNull StringBuilder resource) {
-        resource.append(super.getPackageName().createResource());
+        ((CatalogRenderable) super.getPackageName()).render(resource);
         resource.append(RETURN_CODE).append(RETURN_CODE);
     }
 
@@ -120,7 +142,7 @@ public final class CatalogResource extends Resource {
      */
     private void createDependentPackage(@NonNull StringBuilder resource) {
         super.getDependentPackages().forEach(dependentPackage -> {
-            resource.append(dependentPackage.createResource());
+            ((CatalogRenderable) dependentPackage).render(resource);
             resource.append(RETURN_CODE);
         });
 
@@ -135,11 +157,11 @@ public final class CatalogResource extends Resource {
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private void createClassBody(@NonNull StringBuilder resource) {
-        resource.append(super.getClassBody().createResource());
+        ((CatalogRenderable) super.getClassBody()).render(resource);
     }
 
     /**
-     * 引数として渡されたカタログリソースを整形した結果を返却します。
+     * 引数として渡されたカタログリソースを整形ストラテジーで整形した結果を返却します。
      * <p>
      * 生成されたカタログリソースに文法エラーが存在する場合は実行時に {@link IllegalStateException} が発生します。
      *
@@ -149,11 +171,6 @@ public final class CatalogResource extends Resource {
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private String format(@NonNull StringBuilder resource) {
-        try {
-            return new Formatter(JavaFormatterOptions.builder().style(Style.AOSP).build())
-                    .formatSource(resource.toString());
-        } catch (FormatterException e) {
-            throw new IllegalStateException(e);
-        }
+        return this.formatStrategy.format(resource.toString());
     }
 }
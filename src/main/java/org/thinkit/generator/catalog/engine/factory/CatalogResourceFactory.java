@@ -14,6 +14,7 @@
 
 package org.thinkit.generator.catalog.engine.factory;
 
+import org.thinkit.generator.catalog.engine.strategy.CatalogFormatStrategy;
 import org.thinkit.generator.common.duke.catalog.AnnotationPattern;
 import org.thinkit.generator.common.duke.catalog.Modifier;
 import org.thinkit.generator.common.duke.factory.Annotation;
@@ -47,6 +48,9 @@ import lombok.ToString;
 
 /**
  * カタログクラスの各コンポーネントクラスを生成するファクトリークラスです。
+ * <p>
+ * このクラスは状態を持たず、各生成メソッドは呼び出しごとに新しいコンポーネントを生成します。
+ * そのため {@link #getInstance()} で取得したシングルトンインスタンスは複数のスレッドから同時に使用することができます。
  *
  * @author Kato Shinya
  * @since 1.0.0
@@ -248,4 +252,71 @@ public final class CatalogResourceFactory extends ResourceFactory {
             @NonNull ClassBody classBody) {
         return CatalogResource.of(copyright, packageName, classBody);
     }
+
+    /**
+     * 引数として渡された整形ストラテジーで整形を行うカタログクラスのリソースを生成し返却します。
+     *
+     * @param copyright      著作権定義
+     * @param packageName    パッケージ定義
+     * @param classBody      クラスボディ部
+     * @param formatStrategy 整形ストラテジー
+     * @return カタログクラスのリソース
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public Resource createResource(@NonNull Copyright copyright, @NonNull Package packageName,
+            @NonNull ClassBody classBody, @NonNull CatalogFormatStrategy formatStrategy) {
+        return CatalogResource.of(copyright, packageName, classBody, formatStrategy);
+    }
+
+    /**
+     * 引数として渡された情報を基にコード値から列挙子を取得するメソッドを生成し返却します。
+     *
+     * @param className クラス名
+     * @return コード値から列挙子を取得するメソッド
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public CatalogCodeLookup createCodeLookup(@NonNull String className) {
+        return CatalogCodeLookup.of(className);
+    }
+
+    /**
+     * 引数として渡された情報を基にタグから列挙子を取得するメソッドを生成し返却します。
+     *
+     * @param className   クラス名
+     * @param tagDataType タグのデータ型
+     * @return タグから列挙子を取得するメソッド
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException タグのデータ型が {@code String} または {@code Character} 以外の場合
+     */
+    public CatalogTagLookup createTagLookup(@NonNull String className, @NonNull String tagDataType) {
+        return CatalogTagLookup.of(className, tagDataType);
+    }
+
+    /**
+     * 引数として渡された情報を基にプリミティブ型のタグのアクセサを生成し返却します。
+     *
+     * @param tagDataType タグのデータ型
+     * @return プリミティブ型のタグのアクセサ
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException タグのデータ型に対応するプリミティブ型が存在しない場合
+     */
+    public CatalogTagAccessor createTagAccessor(@NonNull String tagDataType) {
+        return CatalogTagAccessor.of(tagDataType);
+    }
+
+    /**
+     * 引数として渡された情報を基に列挙子の値を序数で参照するサイドテーブルを生成し返却します。
+     *
+     * @param size 列挙子の数
+     * @return 列挙子の値を序数で参照するサイドテーブル
+     *
+     * @exception IllegalArgumentException 列挙子の数が {@code 1} 未満の場合
+     */
+    public CatalogSideTable createSideTable(int size) {
+        return CatalogSideTable.of(size);
+    }
 }
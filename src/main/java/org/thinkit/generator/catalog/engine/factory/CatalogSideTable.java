@@ -0,0 +1,294 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.factory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 列挙子の値を列挙子の序数で参照するサイドテーブルと、サイドテーブルを参照するGetterメソッドを生成する処理を定義したファクトリークラスです。
+ * <p>
+ * サイドテーブルを使用するカタログクラスの列挙子はコンストラクタ引数を持たず、フィールドの値は列ごとのホルダークラスに保持されます。
+ * 列挙型の静的初期化子は列挙子の生成のみを行うため、列挙子1件あたりのバイトコードが減少し、 {@code code too large}
+ * となる列挙子の数の上限が引き上げられます。ホルダークラスは初回の参照時に初期化されるため、カタログクラスのロードも高速になります。
+ * <p>
+ * {@code int} 型の列の値が序数に一定の値を加えたものである場合はテーブルを生成せず、序数から値を算出します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public final class CatalogSideTable extends CatalogMember {
+
+    /**
+     * ホルダークラス名の接尾辞
+     */
+    private static final String HOLDER_SUFFIX = "Table";
+
+    /**
+     * 列挙子の数
+     */
+    private final int size;
+
+    /**
+     * 列リスト
+     */
+    private final List<Column> columns = new ArrayList<>(2);
+
+    /**
+     * コンストラクタ
+     *
+     * @param size 列挙子の数
+     */
+    private CatalogSideTable(int size) {
+        this.size = size;
+    }
+
+    /**
+     * 引数として渡された情報を基に {@link CatalogSideTable} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param size 列挙子の数
+     * @return {@link CatalogSideTable} クラスの新しいインスタンス
+     *
+     * @exception IllegalArgumentException 列挙子の数が {@code 1} 未満の場合
+     */
+    protected static CatalogSideTable of(int size) {
+
+        if (size < 1) {
+            throw new IllegalArgumentException("The side table must have at least one constant.");
+        }
+
+        return new CatalogSideTable(size);
+    }
+
+    /**
+     * サイドテーブルへ列を追加します。
+     *
+     * @param dataType     データ型
+     * @param variableName 変数名
+     * @param values       序数の順に並べた値のリテラルリスト
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 値の数が列挙子の数と一致しない場合
+     */
+    public CatalogSideTable put(@NonNull String dataType, @NonNull String variableName,
+            @NonNull List<String> values) {
+        return this.put(new Column(dataType, dataType, variableName, values, null));
+    }
+
+    /**
+     * サイドテーブルへプリミティブ型で保持するタグの列を追加します。
+     * <p>
+     * 列の値はタグのプリミティブ型で保持され、インターフェースで定義された {@code getTag()} メソッドに加えてプリミティブ型のタグのアクセサが出力されます。
+     *
+     * @param dataType     データ型
+     * @param variableName 変数名
+     * @param values       序数の順に並べた値のリテラルリスト
+     * @param tagAccessor  プリミティブ型のタグのアクセサ
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 値の数が列挙子の数と一致しない場合
+     */
+    public CatalogSideTable put(@NonNull String dataType, @NonNull String variableName, @NonNull List<String> values,
+            @NonNull CatalogTagAccessor tagAccessor) {
+        return this.put(new Column(dataType, tagAccessor.getPrimitiveType(), variableName, values, tagAccessor));
+    }
+
+    /**
+     * サイドテーブルへ列を追加します。
+     *
+     * @param column 列
+     * @return 自分自身のインスタンス
+     *
+     * @exception IllegalArgumentException 値の数が列挙子の数と一致しない場合
+     */
+    private CatalogSideTable put(Column column) {
+
+        if (column.values.size() != this.size) {
+            throw new IllegalArgumentException(String.format("The column %s has %d values but %d are required.",
+                    column.variableName, column.values.size(), this.size));
+        }
+
+        this.columns.add(column);
+        return this;
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+
+        this.columns.forEach(column -> {
+            resource.append("@Override\npublic ").append(column.dataType).append(" get")
+                    .append(StringUtils.capitalize(column.variableName)).append("() {\n");
+            resource.append("return ").append(column.getExpression()).append(";\n}\n\n");
+
+            if (column.tagAccessor != null) {
+                column.tagAccessor.renderAccessor(resource, column.getExpression());
+                resource.append('\n');
+            }
+        });
+
+        this.columns.forEach(column -> {
+            if (column.offset == null) {
+                this.renderHolder(resource, column);
+            }
+        });
+
+        resource.setLength(resource.length() - 1);
+    }
+
+    /**
+     * 引数として渡された列の値を保持するホルダークラスを出力します。
+     * <p>
+     * 値は静的初期化子で1件ずつ代入されるため、ホルダークラスの静的初期化子のバイトコードは列挙型の静的初期化子と同程度の大きさに収まります。
+     *
+     * @param resource 出力先のバッファ
+     * @param column   列
+     */
+    private void renderHolder(StringBuilder resource, Column column) {
+
+        final String variableName = column.variableName;
+
+        resource.append("/**\n * The {@code ").append(variableName)
+                .append("} values of the constants indexed by ordinal that are initialized on first use.\n */\n");
+        resource.append("private static final class ").append(column.getHolderName()).append(" {\n\n");
+        resource.append("/**\n * The {@code ").append(variableName).append("} values of the constants.\n */\n");
+        resource.append("private static final ").append(column.storageType).append("[] VALUES = new ")
+                .append(column.storageType).append('[').append(this.size).append("];\n\n");
+        resource.append("static {\n");
+
+        for (int i = 0; i < this.size; i++) {
+            resource.append("VALUES[").append(i).append("] = ").append(column.values.get(i)).append(";\n");
+        }
+
+        resource.append("}\n}\n\n");
+    }
+
+    /**
+     * サイドテーブルの列を表現するクラスです。
+     */
+    @ToString
+    @EqualsAndHashCode
+    private static final class Column {
+
+        /**
+         * データ型
+         */
+        private final String dataType;
+
+        /**
+         * 値を保持するデータ型
+         */
+        private final String storageType;
+
+        /**
+         * 変数名
+         */
+        private final String variableName;
+
+        /**
+         * 序数の順に並べた値のリテラルリスト
+         */
+        private final List<String> values;
+
+        /**
+         * プリミティブ型のタグのアクセサ ({@code null} の場合は出力しない)
+         */
+        private final CatalogTagAccessor tagAccessor;
+
+        /**
+         * 序数に加えることで列の値を算出できる値 ({@code null} の場合はホルダークラスで値を保持する)
+         */
+        private final Integer offset;
+
+        /**
+         * コンストラクタ
+         *
+         * @param dataType     データ型
+         * @param storageType  値を保持するデータ型
+         * @param variableName 変数名
+         * @param values       序数の順に並べた値のリテラルリスト
+         * @param tagAccessor  プリミティブ型のタグのアクセサ
+         */
+        private Column(String dataType, String storageType, String variableName, List<String> values,
+                CatalogTagAccessor tagAccessor) {
+            this.dataType = dataType;
+            this.storageType = storageType;
+            this.variableName = variableName;
+            this.values = List.copyOf(values);
+            this.tagAccessor = tagAccessor;
+            this.offset = offsetOf(storageType, this.values);
+        }
+
+        /**
+         * ホルダークラス名を返却します。
+         *
+         * @return ホルダークラス名
+         */
+        private String getHolderName() {
+            return StringUtils.capitalize(this.variableName) + HOLDER_SUFFIX;
+        }
+
+        /**
+         * 列の値を参照する式を返却します。
+         *
+         * @return 列の値を参照する式
+         */
+        private String getExpression() {
+
+            if (this.offset != null) {
+                return CatalogLookup.offsetOf("this.ordinal()", -this.offset);
+            }
+
+            return this.getHolderName() + ".VALUES[this.ordinal()]";
+        }
+
+        /**
+         * {@code int} 型の列の値が序数に一定の値を加えたものである場合に、序数に加える値を返却します。
+         *
+         * @param storageType 値を保持するデータ型
+         * @param values      序数の順に並べた値のリテラルリスト
+         * @return 序数に加える値。列の値が序数から算出できない場合は {@code null}
+         */
+        private static Integer offsetOf(String storageType, List<String> values) {
+
+            if (!"int".equals(storageType) || values.isEmpty()) {
+                return null;
+            }
+
+            try {
+                final int offset = Integer.parseInt(values.get(0));
+
+                for (int i = 1, size = values.size(); i < size; i++) {
+                    if (Integer.parseInt(values.get(i)) != offset + i) {
+                        return null;
+                    }
+                }
+
+                return offset;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
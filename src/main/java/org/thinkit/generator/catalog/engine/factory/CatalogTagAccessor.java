@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.factory;
+
+import org.thinkit.generator.common.duke.catalog.LombokState;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * {@code BiCatalog} を実装するカタログクラスのタグをプリミティブ型のフィールドで保持する場合のアクセサを生成する処理を定義したファクトリークラスです。
+ * <p>
+ * タグのデータ型が {@code Character} 、 {@code Integer} または {@code Long} の場合に、タグのフィールドを対応するプリミティブ型で宣言し、
+ * ボクシングを行わずにタグを取得する {@code getTagAsChar()} 、 {@code getTagAsInt()} または {@code getTagAsLong()} メソッドを出力します。
+ * インターフェースで定義された {@code getTag()} メソッドはラッパー型を返却するため、Lombokを適用した場合でも {@code @Getter}
+ * を使用せずに明示的に出力されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+public final class CatalogTagAccessor implements CatalogRenderable {
+
+    /**
+     * タグの変数名
+     */
+    public static final String TAG_VARIABLE_NAME = "tag";
+
+    /**
+     * タグのデータ型
+     */
+    private final String tagDataType;
+
+    /**
+     * タグのプリミティブ型
+     */
+    @Getter
+    private final String primitiveType;
+
+    /**
+     * プリミティブ型のタグを取得するメソッド名
+     */
+    private final String accessorName;
+
+    /**
+     * Lombok適用状態
+     */
+    private LombokState lombokState = LombokState.NONE;
+
+    /**
+     * コンストラクタ
+     *
+     * @param tagDataType   タグのデータ型
+     * @param primitiveType タグのプリミティブ型
+     * @param accessorName  プリミティブ型のタグを取得するメソッド名
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private CatalogTagAccessor(@NonNull String tagDataType, @NonNull String primitiveType,
+            @NonNull String accessorName) {
+        this.tagDataType = tagDataType;
+        this.primitiveType = primitiveType;
+        this.accessorName = accessorName;
+    }
+
+    /**
+     * 引数として渡された情報を基に {@link CatalogTagAccessor} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param tagDataType タグのデータ型 ({@code Character} 、 {@code Integer} または {@code Long})
+     * @return {@link CatalogTagAccessor} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException タグのデータ型に対応するプリミティブ型が存在しない場合
+     */
+    protected static CatalogTagAccessor of(@NonNull String tagDataType) {
+        return switch (tagDataType) {
+            case "Character" -> new CatalogTagAccessor(tagDataType, "char", "getTagAsChar");
+            case "Integer" -> new CatalogTagAccessor(tagDataType, "int", "getTagAsInt");
+            case "Long" -> new CatalogTagAccessor(tagDataType, "long", "getTagAsLong");
+            default -> throw new IllegalArgumentException(
+                    String.format("The tag data type %s has no primitive type.", tagDataType));
+        };
+    }
+
+    /**
+     * 引数として渡されたタグのデータ型に対応するプリミティブ型が存在するか判定します。
+     *
+     * @param tagDataType タグのデータ型
+     * @return タグのデータ型に対応するプリミティブ型が存在する場合は {@code true} 、それ以外は {@code false}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static boolean supports(@NonNull String tagDataType) {
+        return switch (tagDataType) {
+            case "Character", "Integer", "Long" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Lombokを適用します。
+     * <p>
+     * Lombokを適用した場合はインターフェースで定義された {@code getTag()} メソッドも出力されます。
+     */
+    public void applyLombok() {
+        this.lombokState = LombokState.LOMBOK;
+    }
+
+    /**
+     * 引数として渡されたタグをプリミティブ型のフィールドへ代入できるリテラルへ変換し返却します。
+     * <p>
+     * {@code long} 型のタグは {@code int} 型の範囲を超える値を扱えるように接尾辞 {@code L} を付与します。
+     *
+     * @param tag タグ
+     * @return プリミティブ型のフィールドへ代入できるタグのリテラル
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public String toTagValue(@NonNull String tag) {
+
+        if ("long".equals(this.primitiveType) && !tag.endsWith("L") && !tag.endsWith("l")) {
+            return tag + "L";
+        }
+
+        return tag;
+    }
+
+    /**
+     * プリミティブ型のタグのアクセサを表現する文字列リソースを生成し返却します。
+     *
+     * @return プリミティブ型のタグのアクセサを表現する文字列リソース
+     */
+    public String createResource() {
+        return CatalogRenderable.toResource(this);
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+
+        if (this.lombokState == LombokState.LOMBOK) {
+            resource.append("@Override\npublic ").append(this.tagDataType).append(" getTag() {\n");
+            resource.append("return this.").append(TAG_VARIABLE_NAME).append(";\n}\n\n");
+        }
+
+        this.renderAccessor(resource, "this." + TAG_VARIABLE_NAME);
+    }
+
+    /**
+     * 引数として渡された式の値を返却するプリミティブ型のタグのアクセサを出力します。
+     *
+     * @param resource   出力先のバッファ
+     * @param expression プリミティブ型のタグを表す式
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    void renderAccessor(@NonNull StringBuilder resource, @NonNull String expression) {
+        resource.append("/**\n * Returns the tag as a primitive {@code ").append(this.primitiveType)
+                .append("} without boxing.\n *\n * @return the tag\n */\n");
+        resource.append("public ").append(this.primitiveType).append(' ').append(this.accessorName).append("() {\n");
+        resource.append("return ").append(expression).append(";\n}\n");
+    }
+}
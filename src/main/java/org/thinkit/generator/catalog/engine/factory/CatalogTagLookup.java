@@ -0,0 +1,315 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.factory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * {@code BiCatalog} を実装するカタログクラスのタグから列挙子を取得する {@code fromTag} メソッドを生成する処理を定義したファクトリークラスです。
+ * <p>
+ * タグのデータ型と {@link #put(String, String)} メソッドで追加されたタグの値から次のいずれかの検索方式を選択します。
+ * <ul>
+ * <li>{@code String} 型のタグで列挙子の数が {@value CatalogLookup#SWITCH_THRESHOLD} 以下の場合は文字列の {@code switch} 文</li>
+ * <li>{@code String} 型のタグで列挙子の数が {@value CatalogLookup#SWITCH_THRESHOLD}
+ * を超える場合は、生成時に衝突が最小になる乗数を探索したオープンアドレス法のハッシュテーブル</li>
+ * <li>{@code Character} 型のタグで全てのタグが1文字の場合は、文字から添字を算出する配列</li>
+ * <li>{@code Character} 型のタグでエスケープシーケンスを含む場合は {@code switch} 文</li>
+ * </ul>
+ * <p>
+ * タグの値は {@code EnumDefinition} と同様に引用符のみを付与したリテラルとして出力されます。
+ * 定義されていないタグが渡された場合、生成された {@code fromTag} メソッドは {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class CatalogTagLookup extends CatalogLookup {
+
+    /**
+     * タグのハッシュ値を算出する乗数の初期値
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /**
+     * 衝突が最小になる乗数を探索する回数
+     */
+    private static final int MULTIPLIER_TRIALS = 1024;
+
+    /**
+     * タグのデータ型
+     */
+    private final String tagDataType;
+
+    /**
+     * 追加された順序で並べたタグと列挙子のリテラルのマップ
+     */
+    private final Map<String, String> literals = new LinkedHashMap<>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param className   クラス名
+     * @param tagDataType タグのデータ型
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private CatalogTagLookup(@NonNull String className, @NonNull String tagDataType) {
+        super(className);
+        this.tagDataType = tagDataType;
+    }
+
+    /**
+     * 引数として渡された情報を基に {@link CatalogTagLookup} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param className   クラス名
+     * @param tagDataType タグのデータ型 ({@code String} または {@code Character})
+     * @return {@link CatalogTagLookup} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException タグのデータ型が {@code String} または {@code Character} 以外の場合
+     */
+    protected static CatalogTagLookup of(@NonNull String className, @NonNull String tagDataType) {
+
+        if (!"String".equals(tagDataType) && !"Character".equals(tagDataType)) {
+            throw new IllegalArgumentException(
+                    String.format("The tag data type %s of %s does not support lookup.", tagDataType, className));
+        }
+
+        return new CatalogTagLookup(className, tagDataType);
+    }
+
+    /**
+     * 検索対象の列挙子を追加します。
+     *
+     * @param tag     タグ
+     * @param literal 列挙子のリテラル
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 同一のタグを持つ列挙子が既に追加されている場合
+     */
+    public CatalogTagLookup put(@NonNull String tag, @NonNull String literal) {
+
+        final String duplicateLiteral = this.literals.putIfAbsent(tag, literal);
+
+        if (duplicateLiteral != null) {
+            throw new IllegalArgumentException(String.format("The tag %s of %s is already used by %s in %s.", tag,
+                    literal, duplicateLiteral, super.getClassName()));
+        }
+
+        return this;
+    }
+
+    @Override
+    public void render(@NonNull StringBuilder resource) {
+
+        if (this.literals.isEmpty()) {
+            throw new IllegalStateException(String.format("No constant is defined in %s.", super.getClassName()));
+        }
+
+        if ("String".equals(this.tagDataType)) {
+            if (this.literals.size() <= SWITCH_THRESHOLD) {
+                this.renderSwitchLookup(resource, "String", '"');
+            } else {
+                this.renderHashLookup(resource);
+            }
+
+            return;
+        }
+
+        int minChar = Character.MAX_VALUE;
+        int maxChar = Character.MIN_VALUE;
+
+        for (String tag : this.literals.keySet()) {
+            if (tag.length() != 1) {
+                this.renderSwitchLookup(resource, "char", '\'');
+                return;
+            }
+
+            minChar = Math.min(minChar, tag.charAt(0));
+            maxChar = Math.max(maxChar, tag.charAt(0));
+        }
+
+        final int range = maxChar - minChar + 1;
+
+        if (range <= Math.max(SWITCH_THRESHOLD, 2 * this.literals.size())) {
+            this.renderArrayLookup(resource, minChar, range);
+        } else {
+            this.renderSwitchLookup(resource, "char", '\'');
+        }
+    }
+
+    /**
+     * 文字から添字を算出する配列で検索する {@code fromTag(char)} メソッドを出力します。
+     *
+     * @param resource 出力先のバッファ
+     * @param minChar  最小の文字
+     * @param length   配列の長さ
+     */
+    private void renderArrayLookup(StringBuilder resource, int minChar, int length) {
+
+        final String className = super.getClassName();
+
+        appendMethodDescription(resource, "tag");
+        resource.append("public static ").append(className).append(" fromTag(char tag) {\n");
+        resource.append("final int index = ").append(offsetOf("tag", minChar)).append(";\n\n");
+        resource.append("if (index < 0 || index >= TagLookup.CONSTANTS.length) {\nreturn null;\n}\n\n");
+        resource.append("return TagLookup.CONSTANTS[index];\n}\n\n");
+
+        appendHolderDescription(resource, "fromTag(char)");
+        resource.append("private static final class TagLookup {\n\n");
+        resource.append("/**\n * The constants indexed by tag.\n */\n");
+        resource.append("private static final ").append(className).append("[] CONSTANTS = new ").append(className)
+                .append('[').append(length).append("];\n\n");
+        resource.append("static {\nfor (").append(className).append(" constant : values()) {\n");
+        resource.append("CONSTANTS[").append(offsetOf("constant.getTag()", minChar)).append("] = constant;\n");
+        resource.append("}\n}\n}\n");
+    }
+
+    /**
+     * {@code switch} 文で検索する {@code fromTag} メソッドを出力します。
+     *
+     * @param resource      出力先のバッファ
+     * @param parameterType 引数のデータ型
+     * @param quote         タグのリテラルを囲む引用符
+     */
+    private void renderSwitchLookup(StringBuilder resource, String parameterType, char quote) {
+
+        appendMethodDescription(resource, "tag");
+        resource.append("public static ").append(super.getClassName()).append(" fromTag(").append(parameterType)
+                .append(" tag) {\n");
+
+        if ("String".equals(parameterType)) {
+            resource.append("if (tag == null) {\nreturn null;\n}\n\n");
+        }
+
+        resource.append("switch (tag) {\n");
+
+        this.literals.forEach((tag, literal) -> {
+            resource.append("case ").append(quote).append(tag).append(quote).append(":\nreturn ").append(literal)
+                    .append(";\n");
+        });
+
+        resource.append("default:\nreturn null;\n}\n}\n");
+    }
+
+    /**
+     * オープンアドレス法のハッシュテーブルで検索する {@code fromTag(String)} メソッドを出力します。
+     * <p>
+     * ハッシュテーブルの容量は列挙子の数の2倍以上の2の累乗とし、タグのハッシュ値に乗数を掛けた値の上位ビットを初期位置とする線形探索で衝突を解決します。
+     * 乗数は生成時のタグのハッシュ値から衝突が最小になるものを探索するため、衝突しない乗数が見つかった場合は完全ハッシュになります。
+     *
+     * @param resource 出力先のバッファ
+     */
+    private void renderHashLookup(StringBuilder resource) {
+
+        final String className = super.getClassName();
+        final int capacity = capacityOf(this.literals.size());
+        final int shift = shiftOf(capacity);
+        final String multiplier = String.format("0x%08X", this.findMultiplier(capacity, shift));
+
+        appendMethodDescription(resource, "tag");
+        resource.append("public static ").append(className).append(" fromTag(String tag) {\n");
+        resource.append("if (tag == null) {\nreturn null;\n}\n\n");
+        resource.append("int slot = (tag.hashCode() * ").append(multiplier).append(") >>> TagLookup.SHIFT;\n\n");
+        resource.append("while (TagLookup.CONSTANTS[slot] != null) {\n");
+        resource.append("if (TagLookup.TAGS[slot].equals(tag)) {\nreturn TagLookup.CONSTANTS[slot];\n}\n\n");
+        resource.append("slot = (slot + 1) & TagLookup.MASK;\n}\n\n");
+        resource.append("return null;\n}\n\n");
+
+        appendHolderDescription(resource, "fromTag(String)");
+        resource.append("private static final class TagLookup {\n\n");
+        resource.append("/**\n * The shift of the hash of a tag.\n */\n");
+        resource.append("private static final int SHIFT = ").append(shift).append(";\n\n");
+        resource.append("/**\n * The mask of a slot.\n */\n");
+        resource.append("private static final int MASK = ").append(capacity - 1).append(";\n\n");
+        resource.append("/**\n * The tags of the constants stored in slots.\n */\n");
+        resource.append("private static final String[] TAGS = new String[").append(capacity).append("];\n\n");
+        resource.append("/**\n * The constants stored in slots.\n */\n");
+        resource.append("private static final ").append(className).append("[] CONSTANTS = new ").append(className)
+                .append('[').append(capacity).append("];\n\n");
+        resource.append("static {\nfor (").append(className).append(" constant : values()) {\n");
+        resource.append("int slot = (constant.getTag().hashCode() * ").append(multiplier).append(") >>> SHIFT;\n\n");
+        resource.append("while (CONSTANTS[slot] != null) {\nslot = (slot + 1) & MASK;\n}\n\n");
+        resource.append("TAGS[slot] = constant.getTag();\nCONSTANTS[slot] = constant;\n");
+        resource.append("}\n}\n}\n");
+    }
+
+    /**
+     * タグのハッシュ値の衝突が最小になる乗数を探索し返却します。
+     * <p>
+     * 探索は容量から決まるシード値で行うため、同一のタグに対して常に同一の乗数を返却します。
+     *
+     * @param capacity ハッシュテーブルの容量
+     * @param shift    シフト数
+     * @return 衝突が最小になる乗数
+     */
+    private int findMultiplier(int capacity, int shift) {
+
+        final int[] hashes = this.literals.keySet().stream().mapToInt(String::hashCode).toArray();
+        final boolean[] used = new boolean[capacity];
+        final SplittableRandom random = new SplittableRandom(capacity);
+
+        int bestMultiplier = HASH_MULTIPLIER;
+        int bestCollisions = countCollisions(hashes, HASH_MULTIPLIER, shift, used);
+
+        for (int i = 0; i < MULTIPLIER_TRIALS && bestCollisions > 0; i++) {
+            final int multiplier = random.nextInt() | 1;
+            final int collisions = countCollisions(hashes, multiplier, shift, used);
+
+            if (collisions < bestCollisions) {
+                bestMultiplier = multiplier;
+                bestCollisions = collisions;
+            }
+        }
+
+        return bestMultiplier;
+    }
+
+    /**
+     * 引数として渡された乗数でハッシュテーブルの初期位置が衝突するタグの数を返却します。
+     *
+     * @param hashes     タグのハッシュ値
+     * @param multiplier 乗数
+     * @param shift      シフト数
+     * @param used       初期位置の使用状況を記録する作業領域
+     * @return 初期位置が衝突するタグの数
+     */
+    private static int countCollisions(int[] hashes, int multiplier, int shift, boolean[] used) {
+
+        Arrays.fill(used, false);
+        int collisions = 0;
+
+        for (int hash : hashes) {
+            final int slot = (hash * multiplier) >>> shift;
+
+            if (used[slot]) {
+                collisions++;
+            } else {
+                used[slot] = true;
+            }
+        }
+
+        return collisions;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.formatter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+import org.thinkit.generator.catalog.engine.dto.CatalogResourceGroup;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * カタログ定義リストを並列度の設定に従って処理し、生成されたカタログリソースを定義順に格納する処理を定義したクラスです。
+ * <p>
+ * 並列度が {@code 1} の場合は呼び出し元のスレッドで逐次処理し、それ以外の場合は呼び出しごとに生成する {@link ForkJoinPool}
+ * 上でカタログ定義リストを分割しながら並列に処理します。並列に処理した場合でも返却される {@link CatalogResourceGroup}
+ * の要素順はカタログ定義の定義順と同一です。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE, staticName = "of")
+final class CatalogBatchExecutor {
+
+    /**
+     * 逐次実行を表す並列度
+     */
+    static final int SEQUENTIAL = 1;
+
+    /**
+     * 並列実行時にワーカースレッドあたりへ割り当てるタスク数の目安
+     */
+    private static final int TASKS_PER_WORKER = 8;
+
+    /**
+     * カタログ定義ごとのリソース生成処理を実行する並列度
+     */
+    private final int parallelism;
+
+    /**
+     * 引数として渡されたカタログ定義リストを並列度の設定に従って処理し、カタログ定義の定義順に格納された {@link CatalogResourceGroup}
+     * を返却します。
+     *
+     * @param catalogDefinitions カタログ定義リスト
+     * @param renderer           カタログ定義を基にカタログリソースを生成する処理
+     * @return カタログ定義の定義順に生成されたリソースが格納された {@link CatalogResourceGroup}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    CatalogResourceGroup execute(@NonNull List<CatalogDefinition> catalogDefinitions,
+            @NonNull Function<CatalogDefinition, CatalogResource> renderer) {
+
+        if (this.parallelism == SEQUENTIAL || catalogDefinitions.size() <= 1) {
+            final CatalogResourceGroup resources = CatalogResourceGroup.of(catalogDefinitions.size());
+
+            catalogDefinitions.forEach(catalogDefinition -> {
+                resources.add(renderer.apply(catalogDefinition));
+            });
+
+            return resources;
+        }
+
+        return this.executeInParallel(catalogDefinitions, renderer);
+    }
+
+    /**
+     * 引数として渡されたカタログ定義リストを {@link ForkJoinPool} 上で並列に処理し、カタログ定義の定義順に格納された
+     * {@link CatalogResourceGroup} を返却します。
+     * <p>
+     * {@link ForkJoinPool} は呼び出しごとに生成し、処理終了後に破棄します。
+     *
+     * @param catalogDefinitions カタログ定義リスト
+     * @param renderer           カタログ定義を基にカタログリソースを生成する処理
+     * @return カタログ定義の定義順に生成されたリソースが格納された {@link CatalogResourceGroup}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private CatalogResourceGroup executeInParallel(@NonNull List<CatalogDefinition> catalogDefinitions,
+            @NonNull Function<CatalogDefinition, CatalogResource> renderer) {
+
+        final int size = catalogDefinitions.size();
+        final CatalogResource[] catalogResources = new CatalogResource[size];
+        final int threshold = Math.max(1, size / (this.parallelism * TASKS_PER_WORKER));
+
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(this.parallelism);
+
+        try {
+            forkJoinPool.invoke(
+                    new CatalogResourceTask(renderer, catalogDefinitions, catalogResources, 0, size, threshold));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        return CatalogResourceGroup.of(Arrays.asList(catalogResources));
+    }
+
+    /**
+     * カタログ定義リストの指定範囲を分割しながらリソースを生成するタスクです。
+     * <p>
+     * 生成されたリソースはカタログ定義と同一のインデックスへ格納されるため、並列に処理した場合でも定義順が保持されます。
+     * 各タスクは互いに重複しない範囲へのみ書き込みを行います。
+     */
+    private static final class CatalogResourceTask extends RecursiveAction {
+
+        /**
+         * シリアルバージョンUID
+         */
+        private static final long serialVersionUID = -4218523006127405370L;
+
+        /**
+         * カタログ定義を基にカタログリソースを生成する処理
+         */
+        private final Function<CatalogDefinition, CatalogResource> renderer;
+
+        /**
+         * カタログ定義リスト
+         */
+        private final List<CatalogDefinition> catalogDefinitions;
+
+        /**
+         * 生成されたリソースの格納先
+         */
+        private final CatalogResource[] catalogResources;
+
+        /**
+         * 処理範囲の開始インデックス (この値を含む)
+         */
+        private final int from;
+
+        /**
+         * 処理範囲の終了インデックス (この値を含まない)
+         */
+        private final int to;
+
+        /**
+         * これ以上分割を行わない処理範囲の大きさ
+         */
+        private final int threshold;
+
+        /**
+         * コンストラクタ
+         *
+         * @param renderer           カタログ定義を基にカタログリソースを生成する処理
+         * @param catalogDefinitions カタログ定義リスト
+         * @param catalogResources   生成されたリソースの格納先
+         * @param from               処理範囲の開始インデックス (この値を含む)
+         * @param to                 処理範囲の終了インデックス (この値を含まない)
+         * @param threshold          これ以上分割を行わない処理範囲の大きさ
+         */
+        private CatalogResourceTask(Function<CatalogDefinition, CatalogResource> renderer,
+                List<CatalogDefinition> catalogDefinitions, CatalogResource[] catalogResources, int from, int to,
+                int threshold) {
+            this.renderer = renderer;
+            this.catalogDefinitions = catalogDefinitions;
+            this.catalogResources = catalogResources;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (this.to - this.from <= this.threshold) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.catalogResources[i] = this.renderer.apply(this.catalogDefinitions.get(i));
+                }
+
+                return;
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+
+            invokeAll(
+                    new CatalogResourceTask(this.renderer, this.catalogDefinitions, this.catalogResources, this.from,
+                            middle, this.threshold),
+                    new CatalogResourceTask(this.renderer, this.catalogDefinitions, this.catalogResources, middle,
+                            this.to, this.threshold));
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.formatter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.dto.CatalogCreator;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogMeta;
+
+import lombok.NonNull;
+
+/**
+ * カタログ定義のフィンガープリントを算出する処理を定義したクラスです。
+ * <p>
+ * フィンガープリントは生成されるカタログリソースに影響するすべての情報から算出される SHA-256 のハッシュ値です。
+ * 算出対象にはカタログ定義の各項目に加え、カタログ作成者、著作権表記に出力される生成年、整形方式およびエンジンのバージョンが含まれます。
+ * 整形方式を指定しない場合は {@link FormatMode#STRICT_GJF} で整形されるものとして算出します。
+ * 同一の入力に対しては JVM や実行環境に関係なく常に同一の値を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class CatalogFingerprint {
+
+    /**
+     * 実行環境からエンジンのバージョンを取得できなかった場合のバージョン
+     */
+    private static final String UNKNOWN_ENGINE_VERSION = "development";
+
+    /**
+     * エンジンのバージョン
+     */
+    private static final String ENGINE_VERSION = resolveEngineVersion();
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private CatalogFingerprint() {
+    }
+
+    /**
+     * エンジンのバージョンを返却します。
+     * <p>
+     * エンジンのバージョンは JAR マニフェストの {@code Implementation-Version} から取得します。
+     * マニフェストから取得できない場合は {@code "development"} を返却します。
+     *
+     * @return エンジンのバージョン
+     */
+    public static String getEngineVersion() {
+        return ENGINE_VERSION;
+    }
+
+    /**
+     * 引数として渡されたカタログ作成者およびカタログ定義から算出したフィンガープリントを16進数表記の文字列で返却します。
+     *
+     * @param catalogCreator    カタログ作成者
+     * @param catalogDefinition カタログ定義
+     * @return 16進数表記のフィンガープリント
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static String of(@NonNull CatalogCreator catalogCreator, @NonNull CatalogDefinition catalogDefinition) {
+        return of(catalogCreator.getCreator(), catalogDefinition);
+    }
+
+    /**
+     * 引数として渡された作成者およびカタログ定義から算出したフィンガープリントを16進数表記の文字列で返却します。
+     *
+     * @param creator           作成者
+     * @param catalogDefinition カタログ定義
+     * @return 16進数表記のフィンガープリント
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static String of(@NonNull String creator, @NonNull CatalogDefinition catalogDefinition) {
+        return of(creator, catalogDefinition, FormatMode.STRICT_GJF);
+    }
+
+    /**
+     * 引数として渡された作成者、カタログ定義および整形方式から算出したフィンガープリントを16進数表記の文字列で返却します。
+     *
+     * @param creator           作成者
+     * @param catalogDefinition カタログ定義
+     * @param formatMode        整形方式
+     * @return 16進数表記のフィンガープリント
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static String of(@NonNull String creator, @NonNull CatalogDefinition catalogDefinition,
+            @NonNull FormatMode formatMode) {
+
+        final Hasher hasher = Hashing.sha256().newHasher();
+
+        putString(hasher, ENGINE_VERSION);
+        hasher.putInt(formatMode.getCode());
+        hasher.putInt(LocalDate.now().getYear());
+        putString(hasher, creator);
+
+        final CatalogMeta catalogMeta = catalogDefinition.getCatalogMeta();
+        putString(hasher, catalogMeta.getVersion());
+        hasher.putInt(catalogMeta.getCatalogType().getCode());
+        putString(hasher, catalogMeta.getLombokState().name());
+        putStrings(hasher, catalogMeta.getDependentPackages());
+        hasher.putBoolean(catalogMeta.isCodeLookup());
+        hasher.putBoolean(catalogMeta.isTagLookup());
+        hasher.putBoolean(catalogMeta.isPrimitiveTag());
+        hasher.putInt(catalogMeta.getScalingMode().getCode());
+
+        putString(hasher, catalogDefinition.getPackageName());
+        putString(hasher, catalogDefinition.getClassName());
+        putString(hasher, catalogDefinition.getTagDataType());
+
+        hasher.putInt(catalogDefinition.getCatalogEnumerations().size());
+        catalogDefinition.getCatalogEnumerations().forEach(catalogEnumeration -> {
+            putString(hasher, catalogEnumeration.getLiteral());
+            hasher.putInt(catalogEnumeration.getCode());
+            putString(hasher, catalogEnumeration.getTag());
+            putString(hasher, catalogEnumeration.getDescription());
+        });
+
+        hasher.putInt(catalogDefinition.getCatalogFields().size());
+        catalogDefinition.getCatalogFields().forEach(catalogField -> {
+            putString(hasher, catalogField.getVariableName());
+            putString(hasher, catalogField.getDataType());
+            putString(hasher, catalogField.getDescription());
+        });
+
+        return hasher.hash().toString();
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の完全修飾名を返却します。
+     *
+     * @param catalogDefinition カタログ定義
+     * @return カタログ定義の完全修飾名
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static String qualifiedNameOf(@NonNull CatalogDefinition catalogDefinition) {
+        return String.format("%s.%s", catalogDefinition.getPackageName(), catalogDefinition.getClassName());
+    }
+
+    /**
+     * 文字列をバイト長とともにハッシュ計算の入力へ追加します。
+     * <p>
+     * バイト長を先行して追加することで、隣接する文字列の境界が異なる入力から同一のハッシュ値が算出されることを防ぎます。
+     *
+     * @param hasher ハッシュ計算
+     * @param value  追加する文字列
+     */
+    private static void putString(Hasher hasher, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        hasher.putInt(bytes.length).putBytes(bytes);
+    }
+
+    /**
+     * 文字列リストを要素数とともにハッシュ計算の入力へ追加します。
+     *
+     * @param hasher ハッシュ計算
+     * @param values 追加する文字列リスト
+     */
+    private static void putStrings(Hasher hasher, List<String> values) {
+        hasher.putInt(values.size());
+        values.forEach(value -> putString(hasher, value));
+    }
+
+    /**
+     * JAR マニフェストからエンジンのバージョンを取得し返却します。
+     *
+     * @return エンジンのバージョン
+     */
+    private static String resolveEngineVersion() {
+        final String version = CatalogFingerprint.class.getPackage().getImplementationVersion();
+        return version == null ? UNKNOWN_ENGINE_VERSION : version;
+    }
+}
@@ -14,12 +14,32 @@
 
 package org.thinkit.generator.catalog.engine.formatter;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 import org.apache.commons.lang3.StringUtils;
-import org.thinkit.framework.content.ContentInvoker;
-import org.thinkit.framework.envali.Envali;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.generator.catalog.engine.cache.CatalogChangeDetector;
+import org.thinkit.generator.catalog.engine.cache.CatalogRenderCache;
 import org.thinkit.generator.catalog.engine.catalog.CatalogType;
-import org.thinkit.generator.catalog.engine.content.CatalogPackageLoader;
-import org.thinkit.generator.catalog.engine.content.LombokPackageLoader;
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.catalog.GenerationStage;
+import org.thinkit.generator.catalog.engine.content.CatalogContentRegistry;
+import org.thinkit.generator.catalog.engine.content.entity.CatalogPackage;
+import org.thinkit.generator.catalog.engine.content.entity.LombokPackage;
+import org.thinkit.generator.catalog.engine.dto.CatalogChangeSet;
 import org.thinkit.generator.catalog.engine.dto.CatalogCreator;
 import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
 import org.thinkit.generator.catalog.engine.dto.CatalogEnumeration;
@@ -28,7 +48,23 @@ import org.thinkit.generator.catalog.engine.dto.CatalogMatrix;
 import org.thinkit.generator.catalog.engine.dto.CatalogMeta;
 import org.thinkit.generator.catalog.engine.dto.CatalogResource;
 import org.thinkit.generator.catalog.engine.dto.CatalogResourceGroup;
+import org.thinkit.generator.catalog.engine.dto.CatalogValidator;
+import org.thinkit.generator.catalog.engine.event.CatalogDefinitionRenderEvent;
+import org.thinkit.generator.catalog.engine.event.CatalogMatrixFormatEvent;
+import org.thinkit.generator.catalog.engine.event.CatalogSourceFormatEvent;
+import org.thinkit.generator.catalog.engine.event.ContentLookupEvent;
+import org.thinkit.generator.catalog.engine.factory.CatalogClassBody;
+import org.thinkit.generator.catalog.engine.factory.CatalogCodeLookup;
+import org.thinkit.generator.catalog.engine.factory.CatalogMember;
+import org.thinkit.generator.catalog.engine.factory.CatalogRenderPlan;
 import org.thinkit.generator.catalog.engine.factory.CatalogResourceFactory;
+import org.thinkit.generator.catalog.engine.factory.CatalogSideTable;
+import org.thinkit.generator.catalog.engine.factory.CatalogTagAccessor;
+import org.thinkit.generator.catalog.engine.factory.CatalogTagLookup;
+import org.thinkit.generator.catalog.engine.metrics.GenerationListener;
+import org.thinkit.generator.catalog.engine.sink.CatalogResourceSink;
+import org.thinkit.generator.catalog.engine.sink.CatalogSinkDispatcher;
+import org.thinkit.generator.catalog.engine.strategy.CatalogFormatStrategy;
 import org.thinkit.generator.common.duke.catalog.AnnotationPattern;
 import org.thinkit.generator.common.duke.catalog.LombokState;
 import org.thinkit.generator.common.duke.catalog.Modifier;
@@ -50,8 +86,10 @@ import org.thinkit.generator.common.duke.factory.Resource;
 import org.thinkit.generator.common.duke.factory.ResourceFactory;
 import org.thinkit.generator.common.duke.formatter.JavaResourceFormatter;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.ToString;
 
@@ -63,6 +101,12 @@ import lombok.ToString;
  * クラスの新しいインスタンスを生成した後は {@link #format(CatalogMatrix)}
  * メソッドを呼び出し整形処理を行ってください。整形処理が正常終了した場合は生成されたリソースが格納された
  * {@link CatalogResourceGroup} が返却されます。
+ * <p>
+ * {@link #builder()} メソッドから並列度を指定して生成した場合は、カタログ定義ごとのリソース生成処理を
+ * {@link ForkJoinPool} 上で並列に実行します。並列に実行した場合でも返却される {@link CatalogResourceGroup}
+ * の要素順はカタログ定義の定義順と同一です。
+ * {@link CatalogResourceFactory} は状態を持たず、各ファクトリー製品はカタログ定義ごとに生成されワーカースレッド間で共有されないため、
+ * 並列実行時にスレッド間で可変な状態が共有されることはありません。
  *
  * <pre>
  * 操作例:
@@ -76,99 +120,924 @@ import lombok.ToString;
  * </code>
  * </pre>
  *
+ * <pre>
+ * 並列実行の操作例:
+ * <code>
+ * CatalogResourceFormatter.builder().parallelism(32).build().format(catalogMatrix);
+ * </code>
+ * </pre>
+ * <p>
+ * {@link #format(CatalogMatrix, CatalogResourceSink)} メソッドを使用した場合は、カタログ定義ごとに1つの仮想スレッドを割り当て、
+ * リソースの生成から整形、シンクへの書き込みまでを実行します。CPU負荷の高いリソースの生成および整形処理は並列度と同数の
+ * プラットフォームスレッドを持つスレッドプール上で実行されるため、同時に実行される整形処理の数は並列度を超えません。
+ *
+ * <pre>
+ * 仮想スレッドによる出力の操作例:
+ * <code>
+ * CatalogResourceFormatter.builder().parallelism(8).build().format(catalogMatrix, catalogResourceSink);
+ * </code>
+ * </pre>
+ * <p>
+ * {@link #format(CatalogCreator, Stream, Consumer)} メソッドおよび {@link #format(CatalogCreator, Iterator, Consumer)}
+ * メソッドを使用した場合は、カタログ定義を1件ずつ処理し、生成されたカタログリソースを生成直後に引数として渡された
+ * {@link Consumer} へ渡します。生成されたリソースを {@link CatalogResourceGroup} へ蓄積しないため、
+ * カタログ定義の件数に関係なく使用するメモリ量は一定です。
+ *
+ * <pre>
+ * ストリーミングの操作例:
+ * <code>
+ * CatalogResourceFormatter.newInstance().format(catalogCreator, catalogDefinitions, catalogResource -> {
+ *      // do something like
+ *      write(catalogResource);
+ * });
+ * </code>
+ * </pre>
+ * <p>
+ * {@link #publish(CatalogCreator, Flow.Publisher)} メソッドを使用した場合は、カタログ定義を発行する {@link Flow.Publisher}
+ * を基にカタログリソースを発行する {@link Flow.Publisher} を生成します。カタログ定義は購読者が
+ * {@link Flow.Subscription#request(long)} で要求した件数だけ上流から取り出されるため、購読者が処理速度を制御することができます。
+ * <p>
+ * {@link #formatIncrementally(CatalogMatrix, Map)} メソッドを使用した場合は、前回の生成時から変更されたカタログ定義のみを再生成し、
+ * 変更、未変更および削除されたカタログを {@link CatalogChangeSet} に格納して返却します。
+ * <p>
+ * {@link #builder()} メソッドから {@link CatalogRenderCache} を指定して生成した場合は、カタログ定義のフィンガープリントをキーとして
+ * 整形済みのリソースをキャッシュから取得し、キャッシュに存在しないカタログ定義のみを生成および整形します。
+ * <p>
+ * {@link #builder()} メソッドから {@link FormatMode} を指定して生成した場合は、組み立てられたリソースを指定された方式で整形します。
+ * デフォルトの {@link FormatMode#STRICT_GJF} はリソースごとに google-java-format のフォーマッターを生成して整形します。
+ * {@link FormatMode#SHARED_GJF} は共有されたフォーマッターを使用して同一の結果を出力し、 {@link FormatMode#NONE}
+ * は整形を行わず組み立てたリソースをそのまま出力します。 {@link FormatMode#NATIVE_AOSP} は構文解析を行わずに AOSP
+ * スタイルで整形し、 {@link FormatMode#VERIFIED_AOSP} はその結果が google-java-format の整形結果と一致することを検証します。
+ *
+ * <pre>
+ * 整形方式を指定した操作例:
+ * <code>
+ * CatalogResourceFormatter.builder().formatMode(FormatMode.SHARED_GJF).build().format(catalogMatrix);
+ * </code>
+ * </pre>
+ * <p>
+ * パッケージ名、クラス名および列挙子以外が同一のカタログ定義は同一の形状を持つものとして扱い、形状ごとに1度だけクラスの骨格を
+ * {@link CatalogRenderPlan} へ変換します。2件目以降のカタログ定義はレンダープランの差し込み位置へカタログ定義ごとの値のみを出力するため、
+ * リソースの組み立てに要する処理量はクラスの構造ではなく列挙子の件数に比例します。レンダープランはインスタンスごとに保持されます。
+ * <p>
+ * このクラスはカタログ定義ごとのリソースの組み立てと整形を担い、複数のカタログ定義の実行方式はそれぞれの協調クラスへ委譲します。
+ * 並列度に従った実行は {@code CatalogBatchExecutor} 、シンクへの書き込みは {@link CatalogSinkDispatcher} 、ストリーミングは
+ * {@code CatalogResourceStreamer} 、 {@link Flow.Publisher} による発行は {@code CatalogResourcePublisher} 、
+ * 差分生成の分類は {@link CatalogChangeDetector} 、キャッシュの参照は {@link CatalogRenderCache} が行います。
+ * <p>
+ * 入力値は {@link CatalogValidator} によりリフレクションを使用せずに検証されます。不正な値を検出した場合は、不正な値までのパスを含む
+ * {@link IllegalArgumentException} が送出されます。
+ * <p>
+ * {@link #builder()} メソッドから {@link GenerationListener} を指定して生成した場合は、入力値の検証、コンテンツの参照、組み立て、
+ * 出力および整形の段階ごと、ならびにカタログ定義ごとの経過時間をナノ秒単位でリスナーへ通知します。
+ * リスナーを指定しない場合は経過時間を計測しません。
+ * <p>
+ * 生成処理は {@link CatalogMatrixFormatEvent} 、 {@link CatalogDefinitionRenderEvent} 、 {@link CatalogSourceFormatEvent}
+ * および {@link ContentLookupEvent} として Java Flight Recorder へ記録されます。イベントの値は記録が有効な場合のみ算出されます。
+ *
+ * <pre>
+ * 計測結果を集計する操作例:
+ * <code>
+ * GenerationRecorder recorder = GenerationRecorder.newInstance();
+ * CatalogResourceFormatter.builder().generationListener(recorder).build().format(catalogMatrix);
+ * recorder.report().getSlowestDefinitions();
+ * </code>
+ * </pre>
+ *
  * @author Kato Shinya
  * @since 1.0.0
  */
 @ToString
 @EqualsAndHashCode
-@NoArgsConstructor(staticName = "newInstance")
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CatalogResourceFormatter implements JavaResourceFormatter<CatalogMatrix, CatalogResourceGroup> {
 
+    /**
+     * カタログ定義ごとのリソース生成処理を実行する並列度
+     */
+    @Builder.Default
+    private final int parallelism = CatalogBatchExecutor.SEQUENTIAL;
+
+    /**
+     * 整形済みのリソースを保持する永続キャッシュ ({@code null} の場合はキャッシュを使用しない)
+     */
+    private final CatalogRenderCache renderCache;
+
+    /**
+     * 組み立てられたリソースの整形方式
+     */
+    @Builder.Default
+    private final FormatMode formatMode = FormatMode.STRICT_GJF;
+
+    /**
+     * 生成処理の計測結果の通知先 ({@code null} の場合は計測しない)
+     */
+    private final GenerationListener generationListener;
+
+    /**
+     * カタログ定義の形状ごとのレンダープラン
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<CatalogShape, CatalogRenderPlan> renderPlans = new ConcurrentHashMap<>();
+
+    /**
+     * カタログ定義ごとのリソース生成処理を逐次実行する {@link CatalogResourceFormatter} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @return {@link CatalogResourceFormatter} クラスの新しいインスタンス
+     */
+    public static CatalogResourceFormatter newInstance() {
+        return builder().build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @exception IllegalArgumentException 並列度に {@code 1} 未満の値が設定されている場合
+     */
     @Override
     public CatalogResourceGroup format(@NonNull CatalogMatrix catalogMatrix) {
-        Envali.validate(catalogMatrix);
+
+        final CatalogMatrixFormatEvent event = new CatalogMatrixFormatEvent();
+        event.begin();
+
+        this.checkParallelism();
+        this.validate(catalogMatrix, null);
 
         final CatalogCreator catalogCreator = catalogMatrix.getCatalogCreator();
-        final String creator = catalogCreator.getCreator();
+        final List<CatalogDefinition> catalogDefinitions = catalogMatrix.getCatalogDefinitions();
+        final CatalogResourceGroup catalogResourceGroup = this.createCatalogResources(catalogCreator.getCreator(),
+                catalogDefinitions);
 
-        final ResourceFactory factory = CatalogResourceFactory.getInstance();
-        final Copyright copyright = factory.createCopyright(creator);
+        this.commit(event, catalogDefinitions, catalogResourceGroup);
 
-        final CatalogResourceGroup resources = CatalogResourceGroup.newInstance();
+        return catalogResourceGroup;
+    }
 
-        catalogMatrix.getCatalogDefinitions().forEach(catalogDefinition -> {
-            resources.add(this.createCatalogResource(copyright, creator, catalogDefinition));
-        });
+    /**
+     * {@link CatalogMatrix} クラスに格納されたカタログ定義のうち、前回の生成時から変更されたカタログ定義のみを対象にカタログリソースを生成します。
+     * <p>
+     * カタログ定義ごとに {@link CatalogFingerprint#of(String, CatalogDefinition, FormatMode)} でフィンガープリントを算出し、
+     * {@code previousFingerprints} に格納された前回のフィンガープリントと一致しないカタログ定義のみを再生成します。
+     * {@code previousFingerprints} には前回の生成結果として返却された {@link CatalogChangeSet#getFingerprints()}
+     * の内容を渡してください。初回の生成時は空のマップを渡すことですべてのカタログ定義が生成されます。
+     * <p>
+     * 再生成の処理は {@link #format(CatalogMatrix)} メソッドと同様に並列度の設定に従って実行されます。
+     *
+     * @param catalogMatrix        カタログマトリクス
+     * @param previousFingerprints 前回の生成時におけるカタログの完全修飾名とフィンガープリントのマップ
+     * @return 差分生成の結果
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 並列度に {@code 1} 未満の値が設定されている場合
+     */
+    public CatalogChangeSet formatIncrementally(@NonNull CatalogMatrix catalogMatrix,
+            @NonNull Map<String, String> previousFingerprints) {
+
+        final CatalogMatrixFormatEvent event = new CatalogMatrixFormatEvent();
+        event.begin();
+
+        this.checkParallelism();
+        this.validate(catalogMatrix, null);
+
+        final CatalogCreator catalogCreator = catalogMatrix.getCatalogCreator();
+        final CatalogChangeDetector changeDetector = CatalogChangeDetector.of(catalogCreator.getCreator(),
+                this.formatMode, previousFingerprints, catalogMatrix.getCatalogDefinitions());
+        final List<CatalogDefinition> changedCatalogDefinitions = changeDetector.getChangedCatalogDefinitions();
+
+        final CatalogResourceGroup changedCatalogResources = this.createCatalogResources(catalogCreator.getCreator(),
+                changedCatalogDefinitions);
+
+        this.commit(event, changedCatalogDefinitions, changedCatalogResources);
+
+        return changeDetector.toChangeSet(changedCatalogResources);
+    }
+
+    /**
+     * 引数として渡されたカタログ定義のストリームを先頭から1件ずつ処理し、生成されたカタログリソースを定義順に {@code consumer}
+     * へ渡します。
+     * <p>
+     * カタログ定義はストリームから取り出された時点で検証されます。生成されたカタログリソースは {@code consumer}
+     * へ渡した後に保持しないため、ストリームの要素数に関係なく使用するメモリ量は一定です。ストリームはこのメソッドの中でクローズされません。
+     * 検証および計測は {@link #format(CatalogCreator, Iterator, Consumer)} メソッドと同一です。
+     *
+     * @param catalogCreator     カタログ作成者
+     * @param catalogDefinitions カタログ定義のストリーム
+     * @param consumer           生成されたカタログリソースの受け取り先
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 並列度に {@code 1} 未満の値が設定されている場合、入力値に不正な値が含まれる場合、
+     *                                     またはストリームが空の場合
+     */
+    public void format(@NonNull CatalogCreator catalogCreator, @NonNull Stream<CatalogDefinition> catalogDefinitions,
+            @NonNull Consumer<CatalogResource> consumer) {
+        this.format(catalogCreator, catalogDefinitions.iterator(), consumer);
+    }
+
+    /**
+     * 引数として渡されたカタログ定義のイテレーターを先頭から1件ずつ処理し、生成されたカタログリソースを定義順に {@code consumer}
+     * へ渡します。
+     * <p>
+     * カタログ定義はイテレーターから取り出された時点で検証されます。生成されたカタログリソースは {@code consumer}
+     * へ渡した後に保持しないため、イテレーターの要素数に関係なく使用するメモリ量は一定です。
+     * <p>
+     * 並列度の検証、入力値の検証および {@link CatalogMatrixFormatEvent} の記録は {@link #format(CatalogMatrix)} メソッドと同一に行われ、
+     * カタログ作成者およびカタログ定義はイテレーターの要素をカタログマトリクスのカタログ定義とした場合と同一のパスで検証されます。
+     * イテレーターが要素を持たない場合は、空のカタログマトリクスと同様に不正な値として扱います。
+     *
+     * @param catalogCreator     カタログ作成者
+     * @param catalogDefinitions カタログ定義のイテレーター
+     * @param consumer           生成されたカタログリソースの受け取り先
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 並列度に {@code 1} 未満の値が設定されている場合、入力値に不正な値が含まれる場合、
+     *                                     またはイテレーターが要素を持たない場合
+     */
+    public void format(@NonNull CatalogCreator catalogCreator, @NonNull Iterator<CatalogDefinition> catalogDefinitions,
+            @NonNull Consumer<CatalogResource> consumer) {
+        CatalogResourceStreamer.of(this, catalogCreator).stream(catalogDefinitions, consumer);
+    }
+
+    /**
+     * 引数として渡されたカタログ定義を基にカタログリソースを生成し返却します。
+     *
+     * @param catalogCreator    カタログ作成者
+     * @param catalogDefinition カタログ定義
+     * @return 生成されたカタログクラスのリソースが格納された {@link CatalogResource} オブジェクト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public CatalogResource format(@NonNull CatalogCreator catalogCreator,
+            @NonNull CatalogDefinition catalogDefinition) {
+        this.validate(catalogCreator, null);
+        this.validate(catalogDefinition, catalogDefinition);
+
+        return this.createCatalogResource(catalogCreator.getCreator(), catalogDefinition);
+    }
+
+    /**
+     * 引数として渡されたカタログ定義を基にしたカタログリソースの生成を {@code executor} 上で非同期に実行し、処理結果を表す
+     * {@link CompletionStage} を返却します。
+     * <p>
+     * 検証およびリソースの生成処理で発生した例外は返却された {@link CompletionStage} の例外として通知されます。
+     *
+     * @param catalogCreator    カタログ作成者
+     * @param catalogDefinition カタログ定義
+     * @param executor          リソースの生成処理を実行するエグゼキューター
+     * @return カタログリソースの生成処理の結果を表す {@link CompletionStage}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public CompletionStage<CatalogResource> formatAsync(@NonNull CatalogCreator catalogCreator,
+            @NonNull CatalogDefinition catalogDefinition, @NonNull Executor executor) {
+        return CompletableFuture.supplyAsync(() -> this.format(catalogCreator, catalogDefinition), executor);
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の {@link Flow.Publisher} を基に、生成されたカタログリソースを発行する
+     * {@link Flow.Publisher} を生成し返却します。
+     * <p>
+     * カタログリソースの生成処理は {@link ForkJoinPool#commonPool()} 上で非同期に実行されます。
+     *
+     * @param catalogCreator             カタログ作成者
+     * @param catalogDefinitionPublisher カタログ定義の発行元
+     * @return カタログリソースの発行元
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     *
+     * @see #publish(CatalogCreator, Flow.Publisher, Executor)
+     */
+    public Flow.Publisher<CatalogResource> publish(@NonNull CatalogCreator catalogCreator,
+            @NonNull Flow.Publisher<CatalogDefinition> catalogDefinitionPublisher) {
+        return this.publish(catalogCreator, catalogDefinitionPublisher, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の {@link Flow.Publisher} を基に、生成されたカタログリソースを発行する
+     * {@link Flow.Publisher} を生成し返却します。
+     * <p>
+     * 返却された {@link Flow.Publisher} は購読されるたびに {@code catalogDefinitionPublisher} を購読します。
+     * 購読者が要求した件数はそのまま上流へ要求されるため、生成中および未配信のカタログリソースの件数が購読者の要求件数を超えることはありません。
+     * カタログリソースの生成処理は {@code executor} 上で非同期に実行され、生成が完了した順序に関係なくカタログ定義の発行順で購読者へ配信されます。
+     * <p>
+     * いずれかのカタログ定義の処理に失敗した場合は上流の購読をキャンセルし、購読者へ例外を通知します。
+     *
+     * @param catalogCreator             カタログ作成者
+     * @param catalogDefinitionPublisher カタログ定義の発行元
+     * @param executor                   リソースの生成処理を実行するエグゼキューター
+     * @return カタログリソースの発行元
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public Flow.Publisher<CatalogResource> publish(@NonNull CatalogCreator catalogCreator,
+            @NonNull Flow.Publisher<CatalogDefinition> catalogDefinitionPublisher, @NonNull Executor executor) {
+        return CatalogResourcePublisher.of(this, catalogCreator, catalogDefinitionPublisher, executor);
+    }
+
+    /**
+     * {@link CatalogMatrix} クラスに格納されたリソース情報を基にカタログリソースを生成し、生成されたカタログリソースを引数として渡された
+     * {@link CatalogResourceSink} へ書き込みます。
+     * <p>
+     * カタログ定義ごとに1つの仮想スレッドを割り当て、生成から書き込みまでを実行します。リソースの生成および整形処理は並列度と同数の
+     * プラットフォームスレッドを持つスレッドプールへ委譲されるため、書き込み処理による待機中も整形処理の同時実行数は並列度に制限されます。
+     * 仮想スレッドを使用できない実行環境では、並列度の {@value CatalogSinkDispatcher#WRITERS_PER_WORKER} 倍のプラットフォームスレッドを持つスレッドプールで代替するため、
+     * カタログ定義の件数に関係なく生成されるスレッド数は一定です。
+     * <p>
+     * いずれかのカタログ定義の処理に失敗した場合は未完了の処理を中断し、最初に発生した例外を送出します。
+     * 引数として渡されたシンクはこのメソッドの中でクローズされません。
+     *
+     * @param catalogMatrix       カタログマトリクス
+     * @param catalogResourceSink カタログリソースの書き込み先
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 並列度に {@code 1} 未満の値が設定されている場合
+     * @exception UncheckedIOException     シンクへの書き込み処理で入出力エラーが発生した場合
+     * @exception IllegalStateException    処理が割り込まれた場合
+     */
+    public void format(@NonNull CatalogMatrix catalogMatrix, @NonNull CatalogResourceSink catalogResourceSink) {
+
+        final CatalogMatrixFormatEvent event = new CatalogMatrixFormatEvent();
+        event.begin();
+
+        this.checkParallelism();
+        this.validate(catalogMatrix, null);
+
+        final String creator = catalogMatrix.getCatalogCreator().getCreator();
+        final List<CatalogDefinition> catalogDefinitions = catalogMatrix.getCatalogDefinitions();
+
+        CatalogSinkDispatcher.of(this.parallelism).dispatch(catalogDefinitions,
+                catalogDefinition -> this.createCatalogResource(creator, catalogDefinition), catalogResourceSink);
+
+        this.commit(event, catalogDefinitions, null);
+    }
+
+    /**
+     * 引数として渡されたエンティティの入力値を検証し、経過時間を {@link GenerationStage#VALIDATION} として通知します。
+     *
+     * @param entity            検証対象のエンティティ
+     * @param catalogDefinition 検証対象に対応するカタログ定義 ({@code null} の場合はカタログ定義に紐付かない)
+     *
+     * @exception NullPointerException     {@code catalogDefinition} 以外の引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException エンティティに不正な値が含まれる場合
+     */
+    private void validate(@NonNull ValidatableEntity entity, CatalogDefinition catalogDefinition) {
+        final long startTime = this.startTimer();
+        CatalogValidator.validate(entity);
+        this.notifyStage(GenerationStage.VALIDATION, catalogDefinition, startTime);
+    }
+
+    /**
+     * 引数として渡された検証処理を実行し、経過時間を {@link GenerationStage#VALIDATION} として通知します。
+     *
+     * @param validation        {@link CatalogValidator} を使用した検証処理
+     * @param catalogDefinition 検証対象に対応するカタログ定義 ({@code null} の場合はカタログ定義に紐付かない)
+     *
+     * @exception NullPointerException     {@code catalogDefinition} 以外の引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 検証対象に不正な値が含まれる場合
+     */
+    void validate(@NonNull Runnable validation, CatalogDefinition catalogDefinition) {
+        final long startTime = this.startTimer();
+        validation.run();
+        this.notifyStage(GenerationStage.VALIDATION, catalogDefinition, startTime);
+    }
+
+    /**
+     * 引数として渡されたカタログマトリクス全体の処理を記録するイベントを終了し、記録が有効な場合はイベントの値を設定して記録します。
+     *
+     * @param event              カタログマトリクス全体の処理を記録するイベント
+     * @param catalogDefinitions 処理したカタログ定義リスト
+     * @param catalogResources   生成されたカタログリソース ({@code null} の場合は出力サイズを記録しない)
+     *
+     * @exception NullPointerException {@code catalogResources} 以外の引数として {@code null} が渡された場合
+     */
+    private void commit(@NonNull CatalogMatrixFormatEvent event, @NonNull List<CatalogDefinition> catalogDefinitions,
+            Collection<CatalogResource> catalogResources) {
+
+        event.end();
+
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        long enumerationCount = 0L;
+
+        for (CatalogDefinition catalogDefinition : catalogDefinitions) {
+            enumerationCount += catalogDefinition.getCatalogEnumerations().size();
+        }
+
+        long outputSize = 0L;
+
+        if (catalogResources != null) {
+            for (CatalogResource catalogResource : catalogResources) {
+                outputSize += utf8LengthOf(catalogResource.getResource());
+            }
+        }
+
+        this.commit(event, catalogDefinitions.size(), enumerationCount, outputSize);
+    }
+
+    /**
+     * 終了したカタログマトリクス全体の処理を記録するイベントへ集計済みの値を設定して記録します。
+     *
+     * @param event            終了したカタログマトリクス全体の処理を記録するイベント
+     * @param definitionCount  処理したカタログ定義の件数
+     * @param enumerationCount 処理した列挙子の件数
+     * @param outputSize       生成されたカタログリソースの UTF-8 でのバイト数
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    void commit(@NonNull CatalogMatrixFormatEvent event, int definitionCount, long enumerationCount,
+            long outputSize) {
+        event.setDefinitionCount(definitionCount);
+        event.setEnumerationCount(enumerationCount);
+        event.setFormatMode(this.formatMode.name());
+        event.setParallelism(this.parallelism);
+        event.setOutputSize(outputSize);
+        event.commit();
+    }
+
+    /**
+     * 計測の開始時刻を返却します。
+     *
+     * @return 計測の開始時刻 (ナノ秒) 、リスナーが設定されていない場合は {@code 0}
+     */
+    private long startTimer() {
+        return this.generationListener == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * 引数として渡された開始時刻からの経過時間を生成処理の段階の計測結果としてリスナーへ通知します。
+     * <p>
+     * リスナーが設定されていない場合は何も行いません。
+     *
+     * @param generationStage   完了した段階
+     * @param catalogDefinition 計測対象のカタログ定義 ({@code null} の場合はカタログ定義に紐付かない)
+     * @param startTime         計測の開始時刻 (ナノ秒)
+     */
+    private void notifyStage(@NonNull GenerationStage generationStage, CatalogDefinition catalogDefinition,
+            long startTime) {
+        if (this.generationListener != null) {
+            this.generationListener.onStage(generationStage,
+                    catalogDefinition == null ? null : CatalogFingerprint.qualifiedNameOf(catalogDefinition),
+                    System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * 引数として渡された文字列を UTF-8 で符号化した場合のバイト数を返却します。
+     * <p>
+     * 符号化した配列を生成せずに文字単位で算出します。
+     *
+     * @param resource 文字列
+     * @return UTF-8 で符号化した場合のバイト数
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static long utf8LengthOf(@NonNull String resource) {
+
+        long length = 0L;
+
+        for (int i = 0, size = resource.length(); i < size; i++) {
+            final char character = resource.charAt(i);
+
+            if (character < 0x80) {
+                length++;
+            } else if (character < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(character) && i + 1 < size
+                    && Character.isLowSurrogate(resource.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * 並列度の設定値を検証します。
+     *
+     * @exception IllegalArgumentException 並列度に {@code 1} 未満の値が設定されている場合
+     */
+    void checkParallelism() {
+        if (this.parallelism < CatalogBatchExecutor.SEQUENTIAL) {
+            throw new IllegalArgumentException(
+                    String.format("Parallelism must be greater than or equal to 1 but was %d.", this.parallelism));
+        }
+    }
 
-        return resources;
+    /**
+     * 引数として渡されたカタログ定義リストを並列度の設定に従って処理し、カタログ定義の定義順に格納された {@link CatalogResourceGroup}
+     * を返却します。
+     * <p>
+     * 逐次処理および並列処理の切り替えは {@link CatalogBatchExecutor} へ委譲します。
+     *
+     * @param creator            作成者
+     * @param catalogDefinitions カタログ定義リスト
+     * @return カタログ定義の定義順に生成されたリソースが格納された {@link CatalogResourceGroup}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private CatalogResourceGroup createCatalogResources(@NonNull String creator,
+            @NonNull List<CatalogDefinition> catalogDefinitions) {
+        return CatalogBatchExecutor.of(this.parallelism).execute(catalogDefinitions,
+                catalogDefinition -> this.createCatalogResource(creator, catalogDefinition));
     }
 
     /**
      * 引数として渡された情報を基にカタログクラスのリソースを生成し、生成されたリソースをデータクラス {@link CatalogResource}
      * に格納し返却します。
+     * <p>
+     * 著作権を含むすべてのファクトリー製品はこのメソッドの呼び出しごとに生成されるため、複数のスレッドから同時に呼び出すことができます。
+     * リスナーが設定されている場合は、生成に要した経過時間と生成されたリソースのバイト数を通知します。
+     * 生成処理は {@link CatalogDefinitionRenderEvent} として記録されます。
      *
-     * @param copyright         著作権
      * @param creator           作成者
      * @param catalogDefinition カタログ定義
      * @return 生成されたカタログクラスのリソースが格納された {@link CatalogResource} オブジェクト
      *
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
-    private CatalogResource createCatalogResource(@NonNull Copyright copyright, @NonNull String creator,
+    CatalogResource createCatalogResource(@NonNull String creator,
             @NonNull CatalogDefinition catalogDefinition) {
 
-        final String packageName = catalogDefinition.getPackageName();
-        final String className = catalogDefinition.getClassName();
+        final CatalogDefinitionRenderEvent event = new CatalogDefinitionRenderEvent();
+        event.begin();
+
+        final long startTime = this.startTimer();
+        final String resource = this.renderResource(creator, catalogDefinition);
+
+        if (this.generationListener != null) {
+            this.generationListener.onDefinition(CatalogFingerprint.qualifiedNameOf(catalogDefinition),
+                    System.nanoTime() - startTime, utf8LengthOf(resource));
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setCatalogDefinition(catalogDefinition);
+            event.setOutputSize(utf8LengthOf(resource));
+            event.commit();
+        }
+
+        return CatalogResource.builder().packageName(catalogDefinition.getPackageName())
+                .className(catalogDefinition.getClassName()).resource(resource).build();
+    }
+
+    /**
+     * 引数として渡された情報を基に整形済みのカタログクラスのリソースを返却します。
+     * <p>
+     * 永続キャッシュが設定されている場合はカタログ定義のフィンガープリントをキーとしてキャッシュを参照し、
+     * キャッシュに存在しない場合のみリソースを生成して生成結果をキャッシュへ追加します。
+     *
+     * @param creator           作成者
+     * @param catalogDefinition カタログ定義
+     * @return 整形済みのカタログクラスのリソース
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private String renderResource(@NonNull String creator, @NonNull CatalogDefinition catalogDefinition) {
+
+        if (this.renderCache == null) {
+            return this.createResource(creator, catalogDefinition);
+        }
+
+        return this.renderCache.computeIfAbsent(CatalogFingerprint.of(creator, catalogDefinition, this.formatMode),
+                () -> this.createResource(creator, catalogDefinition));
+    }
+
+    /**
+     * 引数として渡された情報を基にカタログクラスのリソースを生成し、整形済みのリソースを返却します。
+     * <p>
+     * カタログ定義の形状に対応するレンダープランが存在しない場合はレンダープランを生成し、
+     * レンダープランへカタログ定義ごとのパッケージ名、クラス名および列挙子を差し込んだリソースを整形します。
+     * 列挙子の値をサイドテーブルで保持する場合、列挙子はコンストラクタ引数なしで出力されます。
+     * リスナーが設定されている場合は、組み立て、出力および整形の経過時間をそれぞれ通知します。
+     * 整形処理は {@link CatalogSourceFormatEvent} として記録されます。
+     *
+     * @param creator           作成者
+     * @param catalogDefinition カタログ定義
+     * @return 整形済みのカタログクラスのリソース
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private String createResource(@NonNull String creator, @NonNull CatalogDefinition catalogDefinition) {
+
+        final long assemblyStartTime = this.startTimer();
+        final boolean sideTable = CatalogScaling.requiresSideTable(catalogDefinition);
+        final CatalogRenderPlan renderPlan = this.renderPlans.computeIfAbsent(
+                CatalogShape.of(creator, catalogDefinition),
+                shape -> this.compileRenderPlan(creator, catalogDefinition, sideTable));
+
+        final CatalogType catalogType = catalogDefinition.getCatalogMeta().getCatalogType();
+        final CatalogTagAccessor tagAccessor = this.createTagAccessor(catalogDefinition);
+        final List<CatalogEnumeration> catalogEnumerations = catalogDefinition.getCatalogEnumerations();
+        final List<Enumeration> enumerations = new ArrayList<>(catalogEnumerations.size());
+
+        catalogEnumerations.forEach(catalogEnumeration -> {
+            enumerations.add(sideTable ? this.createEnumeration(catalogEnumeration)
+                    : this.createEnumeration(catalogType, catalogDefinition, tagAccessor, catalogEnumeration));
+        });
+
+        final List<CatalogMember> members = this.createMembers(catalogDefinition, tagAccessor, sideTable);
+        this.notifyStage(GenerationStage.ASSEMBLY, catalogDefinition, assemblyStartTime);
+
+        final long renderingStartTime = this.startTimer();
+        final String resource = renderPlan.render(catalogDefinition.getPackageName(), catalogDefinition.getClassName(),
+                enumerations, members);
+        this.notifyStage(GenerationStage.RENDERING, catalogDefinition, renderingStartTime);
+
+        final CatalogSourceFormatEvent event = new CatalogSourceFormatEvent();
+        event.begin();
+
+        final long formattingStartTime = this.startTimer();
+        final String formattedResource = CatalogFormatStrategy.of(this.formatMode).format(resource);
+        this.notifyStage(GenerationStage.FORMATTING, catalogDefinition, formattingStartTime);
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setCatalogDefinition(catalogDefinition);
+            event.setFormatMode(this.formatMode.name());
+            event.setInputSize(utf8LengthOf(resource));
+            event.setOutputSize(utf8LengthOf(formattedResource));
+            event.commit();
+        }
+
+        return formattedResource;
+    }
+
+    /**
+     * 引数として渡されたカタログ定義のクラスボディの末尾に出力するメンバーの定義オブジェクトを生成し返却します。
+     * <p>
+     * 列挙子の値をサイドテーブルで保持する場合はサイドテーブルを先頭に出力し、続けてカタログメタで生成が指定された、値から列挙子を取得するメソッドを出力します。
+     * タグから列挙子を取得するメソッドはカタログ種別が {@link CatalogType#BI_CATALOG} の場合にのみ生成されます。
+     *
+     * @param catalogDefinition カタログ定義
+     * @param tagAccessor       プリミティブ型のタグのアクセサ ({@code null} の場合はタグをそのまま出力する)
+     * @param sideTable         列挙子の値をサイドテーブルで保持するか否か
+     * @return クラスボディの末尾に出力するメンバーの定義オブジェクトリスト
+     *
+     * @exception NullPointerException     {@code tagAccessor} 以外の引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 同一のコード値またはタグを持つ列挙子が定義されている場合、またはタグのデータ型が検索に対応していない場合
+     */
+    private List<CatalogMember> createMembers(@NonNull CatalogDefinition catalogDefinition,
+            CatalogTagAccessor tagAccessor, boolean sideTable) {
+
         final CatalogMeta catalogMeta = catalogDefinition.getCatalogMeta();
+        final List<CatalogMember> members = new ArrayList<>(3);
 
-        final ResourceFactory factory = CatalogResourceFactory.getInstance();
-        final Resource resource = factory.createResource(copyright, factory.createPackage(packageName),
-                this.createClassBody(creator, catalogDefinition, catalogMeta));
+        if (sideTable) {
+            members.add(this.createSideTable(catalogDefinition, tagAccessor));
+        }
+
+        if (catalogMeta.isCodeLookup()) {
+            members.add(this.createCodeLookup(catalogDefinition));
+        }
+
+        if (catalogMeta.isTagLookup() && catalogMeta.getCatalogType() == CatalogType.BI_CATALOG) {
+            members.add(this.createTagLookup(catalogDefinition));
+        }
+
+        return members;
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の列挙子の値を序数で参照するサイドテーブルの定義オブジェクトを生成し返却します。
+     * <p>
+     * カタログフィールドは列挙子のコンストラクタ引数と同様に、定義順にコード値、タグの値を保持する列として出力されます。
+     *
+     * @param catalogDefinition カタログ定義
+     * @param tagAccessor       プリミティブ型のタグのアクセサ ({@code null} の場合はタグをカタログフィールドのデータ型で保持する)
+     * @return 列挙子の値を序数で参照するサイドテーブルの定義オブジェクト
+     *
+     * @exception NullPointerException     {@code tagAccessor} 以外の引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException カタログフィールドの数が列挙子の値の数と一致しない場合
+     */
+    private CatalogSideTable createSideTable(@NonNull CatalogDefinition catalogDefinition,
+            CatalogTagAccessor tagAccessor) {
+
+        final CatalogType catalogType = catalogDefinition.getCatalogMeta().getCatalogType();
+        final List<CatalogField> catalogFields = catalogDefinition.getCatalogFields();
+        final int valueCount = catalogType == CatalogType.BI_CATALOG ? 2 : 1;
+
+        if (catalogFields.size() != valueCount) {
+            throw new IllegalArgumentException(String.format("%s must have %d fields to use a side table but has %d.",
+                    catalogDefinition.getClassName(), valueCount, catalogFields.size()));
+        }
+
+        final List<CatalogEnumeration> catalogEnumerations = catalogDefinition.getCatalogEnumerations();
+        final CatalogSideTable sideTable = ((CatalogResourceFactory) CatalogResourceFactory.getInstance())
+                .createSideTable(catalogEnumerations.size());
+
+        final List<String> codes = new ArrayList<>(catalogEnumerations.size());
+        catalogEnumerations.forEach(catalogEnumeration -> codes.add(String.valueOf(catalogEnumeration.getCode())));
+
+        final CatalogField codeField = catalogFields.get(0);
+        sideTable.put(codeField.getDataType(), codeField.getVariableName(), codes);
 
-        this.addDependentPackage(catalogMeta, resource);
+        if (catalogType == CatalogType.BI_CATALOG) {
+            final List<String> tags = new ArrayList<>(catalogEnumerations.size());
+            catalogEnumerations.forEach(catalogEnumeration -> {
+                tags.add(this.createTagLiteral(catalogDefinition, tagAccessor, catalogEnumeration.getTag()));
+            });
+
+            final CatalogField tagField = catalogFields.get(1);
+
+            if (tagAccessor != null && this.isTagField(tagField)) {
+                sideTable.put(tagField.getDataType(), tagField.getVariableName(), tags, tagAccessor);
+            } else {
+                sideTable.put(tagField.getDataType(), tagField.getVariableName(), tags);
+            }
+        }
+
+        return sideTable;
+    }
+
+    /**
+     * 引数として渡されたタグを列挙子のコンストラクタ引数と同一の形式のリテラルへ変換し返却します。
+     *
+     * @param catalogDefinition カタログ定義
+     * @param tagAccessor       プリミティブ型のタグのアクセサ ({@code null} の場合はタグをそのまま出力する)
+     * @param tag               タグ
+     * @return タグのリテラル
+     *
+     * @exception NullPointerException {@code tagAccessor} 以外の引数として {@code null} が渡された場合
+     */
+    private String createTagLiteral(@NonNull CatalogDefinition catalogDefinition, CatalogTagAccessor tagAccessor,
+            @NonNull String tag) {
+        return switch (this.getParameterDataType(catalogDefinition)) {
+            case STRING -> '"' + tag + '"';
+            case CHARACTER -> '\'' + tag + '\'';
+            default -> tagAccessor == null ? tag : tagAccessor.toTagValue(tag);
+        };
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の列挙子のコード値から列挙子を取得するメソッドの定義オブジェクトを生成し返却します。
+     *
+     * @param catalogDefinition カタログ定義
+     * @return コード値から列挙子を取得するメソッドの定義オブジェクト
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 同一のコード値を持つ列挙子が定義されている場合
+     */
+    private CatalogCodeLookup createCodeLookup(@NonNull CatalogDefinition catalogDefinition) {
+
+        final CatalogCodeLookup codeLookup = ((CatalogResourceFactory) CatalogResourceFactory.getInstance())
+                .createCodeLookup(catalogDefinition.getClassName());
+
+        catalogDefinition.getCatalogEnumerations().forEach(catalogEnumeration -> {
+            codeLookup.put(catalogEnumeration.getCode(), catalogEnumeration.getLiteral());
+        });
 
-        return CatalogResource.builder().packageName(packageName).className(className)
-                .resource(resource.createResource()).build();
+        return codeLookup;
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の列挙子のタグから列挙子を取得するメソッドの定義オブジェクトを生成し返却します。
+     *
+     * @param catalogDefinition カタログ定義
+     * @return タグから列挙子を取得するメソッドの定義オブジェクト
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 同一のタグを持つ列挙子が定義されている場合、またはタグのデータ型が検索に対応していない場合
+     */
+    private CatalogTagLookup createTagLookup(@NonNull CatalogDefinition catalogDefinition) {
+
+        final CatalogTagLookup tagLookup = ((CatalogResourceFactory) CatalogResourceFactory.getInstance())
+                .createTagLookup(catalogDefinition.getClassName(), catalogDefinition.getTagDataType());
+
+        catalogDefinition.getCatalogEnumerations().forEach(catalogEnumeration -> {
+            tagLookup.put(catalogEnumeration.getTag(), catalogEnumeration.getLiteral());
+        });
+
+        return tagLookup;
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の形状に対応するレンダープランを生成し返却します。
+     * <p>
+     * パッケージ名およびクラス名にプレースホルダーを設定し、プレースホルダーをリテラルと説明に持つ1件の列挙子を定義したカタログ定義から
+     * 整形前のリソースを生成してレンダープランへ変換します。
+     *
+     * @param creator           作成者
+     * @param catalogDefinition カタログ定義
+     * @param sideTable         列挙子の値をサイドテーブルで保持するか否か
+     * @return カタログ定義の形状に対応するレンダープラン
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private CatalogRenderPlan compileRenderPlan(@NonNull String creator, @NonNull CatalogDefinition catalogDefinition,
+            boolean sideTable) {
+
+        final CatalogDefinition skeleton = catalogDefinition.toBuilder()
+                .packageName(CatalogRenderPlan.PACKAGE_NAME_PLACEHOLDER)
+                .className(CatalogRenderPlan.CLASS_NAME_PLACEHOLDER)
+                .catalogEnumerations(List.of(CatalogEnumeration.builder()
+                        .literal(CatalogRenderPlan.ENUMERATION_PLACEHOLDER).code(0).tag("0")
+                        .description(CatalogRenderPlan.ENUMERATION_PLACEHOLDER).build()))
+                .build();
+
+        return CatalogRenderPlan.compile(this.assembleResource(creator, skeleton, sideTable));
+    }
+
+    /**
+     * 引数として渡された情報を基にカタログクラスのリソースを組み立て、整形前のリソースを返却します。
+     *
+     * @param creator           作成者
+     * @param catalogDefinition カタログ定義
+     * @param sideTable         列挙子の値をサイドテーブルで保持するか否か
+     * @return 整形前のカタログクラスのリソース
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private String assembleResource(@NonNull String creator, @NonNull CatalogDefinition catalogDefinition,
+            boolean sideTable) {
+
+        final CatalogMeta catalogMeta = catalogDefinition.getCatalogMeta();
+
+        final CatalogResourceFactory factory = (CatalogResourceFactory) CatalogResourceFactory.getInstance();
+        final Copyright copyright = factory.createCopyright(creator);
+        final Resource resource = factory.createResource(copyright,
+                factory.createPackage(catalogDefinition.getPackageName()),
+                this.createClassBody(creator, catalogDefinition, catalogMeta, sideTable),
+                CatalogFormatStrategy.of(FormatMode.NONE));
+
+        this.addDependentPackage(catalogMeta, resource, sideTable);
+
+        return resource.createResource();
     }
 
     /**
      * リソースに依存パッケージを追加します。
+     * <p>
+     * カタログ種別ごとのパッケージおよび Lombok のパッケージは {@link CatalogContentRegistry} にロード済みのコンテンツを使用します。
+     * 列挙子の値をサイドテーブルで保持する場合はフィールドを生成しないため、 Lombok のパッケージは追加されません。
+     * コンテンツの参照はカタログ定義の形状ごとに1度だけ実行されるため、経過時間はカタログ定義に紐付けずに通知し、
+     * {@link ContentLookupEvent} として記録します。
      *
      * @param catalogMeta カタログメタ
      * @param resource    リソース
+     * @param sideTable   列挙子の値をサイドテーブルで保持するか否か
      *
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
-    private void addDependentPackage(@NonNull CatalogMeta catalogMeta, @NonNull Resource resource) {
+    private void addDependentPackage(@NonNull CatalogMeta catalogMeta, @NonNull Resource resource,
+            boolean sideTable) {
 
         final ResourceFactory factory = CatalogResourceFactory.getInstance();
 
-        resource.add(factory.createDependentPackage(
-                ContentInvoker.of(CatalogPackageLoader.of(catalogMeta.getCatalogType())).invoke().getPackageName()));
+        final ContentLookupEvent event = new ContentLookupEvent();
+        event.begin();
+
+        final long startTime = this.startTimer();
+        final CatalogContentRegistry contentRegistry = CatalogContentRegistry.getInstance();
+        final CatalogPackage catalogPackage = contentRegistry.getCatalogPackage(catalogMeta.getCatalogType());
+        final List<LombokPackage> lombokPackages = catalogMeta.getLombokState() == LombokState.LOMBOK && !sideTable
+                ? contentRegistry.getLombokPackages()
+                : List.of();
+        this.notifyStage(GenerationStage.CONTENT_LOOKUP, null, startTime);
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setCatalogType(catalogMeta.getCatalogType().name());
+            event.setLombokState(catalogMeta.getLombokState().name());
+            event.setPackageCount(1 + lombokPackages.size());
+            event.commit();
+        }
+
+        resource.add(factory.createDependentPackage(catalogPackage.getPackageName()));
 
         catalogMeta.getDependentPackages().forEach(dependentPckage -> {
             resource.add(factory.createDependentPackage(dependentPckage));
         });
 
-        if (catalogMeta.getLombokState() == LombokState.LOMBOK) {
-            ContentInvoker.of(LombokPackageLoader.newInstance()).invoke().forEach(lombokPackage -> {
-                resource.add(factory.createDependentPackage(lombokPackage.getPackageName()));
-            });
-        }
+        lombokPackages.forEach(lombokPackage -> {
+            resource.add(factory.createDependentPackage(lombokPackage.getPackageName()));
+        });
     }
 
     /**
      * 引数として渡された情報を基にカタログクラスのボディ部オブジェクトを生成し返却します。
+     * <p>
+     * 列挙子の値をサイドテーブルで保持する場合は、コンストラクタ引数を持たない列挙子のみを生成します。
+     * フィールド、コンストラクタおよびGetterメソッドはカタログ定義ごとのサイドテーブルとして出力されます。
      *
      * @param creator           作成者
      * @param catalogDefinition カタログ定義
      * @param catalogMeta       カタログメタ
+     * @param sideTable         列挙子の値をサイドテーブルで保持するか否か
      * @return カタログクラスのボディ部オブジェクト
      *
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private ClassBody createClassBody(@NonNull String creator, @NonNull CatalogDefinition catalogDefinition,
-            @NonNull CatalogMeta catalogMeta) {
+            @NonNull CatalogMeta catalogMeta, boolean sideTable) {
 
         final String className = catalogDefinition.getClassName();
         final CatalogType catalogType = catalogMeta.getCatalogType();
@@ -179,8 +1048,18 @@ public final class CatalogResourceFormatter implements JavaResourceFormatter<Cat
 
         classBody.add(this.createInterface(catalogType, catalogDefinition));
 
+        if (sideTable) {
+            catalogDefinition.getCatalogEnumerations().forEach(catalogEnumeration -> {
+                classBody.add(this.createEnumeration(catalogEnumeration));
+            });
+
+            return classBody;
+        }
+
+        final CatalogTagAccessor tagAccessor = this.createTagAccessor(catalogDefinition);
+
         catalogDefinition.getCatalogEnumerations().forEach(catalogEnumeration -> {
-            classBody.add(this.createEnumeration(catalogType, catalogDefinition, catalogEnumeration));
+            classBody.add(this.createEnumeration(catalogType, catalogDefinition, tagAccessor, catalogEnumeration));
         });
 
         final LombokState lombokState = catalogMeta.getLombokState();
@@ -191,7 +1070,7 @@ public final class CatalogResourceFormatter implements JavaResourceFormatter<Cat
                 classBody.add(factory.createAnnotation(AnnotationPattern.LOMBOK_REQUIRED_ARGS_CONSTRUCTOR));
 
                 catalogDefinition.getCatalogFields().forEach(catalogField -> {
-                    classBody.add(this.createField(catalogField, lombokState));
+                    classBody.add(this.createField(catalogField, lombokState, tagAccessor));
                 });
             }
 
@@ -200,11 +1079,11 @@ public final class CatalogResourceFormatter implements JavaResourceFormatter<Cat
                         String.format("A constructor that generates the catalog {@link %s} .", className)));
 
                 catalogDefinition.getCatalogFields().forEach(catalogField -> {
-                    classBody.add(this.createField(catalogField, lombokState));
+                    classBody.add(this.createField(catalogField, lombokState, tagAccessor));
                     classBody.add(this.createGetterMethod(catalogField));
 
                     constructor.add(this.createDescriptionTag(catalogField));
-                    constructor.add(this.createParameter(catalogField));
+                    constructor.add(this.createParameter(catalogField, tagAccessor));
                     constructor.add(this.createConstructorProcess(catalogField));
                 });
 
@@ -212,9 +1091,70 @@ public final class CatalogResourceFormatter implements JavaResourceFormatter<Cat
             }
         }
 
+        if (tagAccessor != null) {
+            if (lombokState == LombokState.LOMBOK) {
+                tagAccessor.applyLombok();
+            }
+
+            ((CatalogClassBody) classBody).add(tagAccessor);
+        }
+
         return classBody;
     }
 
+    /**
+     * 引数として渡されたカタログ定義のタグをプリミティブ型のフィールドで保持する場合に、プリミティブ型のタグのアクセサを生成し返却します。
+     * <p>
+     * カタログ種別が {@link CatalogType#BI_CATALOG} でカタログメタでタグをプリミティブ型で保持することが指定され、
+     * タグのデータ型に対応するプリミティブ型とタグのフィールドが存在する場合にのみ生成されます。
+     *
+     * @param catalogDefinition カタログ定義
+     * @return プリミティブ型のタグのアクセサ。タグをプリミティブ型で保持しない場合は {@code null}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private CatalogTagAccessor createTagAccessor(@NonNull CatalogDefinition catalogDefinition) {
+
+        final CatalogMeta catalogMeta = catalogDefinition.getCatalogMeta();
+
+        if (!catalogMeta.isPrimitiveTag() || catalogMeta.getCatalogType() != CatalogType.BI_CATALOG
+                || !CatalogTagAccessor.supports(catalogDefinition.getTagDataType())) {
+            return null;
+        }
+
+        final boolean hasTagField = catalogDefinition.getCatalogFields().stream()
+                .anyMatch(catalogField -> this.isTagField(catalogField));
+
+        return hasTagField ? ((CatalogResourceFactory) CatalogResourceFactory.getInstance())
+                .createTagAccessor(catalogDefinition.getTagDataType()) : null;
+    }
+
+    /**
+     * 引数として渡されたカタログフィールドがタグのフィールドか判定します。
+     *
+     * @param catalogField カタログフィールド
+     * @return タグのフィールドの場合は {@code true} 、それ以外は {@code false}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private boolean isTagField(@NonNull CatalogField catalogField) {
+        return CatalogTagAccessor.TAG_VARIABLE_NAME.equals(catalogField.getVariableName());
+    }
+
+    /**
+     * 引数として渡されたカタログフィールドの宣言に使用するデータ型を返却します。
+     *
+     * @param catalogField カタログフィールド
+     * @param tagAccessor  プリミティブ型のタグのアクセサ ({@code null} の場合はカタログフィールドのデータ型を使用する)
+     * @return カタログフィールドの宣言に使用するデータ型
+     *
+     * @exception NullPointerException {@code tagAccessor} 以外の引数として {@code null} が渡された場合
+     */
+    private String getDataType(@NonNull CatalogField catalogField, CatalogTagAccessor tagAccessor) {
+        return tagAccessor != null && this.isTagField(catalogField) ? tagAccessor.getPrimitiveType()
+                : catalogField.getDataType();
+    }
+
     /**
      * 引数として渡された {@code catalogType} のカタログ種別から対応するインターフェースの定義オブジェクトを生成し返却します。
      *
@@ -246,13 +1186,16 @@ public final class CatalogResourceFormatter implements JavaResourceFormatter<Cat
      * 引数として渡された {@code catalogType} のカタログ種別から対応する列挙子の定義オブジェクトを生成し返却します。
      *
      * @param catalogType        カタログ種別
+     * @param catalogDefinition  カタログ定義
+     * @param tagAccessor        プリミティブ型のタグのアクセサ ({@code null} の場合はタグをそのまま出力する)
      * @param catalogEnumeration カタログ列挙子
      * @return {@code catalogType} のカタログ種別に対応する列挙子の定義オブジェクト
      *
-     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @exception NullPointerException {@code tagAccessor} 以外の引数として {@code null} が渡された場合
      */
     private Enumeration createEnumeration(@NonNull CatalogType catalogType,
-            @NonNull CatalogDefinition catalogDefinition, @NonNull CatalogEnumeration catalogEnumeration) {
+            @NonNull CatalogDefinition catalogDefinition, CatalogTagAccessor tagAccessor,
+            @NonNull CatalogEnumeration catalogEnumeration) {
 
         final ResourceFactory factory = CatalogResourceFactory.getInstance();
 
@@ -267,13 +1210,31 @@ public final class CatalogResourceFormatter implements JavaResourceFormatter<Cat
             case BI_CATALOG -> {
                 final EnumDefinition enumDefinition = factory.createEnumDefinition(catalogEnumeration.getLiteral())
                         .put(ParameterDataType.DEFAULT, catalogEnumeration.getCode())
-                        .put(this.getParameterDataType(catalogDefinition), catalogEnumeration.getTag());
+                        .put(this.getParameterDataType(catalogDefinition), tagAccessor == null
+                                ? catalogEnumeration.getTag()
+                                : tagAccessor.toTagValue(catalogEnumeration.getTag()));
                 yield factory.createEnumeration(enumDefinition,
                         factory.createDescription(catalogEnumeration.getDescription()));
             }
         };
     }
 
+    /**
+     * 引数として渡されたカタログ列挙子からコンストラクタ引数を持たない列挙子の定義オブジェクトを生成し返却します。
+     *
+     * @param catalogEnumeration カタログ列挙子
+     * @return コンストラクタ引数を持たない列挙子の定義オブジェクト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private Enumeration createEnumeration(@NonNull CatalogEnumeration catalogEnumeration) {
+
+        final ResourceFactory factory = CatalogResourceFactory.getInstance();
+
+        return factory.createEnumeration(factory.createEnumDefinition(catalogEnumeration.getLiteral()),
+                factory.createDescription(catalogEnumeration.getDescription()));
+    }
+
     /**
      * カタログタグのデータ型から引数のデータ型を取得し返却します。
      *
@@ -293,16 +1254,23 @@ public final class CatalogResourceFormatter implements JavaResourceFormatter<Cat
     /**
      * {@link CatalogField} クラスに格納されたリソース情報を基にカタログクラスのフィールドの定義オブジェクトを生成し返却します。
      *
+     * <p>
+     * タグをプリミティブ型で保持する場合、タグのフィールドはプリミティブ型で宣言され、インターフェースの {@code getTag()}
+     * メソッドと戻り値の型が一致しないため {@code @Getter} は付与されません。
+     *
      * @param catalogField カタログフィールド
      * @param lombokState  Lombok適用状態
+     * @param tagAccessor  プリミティブ型のタグのアクセサ ({@code null} の場合はカタログフィールドのデータ型を使用する)
      * @return フィールドオブジェクト
      *
-     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @exception NullPointerException {@code tagAccessor} 以外の引数として {@code null} が渡された場合
      */
-    private Field createField(@NonNull CatalogField catalogField, @NonNull LombokState lombokState) {
+    private Field createField(@NonNull CatalogField catalogField, @NonNull LombokState lombokState,
+            CatalogTagAccessor tagAccessor) {
 
         final ResourceFactory factory = CatalogResourceFactory.getInstance();
-        final FieldDefinition fieldDefinition = factory.createFieldDefinition(catalogField.getDataType(),
+        final String dataType = this.getDataType(catalogField, tagAccessor);
+        final FieldDefinition fieldDefinition = factory.createFieldDefinition(dataType,
                 catalogField.getVariableName());
         final Field field = factory.createField(fieldDefinition,
                 factory.createDescription(catalogField.getDescription()));
@@ -311,7 +1279,9 @@ public final class CatalogResourceFormatter implements JavaResourceFormatter<Cat
             fieldDefinition.applyLombok();
             field.applyLombok();
 
-            field.add(factory.createAnnotation(AnnotationPattern.LOMBOK_GETTER));
+            if (dataType.equals(catalogField.getDataType())) {
+                field.add(factory.createAnnotation(AnnotationPattern.LOMBOK_GETTER));
+            }
         }
 
         return field;
@@ -334,12 +1304,13 @@ public final class CatalogResourceFormatter implements JavaResourceFormatter<Cat
      * {@link CatalogField} クラスに格納されたリソース情報を基に引数オブジェクトを生成し返却します。
      *
      * @param catalogField カタログフィールド
+     * @param tagAccessor  プリミティブ型のタグのアクセサ ({@code null} の場合はカタログフィールドのデータ型を使用する)
      * @return 引数オブジェクト
      *
-     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @exception NullPointerException {@code tagAccessor} 以外の引数として {@code null} が渡された場合
      */
-    private Parameter createParameter(@NonNull CatalogField catalogField) {
-        return CatalogResourceFactory.getInstance().createParameter(catalogField.getDataType(),
+    private Parameter createParameter(@NonNull CatalogField catalogField, CatalogTagAccessor tagAccessor) {
+        return CatalogResourceFactory.getInstance().createParameter(this.getDataType(catalogField, tagAccessor),
                 catalogField.getVariableName());
     }
 
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.formatter;
+
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.thinkit.generator.catalog.engine.dto.CatalogCreator;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * カタログ定義の {@link Flow.Publisher} を基に、生成されたカタログリソースを発行する {@link Flow.Publisher} です。
+ * <p>
+ * 購読されるたびに上流のカタログ定義の発行元を購読し、購読者が要求した件数と同数のカタログ定義を上流へ要求します。
+ * カタログリソースの生成は {@link CatalogResourceFormatter#formatAsync(CatalogCreator, CatalogDefinition, Executor)}
+ * を使用して非同期に実行し、カタログ定義の発行順で購読者へ配信します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE, staticName = "of")
+final class CatalogResourcePublisher implements Flow.Publisher<CatalogResource> {
+
+    /**
+     * カタログリソースフォーマッター
+     */
+    @NonNull
+    private final CatalogResourceFormatter catalogResourceFormatter;
+
+    /**
+     * カタログ作成者
+     */
+    @NonNull
+    private final CatalogCreator catalogCreator;
+
+    /**
+     * カタログ定義の発行元
+     */
+    @NonNull
+    private final Flow.Publisher<CatalogDefinition> catalogDefinitionPublisher;
+
+    /**
+     * リソースの生成処理を実行するエグゼキューター
+     */
+    @NonNull
+    private final Executor executor;
+
+    @Override
+    public void subscribe(@NonNull Flow.Subscriber<? super CatalogResource> subscriber) {
+        this.catalogDefinitionPublisher.subscribe(new CatalogResourceSubscription(subscriber));
+    }
+
+    /**
+     * 上流のカタログ定義を購読し、生成されたカタログリソースを下流の購読者へ配信するサブスクリプションです。
+     * <p>
+     * 下流の購読者へのシグナルは {@link #drain()} メソッドの中でのみ送信され、同時に複数のスレッドから送信されることはありません。
+     */
+    private final class CatalogResourceSubscription implements Flow.Subscriber<CatalogDefinition>, Flow.Subscription {
+
+        /**
+         * 下流の購読者
+         */
+        private final Flow.Subscriber<? super CatalogResource> subscriber;
+
+        /**
+         * 生成中および未配信のカタログリソース (カタログ定義の発行順)
+         */
+        private final Queue<CompletableFuture<CatalogResource>> pendings = new ConcurrentLinkedQueue<>();
+
+        /**
+         * 配信処理の実行要求数
+         */
+        private final AtomicInteger workInProgress = new AtomicInteger();
+
+        /**
+         * 上流のサブスクリプション
+         */
+        private volatile Flow.Subscription subscription;
+
+        /**
+         * 上流の発行が終了したか否か
+         */
+        private volatile boolean done;
+
+        /**
+         * 上流または要求件数の不正により通知された例外
+         */
+        private volatile Throwable error;
+
+        /**
+         * 購読が終了したか否か
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * コンストラクタ
+         *
+         * @param subscriber 下流の購読者
+         */
+        private CatalogResourceSubscription(Flow.Subscriber<? super CatalogResource> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(@NonNull Flow.Subscription subscription) {
+
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+
+            this.subscription = subscription;
+            this.subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(@NonNull CatalogDefinition catalogDefinition) {
+
+            if (this.cancelled) {
+                return;
+            }
+
+            final CompletableFuture<CatalogResource> pending = catalogResourceFormatter
+                    .formatAsync(catalogCreator, catalogDefinition, executor).toCompletableFuture();
+
+            this.pendings.add(pending);
+            pending.whenComplete((catalogResource, throwable) -> this.drain());
+        }
+
+        @Override
+        public void onError(@NonNull Throwable throwable) {
+            this.error = throwable;
+            this.done = true;
+            this.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            this.done = true;
+            this.drain();
+        }
+
+        @Override
+        public void request(long n) {
+
+            if (n <= 0) {
+                this.subscription.cancel();
+                this.onError(new IllegalArgumentException(
+                        String.format("The number of requested items must be positive but was %d.", n)));
+                return;
+            }
+
+            this.subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.subscription.cancel();
+            this.drain();
+        }
+
+        /**
+         * 生成が完了したカタログリソースをカタログ定義の発行順に下流の購読者へ配信します。
+         * <p>
+         * 先頭のカタログリソースの生成が完了していない場合は、後続のカタログリソースの生成が完了していても配信を行いません。
+         */
+        private void drain() {
+
+            if (this.workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            do {
+                while (true) {
+
+                    if (this.cancelled) {
+                        this.discardPendings();
+                        break;
+                    }
+
+                    final boolean terminated = this.done;
+                    final CompletableFuture<CatalogResource> pending = this.pendings.peek();
+
+                    if (pending == null) {
+                        if (terminated) {
+                            this.cancelled = true;
+
+                            if (this.error != null) {
+                                this.subscriber.onError(this.error);
+                            } else {
+                                this.subscriber.onComplete();
+                            }
+                        }
+
+                        break;
+                    }
+
+                    if (!pending.isDone()) {
+                        break;
+                    }
+
+                    this.pendings.poll();
+
+                    final CatalogResource catalogResource;
+
+                    try {
+                        catalogResource = pending.join();
+                    } catch (CompletionException | CancellationException e) {
+                        this.terminate(e instanceof CompletionException ? e.getCause() : e);
+                        break;
+                    }
+
+                    try {
+                        this.subscriber.onNext(catalogResource);
+                    } catch (Throwable throwable) {
+                        // 購読者の例外は上流へ伝播させず、購読を終了して購読者へ通知する (Reactive Streams 規則 2.13)
+                        this.terminate(throwable);
+                        break;
+                    }
+                }
+
+                missed = this.workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * 上流の購読を取り消し、生成中および未配信のカタログリソースを破棄した後に、引数として渡された例外を下流の購読者へ通知します。
+         * <p>
+         * このメソッドは {@link #drain()} メソッドの中でのみ呼び出され、呼び出し後は下流の購読者へシグナルが送信されることはありません。
+         *
+         * @param throwable 下流の購読者へ通知する例外
+         */
+        private void terminate(Throwable throwable) {
+            this.cancelled = true;
+            this.subscription.cancel();
+            this.discardPendings();
+            this.subscriber.onError(throwable);
+        }
+
+        /**
+         * 生成中および未配信のカタログリソースを破棄します。
+         */
+        private void discardPendings() {
+            CompletableFuture<CatalogResource> pending;
+
+            while ((pending = this.pendings.poll()) != null) {
+                pending.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.formatter;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import org.thinkit.generator.catalog.engine.dto.CatalogCreator;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+import org.thinkit.generator.catalog.engine.dto.CatalogValidator;
+import org.thinkit.generator.catalog.engine.event.CatalogMatrixFormatEvent;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * カタログ定義のイテレーターを先頭から1件ずつ処理し、生成されたカタログリソースを定義順に受け取り先へ渡すクラスです。
+ * <p>
+ * 生成されたカタログリソースは受け取り先へ渡した後に保持しないため、イテレーターの要素数に関係なく使用するメモリ量は一定です。
+ * 入力値の検証、カタログリソースの生成および {@link CatalogMatrixFormatEvent} の記録は
+ * {@link CatalogResourceFormatter} へ委譲します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE, staticName = "of")
+final class CatalogResourceStreamer {
+
+    /**
+     * カタログリソースフォーマッター
+     */
+    @NonNull
+    private final CatalogResourceFormatter catalogResourceFormatter;
+
+    /**
+     * カタログ作成者
+     */
+    @NonNull
+    private final CatalogCreator catalogCreator;
+
+    /**
+     * 引数として渡されたカタログ定義のイテレーターを先頭から1件ずつ処理し、生成されたカタログリソースを定義順に {@code consumer}
+     * へ渡します。
+     * <p>
+     * カタログ作成者およびカタログ定義はイテレーターの要素をカタログマトリクスのカタログ定義とした場合と同一のパスで検証されます。
+     * イテレーターが要素を持たない場合は、空のカタログマトリクスと同様に不正な値として扱います。
+     *
+     * @param catalogDefinitions カタログ定義のイテレーター
+     * @param consumer           生成されたカタログリソースの受け取り先
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 並列度に {@code 1} 未満の値が設定されている場合、入力値に不正な値が含まれる場合、
+     *                                     またはイテレーターが要素を持たない場合
+     */
+    void stream(@NonNull Iterator<CatalogDefinition> catalogDefinitions, @NonNull Consumer<CatalogResource> consumer) {
+
+        final CatalogMatrixFormatEvent event = new CatalogMatrixFormatEvent();
+        event.begin();
+
+        this.catalogResourceFormatter.checkParallelism();
+        this.catalogResourceFormatter.validate(() -> CatalogValidator.validateMatrixCreator(this.catalogCreator),
+                null);
+
+        final String creator = this.catalogCreator.getCreator();
+        final boolean recording = event.isEnabled();
+
+        int definitionCount = 0;
+        long enumerationCount = 0L;
+        long outputSize = 0L;
+
+        while (catalogDefinitions.hasNext()) {
+            final CatalogDefinition catalogDefinition = catalogDefinitions.next();
+            final int definitionIndex = definitionCount;
+            this.catalogResourceFormatter.validate(
+                    () -> CatalogValidator.validateMatrixDefinition(catalogDefinition, definitionIndex),
+                    catalogDefinition);
+
+            final CatalogResource catalogResource = this.catalogResourceFormatter.createCatalogResource(creator,
+                    catalogDefinition);
+            definitionCount++;
+
+            // リソースは保持しないため、イベントの値は記録が有効な場合のみ逐次集計する
+            if (recording) {
+                enumerationCount += catalogDefinition.getCatalogEnumerations().size();
+                outputSize += CatalogResourceFormatter.utf8LengthOf(catalogResource.getResource());
+            }
+
+            consumer.accept(catalogResource);
+        }
+
+        CatalogValidator.validateMatrixDefinitionCount(definitionCount);
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            this.catalogResourceFormatter.commit(event, definitionCount, enumerationCount, outputSize);
+        }
+    }
+}
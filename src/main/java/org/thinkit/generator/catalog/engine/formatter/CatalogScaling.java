@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.formatter;
+
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.ScalingMode;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogValidator;
+
+import lombok.NonNull;
+
+/**
+ * 列挙子の数が多いカタログ定義が JVM の制限を超えるかを生成前に判定する処理を定義したクラスです。
+ * <p>
+ * 列挙型の列挙子は静的初期化子で生成されるため、列挙子の数に比例して静的初期化子のバイトコードが増加し、
+ * {@value #MAX_CODE_LENGTH} バイトを超えると {@code javac} が {@code code too large} でコンパイルに失敗します。
+ * カタログメタの生成方式が {@link ScalingMode#AUTO} の場合は次のように生成方式を選択します。
+ * <ul>
+ * <li>静的初期化子の推定サイズが上限以内の場合は、従来通り列挙子のコンストラクタ引数で値を保持する</li>
+ * <li>上限を超える場合は、列挙子をコンストラクタ引数なしで宣言し、値を列ごとのサイドテーブルで保持する</li>
+ * </ul>
+ * サイドテーブルを使用しても1つの列挙型に {@value CatalogValidator#MAX_SCALED_CATALOG_ENUMERATIONS}
+ * 件を超える列挙子は宣言できないため、それを超えるカタログ定義は {@link CatalogValidator} の検証で拒否されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+final class CatalogScaling {
+
+    /**
+     * JVM がメソッドごとに許容するバイトコードの最大長
+     */
+    static final int MAX_CODE_LENGTH = 65535;
+
+    /**
+     * 列挙子1件の生成に必要なバイトコードの長さ ({@code new} 、 {@code dup} 、名前と序数のロード、 {@code invokespecial} および
+     * {@code putstatic})
+     */
+    private static final int CONSTANT_CODE_LENGTH = 16;
+
+    /**
+     * コンストラクタ引数1件のロードに必要なバイトコードの最大長
+     */
+    private static final int ARGUMENT_CODE_LENGTH = 3;
+
+    /**
+     * 列挙子の生成以外に静的初期化子で必要なバイトコードの長さ
+     */
+    private static final int INITIALIZER_CODE_LENGTH = 16;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private CatalogScaling() {
+    }
+
+    /**
+     * 引数として渡されたカタログ定義から生成される列挙型の静的初期化子のバイトコードの長さを推定し返却します。
+     *
+     * @param catalogDefinition カタログ定義
+     * @return 静的初期化子のバイトコードの推定の長さ
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static long estimateInitializerLength(@NonNull CatalogDefinition catalogDefinition) {
+
+        final int argumentCount = catalogDefinition.getCatalogMeta().getCatalogType() == CatalogType.BI_CATALOG ? 2
+                : 1;
+
+        return (long) catalogDefinition.getCatalogEnumerations().size()
+                * (CONSTANT_CODE_LENGTH + ARGUMENT_CODE_LENGTH * argumentCount) + INITIALIZER_CODE_LENGTH;
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の値をサイドテーブルで保持する必要があるか判定します。
+     *
+     * @param catalogDefinition カタログ定義
+     * @return サイドテーブルで保持する必要がある場合は {@code true} 、それ以外は {@code false}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static boolean requiresSideTable(@NonNull CatalogDefinition catalogDefinition) {
+        return catalogDefinition.getCatalogMeta().getScalingMode() == ScalingMode.AUTO
+                && estimateInitializerLength(catalogDefinition) > MAX_CODE_LENGTH;
+    }
+}
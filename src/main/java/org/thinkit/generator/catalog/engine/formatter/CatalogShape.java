@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.formatter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogField;
+import org.thinkit.generator.catalog.engine.dto.CatalogMeta;
+import org.thinkit.generator.common.duke.catalog.LombokState;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * カタログクラスのリソースのうちカタログ定義ごとに変化しない部分を決定する情報を表現したクラスです。
+ * <p>
+ * パッケージ名、クラス名および列挙子以外のリソースに影響するすべての情報を保持します。同一の形状を持つカタログ定義は
+ * {@link org.thinkit.generator.catalog.engine.factory.CatalogRenderPlan} を共有することができます。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+final class CatalogShape {
+
+    /**
+     * 作成者
+     */
+    private final String creator;
+
+    /**
+     * 著作権表記に出力される生成年
+     */
+    private final int creationYear;
+
+    /**
+     * バージョン
+     */
+    private final String version;
+
+    /**
+     * カタログ種別
+     */
+    private final CatalogType catalogType;
+
+    /**
+     * Lombok適用状態
+     */
+    private final LombokState lombokState;
+
+    /**
+     * 依存パッケージリスト
+     */
+    private final List<String> dependentPackages;
+
+    /**
+     * タグをプリミティブ型のフィールドで保持するか否か
+     */
+    private final boolean primitiveTag;
+
+    /**
+     * 列挙子の値をサイドテーブルで保持するか否か
+     */
+    private final boolean sideTable;
+
+    /**
+     * タグのデータ型
+     */
+    private final String tagDataType;
+
+    /**
+     * フィールドリスト
+     */
+    private final List<CatalogField> catalogFields;
+
+    /**
+     * コンストラクタ
+     *
+     * @param creator           作成者
+     * @param catalogDefinition カタログ定義
+     */
+    private CatalogShape(String creator, CatalogDefinition catalogDefinition) {
+
+        final CatalogMeta catalogMeta = catalogDefinition.getCatalogMeta();
+
+        this.creator = creator;
+        this.creationYear = LocalDate.now().getYear();
+        this.version = catalogMeta.getVersion();
+        this.catalogType = catalogMeta.getCatalogType();
+        this.lombokState = catalogMeta.getLombokState();
+        this.dependentPackages = List.copyOf(catalogMeta.getDependentPackages());
+        this.primitiveTag = catalogMeta.isPrimitiveTag();
+        this.sideTable = CatalogScaling.requiresSideTable(catalogDefinition);
+        this.tagDataType = catalogDefinition.getTagDataType();
+        this.catalogFields = List.copyOf(catalogDefinition.getCatalogFields());
+    }
+
+    /**
+     * 引数として渡された作成者およびカタログ定義の形状を表す {@link CatalogShape} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param creator           作成者
+     * @param catalogDefinition カタログ定義
+     * @return {@link CatalogShape} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static CatalogShape of(@NonNull String creator, @NonNull CatalogDefinition catalogDefinition) {
+        return new CatalogShape(creator, catalogDefinition);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.metrics;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * カタログ定義ごとのリソースの生成に要した経過時間と出力サイズを管理するデータクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(staticName = "of", access = AccessLevel.PACKAGE)
+public final class DefinitionTiming {
+
+    /**
+     * カタログの完全修飾名
+     */
+    @Getter
+    @NonNull
+    private final String catalogName;
+
+    /**
+     * 経過時間 (ナノ秒)
+     */
+    @Getter
+    private final long elapsedNanos;
+
+    /**
+     * 生成されたリソースのバイト数
+     */
+    @Getter
+    private final long renderedBytes;
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.ToString;
+
+/**
+ * 経過時間の分布をロックを使用せずに集計するヒストグラムです。
+ * <p>
+ * 計測値は2の累乗ごとの区間をさらに32等分したバケットへ振り分けられるため、パーセンタイル値の相対誤差は約3%に収まります。
+ * バケット数は固定であり、計測回数に関係なく使用するメモリ量は一定です。
+ * <p>
+ * このクラスはスレッドセーフです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+final class GenerationHistogram {
+
+    /**
+     * 2の累乗ごとの区間を分割するバケット数のビット数
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * 2の累乗ごとの区間を分割するバケット数
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * バケット数
+     */
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    /**
+     * バケットごとの計測回数
+     */
+    @ToString.Exclude
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * 計測値の合計
+     */
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * 計測値の最大値
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 引数として渡された計測値を記録します。
+     * <p>
+     * 負数は {@code 0} として記録されます。
+     *
+     * @param value 計測値
+     */
+    void record(long value) {
+
+        final long normalizedValue = Math.max(0L, value);
+
+        this.buckets.incrementAndGet(indexOf(normalizedValue));
+        this.total.add(normalizedValue);
+        this.max.accumulate(normalizedValue);
+    }
+
+    /**
+     * 記録された計測値の統計値を返却します。
+     * <p>
+     * 記録と同時に呼び出された場合、統計値には呼び出し中に記録された計測値の一部のみが含まれることがあります。
+     *
+     * @return 記録された計測値の統計値
+     */
+    GenerationStatistics snapshot() {
+
+        final long[] counts = new long[BUCKET_COUNT];
+        long count = 0L;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets.get(i);
+            count += counts[i];
+        }
+
+        final long max = this.max.get();
+
+        return GenerationStatistics.of(count, this.total.sum(), percentileOf(counts, count, max, 0.50),
+                percentileOf(counts, count, max, 0.99), max);
+    }
+
+    /**
+     * 引数として渡されたバケットごとの計測回数からパーセンタイル値を算出し返却します。
+     * <p>
+     * パーセンタイル値は該当するバケットの上限値と最大値のうち小さい値です。
+     *
+     * @param counts     バケットごとの計測回数
+     * @param count      計測回数
+     * @param max        計測値の最大値
+     * @param percentile パーセンタイル ({@code 0} より大きく {@code 1} 以下)
+     * @return パーセンタイル値 (計測回数が {@code 0} の場合は {@code 0})
+     */
+    private static long percentileOf(long[] counts, long count, long max, double percentile) {
+
+        if (count == 0L) {
+            return 0L;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(count * percentile));
+        long cumulativeCount = 0L;
+
+        for (int i = 0; i < counts.length; i++) {
+            cumulativeCount += counts[i];
+
+            if (cumulativeCount >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * 引数として渡された計測値を振り分けるバケットのインデックスを返却します。
+     *
+     * @param value 計測値 ({@code 0} 以上)
+     * @return バケットのインデックス
+     */
+    private static int indexOf(long value) {
+
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    /**
+     * 引数として渡されたインデックスのバケットに振り分けられる計測値の上限値を返却します。
+     *
+     * @param index バケットのインデックス
+     * @return バケットに振り分けられる計測値の上限値
+     */
+    private static long upperBoundOf(int index) {
+
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+
+        return lowerBound + (1L << shift) - 1L;
+    }
+}
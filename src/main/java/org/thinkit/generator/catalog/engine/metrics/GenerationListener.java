@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.metrics;
+
+import org.thinkit.generator.catalog.engine.catalog.GenerationStage;
+
+/**
+ * カタログリソースの生成処理の計測結果を受け取るリスナーを定義したインターフェースです。
+ * <p>
+ * {@link org.thinkit.generator.catalog.engine.formatter.CatalogResourceFormatter}
+ * は処理の段階ごと、およびカタログ定義ごとに経過時間をナノ秒単位で通知します。カタログは {@code パッケージ名.クラス名}
+ * の完全修飾名で識別されます。並列に生成する場合は異なるスレッドから同時に呼び出されるため、このインターフェースの実装クラスはスレッドセーフである必要があります。
+ * また、リスナーの処理時間は生成処理の処理時間に含まれるため、通知を受け取ったスレッドで重い処理を行わないでください。
+ * <p>
+ * デフォルトの実装では何も行いません。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ *
+ * @see GenerationRecorder
+ */
+public interface GenerationListener {
+
+    /**
+     * 生成処理の段階が完了した際に呼び出されます。
+     * <p>
+     * カタログマトリクス全体の検証や、カタログ定義の形状ごとに1度だけ実行される {@link GenerationStage#CONTENT_LOOKUP}
+     * のように、特定のカタログ定義に紐付かない段階では {@code catalogName} に {@code null} が渡されます。
+     * {@link GenerationStage#CONTENT_LOOKUP} はレンダープランの生成時に実行されるため、その経過時間は
+     * {@link GenerationStage#ASSEMBLY} の経過時間にも含まれます。
+     *
+     * @param generationStage 完了した段階
+     * @param catalogName     カタログの完全修飾名 ({@code null} の場合はカタログ定義に紐付かない)
+     * @param elapsedNanos    経過時間 (ナノ秒)
+     */
+    default void onStage(GenerationStage generationStage, String catalogName, long elapsedNanos) {
+    }
+
+    /**
+     * カタログ定義ごとのリソースの生成が完了した際に呼び出されます。
+     * <p>
+     * 経過時間は永続キャッシュの参照からリソースの整形までを含みます。出力サイズは生成されたリソースを UTF-8
+     * で符号化した場合のバイト数です。
+     *
+     * @param catalogName   カタログの完全修飾名
+     * @param elapsedNanos  経過時間 (ナノ秒)
+     * @param renderedBytes 生成されたリソースのバイト数
+     */
+    default void onDefinition(String catalogName, long elapsedNanos, long renderedBytes) {
+    }
+}
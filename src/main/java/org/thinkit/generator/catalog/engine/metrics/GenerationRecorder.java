@@ -0,0 +1,255 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.thinkit.generator.catalog.engine.catalog.GenerationStage;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 通知された計測結果をロックを使用せずに集計する {@link GenerationListener} の実装クラスです。
+ * <p>
+ * 生成処理の段階ごと、およびカタログ定義ごとの経過時間をヒストグラムへ記録し、 {@link #report()}
+ * メソッドで中央値、99パーセンタイル値および最大値と、生成に時間を要したカタログ定義の一覧を取得することができます。
+ * ヒストグラムのバケット数は固定であるため、記録に使用するメモリ量は計測回数に関係なく一定です。
+ * <p>
+ * このクラスはスレッドセーフです。
+ *
+ * <pre>
+ * 操作例:
+ * <code>
+ * GenerationRecorder recorder = GenerationRecorder.newInstance();
+ * CatalogResourceFormatter.builder().generationListener(recorder).build().format(catalogMatrix);
+ * GenerationReport report = recorder.report();
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+public final class GenerationRecorder implements GenerationListener {
+
+    /**
+     * 保持する生成に時間を要したカタログ定義の件数の既定値
+     */
+    private static final int DEFAULT_SLOWEST_DEFINITION_COUNT = 10;
+
+    /**
+     * 生成処理の段階ごとのヒストグラム
+     */
+    @ToString.Exclude
+    private final Map<GenerationStage, GenerationHistogram> stageHistograms;
+
+    /**
+     * カタログ定義ごとの経過時間のヒストグラム
+     */
+    @ToString.Exclude
+    private final GenerationHistogram definitionHistogram = new GenerationHistogram();
+
+    /**
+     * 生成されたリソースのバイト数の合計
+     */
+    @ToString.Exclude
+    private final LongAdder renderedBytes = new LongAdder();
+
+    /**
+     * 保持する生成に時間を要したカタログ定義の件数
+     */
+    private final int slowestDefinitionCount;
+
+    /**
+     * 経過時間の昇順に格納された、生成に時間を要したカタログ定義
+     */
+    @ToString.Exclude
+    private final ConcurrentSkipListSet<RankedTiming> slowestDefinitions = new ConcurrentSkipListSet<>();
+
+    /**
+     * 生成に時間を要したカタログ定義の保持件数
+     */
+    @ToString.Exclude
+    private final AtomicInteger slowestDefinitionSize = new AtomicInteger();
+
+    /**
+     * 同一の経過時間を持つカタログ定義を区別するための通知順
+     */
+    @ToString.Exclude
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * コンストラクタ
+     *
+     * @param slowestDefinitionCount 保持する生成に時間を要したカタログ定義の件数
+     */
+    private GenerationRecorder(int slowestDefinitionCount) {
+
+        final Map<GenerationStage, GenerationHistogram> stageHistograms = new EnumMap<>(GenerationStage.class);
+
+        for (GenerationStage generationStage : GenerationStage.values()) {
+            stageHistograms.put(generationStage, new GenerationHistogram());
+        }
+
+        this.stageHistograms = Collections.unmodifiableMap(stageHistograms);
+        this.slowestDefinitionCount = slowestDefinitionCount;
+    }
+
+    /**
+     * 生成に時間を要したカタログ定義を10件保持する {@link GenerationRecorder} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @return {@link GenerationRecorder} クラスの新しいインスタンス
+     */
+    public static GenerationRecorder newInstance() {
+        return new GenerationRecorder(DEFAULT_SLOWEST_DEFINITION_COUNT);
+    }
+
+    /**
+     * 引数として渡された件数だけ生成に時間を要したカタログ定義を保持する {@link GenerationRecorder} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param slowestDefinitionCount 保持する生成に時間を要したカタログ定義の件数
+     * @return {@link GenerationRecorder} クラスの新しいインスタンス
+     *
+     * @exception IllegalArgumentException 保持する件数に負数が渡された場合
+     */
+    public static GenerationRecorder of(int slowestDefinitionCount) {
+
+        if (slowestDefinitionCount < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Slowest definition count must be greater than or equal to 0 but was %d.", slowestDefinitionCount));
+        }
+
+        return new GenerationRecorder(slowestDefinitionCount);
+    }
+
+    @Override
+    public void onStage(@NonNull GenerationStage generationStage, String catalogName, long elapsedNanos) {
+        this.stageHistograms.get(generationStage).record(elapsedNanos);
+    }
+
+    @Override
+    public void onDefinition(@NonNull String catalogName, long elapsedNanos, long renderedBytes) {
+        this.definitionHistogram.record(elapsedNanos);
+        this.renderedBytes.add(renderedBytes);
+        this.offer(DefinitionTiming.of(catalogName, elapsedNanos, renderedBytes));
+    }
+
+    /**
+     * 記録された計測結果を集計したレポートを返却します。
+     * <p>
+     * 記録と同時に呼び出された場合、レポートには呼び出し中に通知された計測結果の一部のみが含まれることがあります。
+     *
+     * @return 記録された計測結果を集計したレポート
+     */
+    public GenerationReport report() {
+
+        final Map<GenerationStage, GenerationStatistics> stageStatistics = new EnumMap<>(GenerationStage.class);
+
+        this.stageHistograms.forEach((generationStage, histogram) -> {
+            final GenerationStatistics statistics = histogram.snapshot();
+
+            if (statistics.getCount() > 0L) {
+                stageStatistics.put(generationStage, statistics);
+            }
+        });
+
+        final List<DefinitionTiming> slowestDefinitions = new ArrayList<>(this.slowestDefinitionCount);
+        final Iterator<RankedTiming> iterator = this.slowestDefinitions.descendingIterator();
+
+        while (iterator.hasNext() && slowestDefinitions.size() < this.slowestDefinitionCount) {
+            slowestDefinitions.add(iterator.next().definitionTiming);
+        }
+
+        return GenerationReport.of(Collections.unmodifiableMap(stageStatistics),
+                this.definitionHistogram.snapshot(), this.renderedBytes.sum(), List.copyOf(slowestDefinitions));
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の計測結果が保持中のカタログ定義より遅い場合は、最も速いカタログ定義と入れ替えて保持します。
+     *
+     * @param definitionTiming カタログ定義の計測結果
+     */
+    private void offer(@NonNull DefinitionTiming definitionTiming) {
+
+        if (this.slowestDefinitionCount == 0) {
+            return;
+        }
+
+        if (this.slowestDefinitionSize.get() >= this.slowestDefinitionCount) {
+            try {
+                if (definitionTiming.getElapsedNanos() <= this.slowestDefinitions.first().definitionTiming
+                        .getElapsedNanos()) {
+                    return;
+                }
+            } catch (NoSuchElementException e) {
+                // 他のスレッドにより取り出された場合はそのまま追加する
+            }
+        }
+
+        this.slowestDefinitions.add(new RankedTiming(definitionTiming, this.sequence.getAndIncrement()));
+
+        if (this.slowestDefinitionSize.incrementAndGet() > this.slowestDefinitionCount
+                && this.slowestDefinitions.pollFirst() != null) {
+            this.slowestDefinitionSize.decrementAndGet();
+        }
+    }
+
+    /**
+     * 経過時間と通知順で順序付けされたカタログ定義の計測結果です。
+     */
+    private static final class RankedTiming implements Comparable<RankedTiming> {
+
+        /**
+         * カタログ定義の計測結果
+         */
+        private final DefinitionTiming definitionTiming;
+
+        /**
+         * 通知順
+         */
+        private final long sequence;
+
+        /**
+         * コンストラクタ
+         *
+         * @param definitionTiming カタログ定義の計測結果
+         * @param sequence         通知順
+         */
+        private RankedTiming(DefinitionTiming definitionTiming, long sequence) {
+            this.definitionTiming = definitionTiming;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(RankedTiming other) {
+
+            final int result = Long.compare(this.definitionTiming.getElapsedNanos(),
+                    other.definitionTiming.getElapsedNanos());
+
+            return result != 0 ? result : Long.compare(this.sequence, other.sequence);
+        }
+    }
+}
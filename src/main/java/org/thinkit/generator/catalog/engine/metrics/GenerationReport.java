@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+import org.thinkit.generator.catalog.engine.catalog.GenerationStage;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * {@link GenerationRecorder} が集計した計測結果を管理するデータクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(staticName = "of", access = AccessLevel.PACKAGE)
+public final class GenerationReport {
+
+    /**
+     * 生成処理の段階ごとの統計値 (1度も計測されていない段階は含まれない)
+     */
+    @Getter
+    @NonNull
+    private final Map<GenerationStage, GenerationStatistics> stageStatistics;
+
+    /**
+     * カタログ定義ごとのリソースの生成に要した経過時間の統計値
+     */
+    @Getter
+    @NonNull
+    private final GenerationStatistics definitionStatistics;
+
+    /**
+     * 生成されたリソースのバイト数の合計
+     */
+    @Getter
+    private final long renderedBytes;
+
+    /**
+     * 経過時間の降順に格納された、生成に時間を要したカタログ定義のリスト
+     */
+    @Getter
+    @NonNull
+    private final List<DefinitionTiming> slowestDefinitions;
+}
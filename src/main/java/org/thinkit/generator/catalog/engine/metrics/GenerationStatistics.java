@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.metrics;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 計測された経過時間の統計値を管理するデータクラスです。
+ * <p>
+ * 中央値および99パーセンタイル値は {@link GenerationRecorder} のヒストグラムから算出されるため、相対誤差は約3%です。
+ * 最大値は計測値そのものです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(staticName = "of", access = AccessLevel.PACKAGE)
+public final class GenerationStatistics {
+
+    /**
+     * 計測回数
+     */
+    @Getter
+    private final long count;
+
+    /**
+     * 経過時間の合計 (ナノ秒)
+     */
+    @Getter
+    private final long totalNanos;
+
+    /**
+     * 経過時間の中央値 (ナノ秒)
+     */
+    @Getter
+    private final long p50Nanos;
+
+    /**
+     * 経過時間の99パーセンタイル値 (ナノ秒)
+     */
+    @Getter
+    private final long p99Nanos;
+
+    /**
+     * 経過時間の最大値 (ナノ秒)
+     */
+    @Getter
+    private final long maxNanos;
+}
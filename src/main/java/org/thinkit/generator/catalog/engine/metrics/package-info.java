@@ -0,0 +1,4 @@
+/**
+ * カタログリソースの生成処理の計測結果を受け取るリスナーと集計クラスを管理するパッケージです。
+ */
+package org.thinkit.generator.catalog.engine.metrics;
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.sink;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+import org.thinkit.generator.catalog.engine.event.OutputWriteEvent;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 生成されたカタログリソースを ZIP 形式または JAR 形式のアーカイブへストリーミングで書き込むシンクです。
+ * <p>
+ * カタログリソースは {@code <パッケージ名のディレクトリ>/<クラス名>.java} のエントリとして、
+ * {@link #write(CatalogResource)} メソッドが呼び出された順序でアーカイブへ直接書き込まれます。
+ * 書き込み後のカタログリソースは保持しないため、カタログの数に関係なく使用するメモリは一定です。
+ * パッケージのディレクトリエントリは各パッケージの最初のエントリの直前に一度だけ書き込まれます。
+ * <p>
+ * 同じ順序で同じカタログリソースを書き込んだ場合は常に同一のアーカイブが生成されるように、
+ * すべてのエントリの更新日時には固定の日時を設定します。
+ * {@link org.thinkit.generator.catalog.engine.formatter.CatalogResourceFormatter#format(org.thinkit.generator.catalog.engine.dto.CatalogCreator, java.util.stream.Stream, java.util.function.Consumer)}
+ * メソッドのように定義順にカタログリソースを生成する処理と組み合わせることで、
+ * カタログリソースグループを生成することなく決定的な順序のアーカイブを出力することができます。
+ * 生成済みのカタログリソースを書き込む場合は {@link #writeAll(Collection)} メソッドを使用してください。エントリ名の順序で書き込みます。
+ * <p>
+ * 圧縮方式は {@link CompressionMethod#STORED} と {@link CompressionMethod#DEFLATED} から選択でき、
+ * {@link CompressionMethod#DEFLATED} の場合は圧縮レベルを指定することができます。
+ * JAR 形式を指定した場合はアーカイブの先頭にマニフェストを書き込みます。
+ * <p>
+ * このクラスはスレッドセーフです。エントリの書き込みは同期して行われます。
+ * カタログリソースの書き込みは {@link OutputWriteEvent} として Java Flight Recorder へ記録されます。
+ * このシンクはクローズされた際に出力先のストリームをクローズします。
+ *
+ * <pre>
+ * 操作例:
+ * <code>
+ * try (ArchiveCatalogResourceSink sink = ArchiveCatalogResourceSink.builder()
+ *         .outputStream(Files.newOutputStream(Path.of("catalog-sources.jar"))).jar(true)
+ *         .compressionMethod(CompressionMethod.DEFLATED).compressionLevel(Deflater.BEST_COMPRESSION).build()) {
+ *     formatter.format(catalogCreator, catalogDefinitions, sink::writeUnchecked);
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+public final class ArchiveCatalogResourceSink implements CatalogResourceSink {
+
+    /**
+     * Java ファイルの拡張子
+     */
+    private static final String JAVA_FILE_EXTENSION = ".java";
+
+    /**
+     * マニフェストのディレクトリ名
+     */
+    private static final String MANIFEST_DIRECTORY = "META-INF/";
+
+    /**
+     * マニフェストのエントリ名
+     */
+    private static final String MANIFEST_NAME = MANIFEST_DIRECTORY + "MANIFEST.MF";
+
+    /**
+     * マニフェストの内容
+     */
+    private static final String MANIFEST_CONTENT = "Manifest-Version: 1.0\r\nCreated-By: Catalog Generator Engine\r\n\r\n";
+
+    /**
+     * エントリに設定する固定の更新日時 (1980年2月1日)
+     */
+    private static final long CONSTANT_ENTRY_TIME = new GregorianCalendar(1980, 1, 1, 0, 0, 0).getTimeInMillis();
+
+    /**
+     * 圧縮方式
+     */
+    public enum CompressionMethod {
+
+        /**
+         * 無圧縮
+         */
+        STORED,
+
+        /**
+         * Deflate 圧縮
+         */
+        DEFLATED;
+    }
+
+    /**
+     * JAR 形式で出力するか否か
+     */
+    private final boolean jar;
+
+    /**
+     * 圧縮方式
+     */
+    private final CompressionMethod compressionMethod;
+
+    /**
+     * 圧縮レベル
+     */
+    private final int compressionLevel;
+
+    /**
+     * ZIP 出力ストリーム
+     */
+    @ToString.Exclude
+    private final ZipOutputStream zipOutputStream;
+
+    /**
+     * 書き込み済みのディレクトリエントリ名
+     */
+    @ToString.Exclude
+    private final Set<String> directoryEntries = new HashSet<>();
+
+    /**
+     * マニフェストを書き込み済みか否か
+     */
+    @ToString.Exclude
+    private boolean manifestWritten;
+
+    /**
+     * コンストラクタ
+     * <p>
+     * 圧縮方式を指定しない場合は {@link CompressionMethod#DEFLATED} 、 圧縮レベルを指定しない場合は
+     * {@link Deflater#DEFAULT_COMPRESSION} が使用されます。
+     *
+     * @param outputStream      出力先のストリーム
+     * @param jar               JAR 形式で出力するか否か
+     * @param compressionMethod 圧縮方式
+     * @param compressionLevel  圧縮レベル
+     *
+     * @exception NullPointerException     出力先のストリームとして {@code null} が渡された場合
+     * @exception IllegalArgumentException 圧縮レベルが不正な場合
+     */
+    @Builder
+    private ArchiveCatalogResourceSink(@NonNull OutputStream outputStream, boolean jar,
+            CompressionMethod compressionMethod, Integer compressionLevel) {
+        this.jar = jar;
+        this.compressionMethod = compressionMethod != null ? compressionMethod : CompressionMethod.DEFLATED;
+        this.compressionLevel = compressionLevel != null ? compressionLevel : Deflater.DEFAULT_COMPRESSION;
+        this.zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        this.zipOutputStream.setLevel(this.compressionLevel);
+        this.zipOutputStream.setMethod(this.compressionMethod == CompressionMethod.STORED ? ZipOutputStream.STORED
+                : ZipOutputStream.DEFLATED);
+    }
+
+    /**
+     * 引数として渡されたアーカイブファイルへ書き込むシンクを生成し返却します。
+     * <p>
+     * ファイルの拡張子が {@code .jar} の場合は JAR 形式で出力します。
+     *
+     * @param archiveFile アーカイブファイル
+     * @return {@link ArchiveCatalogResourceSink} クラスの新しいインスタンス
+     *
+     * @throws IOException ファイルの作成処理で入出力エラーが発生した場合
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static ArchiveCatalogResourceSink of(@NonNull Path archiveFile) throws IOException {
+        return builder().outputStream(new BufferedOutputStream(Files.newOutputStream(archiveFile)))
+                .jar(archiveFile.getFileName().toString().endsWith(".jar")).build();
+    }
+
+    @Override
+    public synchronized void write(@NonNull CatalogResource catalogResource) throws IOException {
+
+        final OutputWriteEvent event = new OutputWriteEvent();
+        event.begin();
+
+        this.writeManifest();
+
+        final String directoryName = catalogResource.getPackageName().replace('.', '/') + "/";
+        final byte[] content = catalogResource.getResource().getBytes(StandardCharsets.UTF_8);
+        this.writeDirectoryEntries(directoryName);
+        this.writeEntry(directoryName + catalogResource.getClassName() + JAVA_FILE_EXTENSION, content);
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setSink(ArchiveCatalogResourceSink.class.getSimpleName());
+            event.setCatalogResource(catalogResource);
+            event.setOutputSize(content.length);
+            event.commit();
+        }
+    }
+
+    /**
+     * 引数として渡されたカタログリソースを書き込みます。
+     * <p>
+     * このメソッドは {@link java.util.function.Consumer} として使用するため、入出力エラーを
+     * {@link UncheckedIOException} として送出します。
+     *
+     * @param catalogResource カタログリソース
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @exception UncheckedIOException 書き込み処理で入出力エラーが発生した場合
+     */
+    public void writeUnchecked(@NonNull CatalogResource catalogResource) {
+        try {
+            this.write(catalogResource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 引数として渡されたカタログリソースをエントリ名の順序で書き込みます。
+     * <p>
+     * 生成順序に依存せずに決定的な順序のアーカイブを出力する場合に使用します。
+     *
+     * @param catalogResources カタログリソースのコレクション
+     *
+     * @throws IOException 書き込み処理で入出力エラーが発生した場合
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public synchronized void writeAll(@NonNull Collection<CatalogResource> catalogResources) throws IOException {
+
+        final List<CatalogResource> sortedCatalogResources = new ArrayList<>(catalogResources);
+        sortedCatalogResources.sort(Comparator.comparing(CatalogResource::getPackageName)
+                .thenComparing(CatalogResource::getClassName));
+
+        for (CatalogResource catalogResource : sortedCatalogResources) {
+            this.write(catalogResource);
+        }
+    }
+
+    /**
+     * アーカイブの中央ディレクトリを書き込み、出力先のストリームをクローズします。
+     *
+     * @throws IOException クローズ処理で入出力エラーが発生した場合
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        this.writeManifest();
+        this.zipOutputStream.close();
+    }
+
+    /**
+     * JAR 形式で出力する場合はマニフェストをアーカイブの先頭に一度だけ書き込みます。
+     *
+     * @throws IOException 書き込み処理で入出力エラーが発生した場合
+     */
+    private void writeManifest() throws IOException {
+
+        if (!this.jar || this.manifestWritten) {
+            return;
+        }
+
+        this.manifestWritten = true;
+        this.writeDirectoryEntries(MANIFEST_DIRECTORY);
+        this.writeEntry(MANIFEST_NAME, MANIFEST_CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 引数として渡されたディレクトリと親ディレクトリのエントリのうち、未作成のものを親から順に書き込みます。
+     *
+     * @param directoryName ディレクトリ名 ( {@code /} で終わる)
+     *
+     * @throws IOException 書き込み処理で入出力エラーが発生した場合
+     */
+    private void writeDirectoryEntries(@NonNull String directoryName) throws IOException {
+
+        if (this.directoryEntries.contains(directoryName)) {
+            return;
+        }
+
+        int index = directoryName.indexOf('/');
+
+        while (index >= 0) {
+            final String name = directoryName.substring(0, index + 1);
+
+            if (this.directoryEntries.add(name)) {
+                this.writeEntry(name, new byte[0]);
+            }
+
+            index = directoryName.indexOf('/', index + 1);
+        }
+    }
+
+    /**
+     * 引数として渡された内容のエントリを書き込みます。
+     * <p>
+     * 無圧縮の場合はエントリのヘッダに事前にサイズと CRC-32 を設定する必要があるため、書き込む内容から算出します。
+     *
+     * @param name    エントリ名
+     * @param content エントリの内容
+     *
+     * @throws IOException 書き込み処理で入出力エラーが発生した場合
+     */
+    private void writeEntry(@NonNull String name, @NonNull byte[] content) throws IOException {
+
+        final ZipEntry entry = new ZipEntry(name);
+        entry.setTime(CONSTANT_ENTRY_TIME);
+
+        if (this.compressionMethod == CompressionMethod.STORED) {
+            final CRC32 crc = new CRC32();
+            crc.update(content);
+
+            entry.setSize(content.length);
+            entry.setCompressedSize(content.length);
+            entry.setCrc(crc.getValue());
+        }
+
+        this.zipOutputStream.putNextEntry(entry);
+        this.zipOutputStream.write(content);
+        this.zipOutputStream.closeEntry();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.sink;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+
+/**
+ * 生成されたカタログリソースを出力先へ書き込む処理を定義したインターフェースです。
+ * <p>
+ * {@link org.thinkit.generator.catalog.engine.formatter.CatalogResourceFormatter}
+ * はカタログ定義ごとに異なるスレッドから {@link #write(CatalogResource)} メソッドを同時に呼び出すため、
+ * このインターフェースの実装クラスはスレッドセーフである必要があります。
+ * <p>
+ * シンクの生成元がシンクの解放に責任を持ちます。フォーマッターは渡されたシンクをクローズしません。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public interface CatalogResourceSink extends Closeable {
+
+    /**
+     * 引数として渡されたカタログリソースを出力先へ書き込みます。
+     *
+     * @param catalogResource カタログリソース
+     *
+     * @throws IOException 書き込み処理で入出力エラーが発生した場合
+     */
+    void write(CatalogResource catalogResource) throws IOException;
+
+    /**
+     * シンクが保持する資源を解放します。
+     * <p>
+     * デフォルトの実装では何も行いません。
+     *
+     * @throws IOException 資源の解放処理で入出力エラーが発生した場合
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
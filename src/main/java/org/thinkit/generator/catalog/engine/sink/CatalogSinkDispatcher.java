@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.sink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * カタログ定義ごとにカタログリソースを生成し、生成されたカタログリソースを {@link CatalogResourceSink} へ書き込む処理を定義したクラスです。
+ * <p>
+ * カタログ定義ごとに1つの仮想スレッドを割り当て、生成から書き込みまでを実行します。リソースの生成処理は並列度と同数の
+ * プラットフォームスレッドを持つスレッドプールへ委譲されるため、書き込み処理による待機中も生成処理の同時実行数は並列度に制限されます。
+ * 仮想スレッドを使用できない実行環境では、並列度の {@value #WRITERS_PER_WORKER} 倍のプラットフォームスレッドを持つスレッドプールで代替するため、
+ * カタログ定義の件数に関係なく生成されるスレッド数は一定です。
+ *
+ * <pre>
+ * 操作例:
+ * <code>
+ * CatalogSinkDispatcher.of(8).dispatch(catalogDefinitions, renderer, catalogResourceSink);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+public final class CatalogSinkDispatcher {
+
+    /**
+     * 仮想スレッドを使用できない実行環境で、書き込み処理に割り当てるワーカースレッドあたりのプラットフォームスレッド数
+     */
+    public static final int WRITERS_PER_WORKER = 4;
+
+    /**
+     * リソースの生成処理を同時に実行する並列度
+     */
+    private final int parallelism;
+
+    /**
+     * コンストラクタ
+     *
+     * @param parallelism リソースの生成処理を同時に実行する並列度
+     */
+    private CatalogSinkDispatcher(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 引数として渡された並列度でリソースの生成処理を実行する {@link CatalogSinkDispatcher} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param parallelism リソースの生成処理を同時に実行する並列度
+     * @return {@link CatalogSinkDispatcher} クラスの新しいインスタンス
+     *
+     * @exception IllegalArgumentException 並列度に {@code 1} 未満の値が渡された場合
+     */
+    public static CatalogSinkDispatcher of(int parallelism) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Parallelism must be greater than or equal to 1 but was %d.", parallelism));
+        }
+
+        return new CatalogSinkDispatcher(parallelism);
+    }
+
+    /**
+     * 引数として渡されたカタログ定義リストのカタログ定義ごとに {@code renderer} でカタログリソースを生成し、生成されたカタログリソースを
+     * {@code catalogResourceSink} へ書き込みます。
+     * <p>
+     * いずれかのカタログ定義の処理に失敗した場合は未完了の処理を中断し、最初に発生した例外を送出します。
+     * 引数として渡されたシンクはこのメソッドの中でクローズされません。
+     *
+     * @param catalogDefinitions  カタログ定義リスト
+     * @param renderer            カタログ定義を基にカタログリソースを生成する処理
+     * @param catalogResourceSink カタログリソースの書き込み先
+     *
+     * @exception NullPointerException  引数として {@code null} が渡された場合
+     * @exception UncheckedIOException  シンクへの書き込み処理で入出力エラーが発生した場合
+     * @exception IllegalStateException 処理が割り込まれた場合
+     */
+    public void dispatch(@NonNull List<CatalogDefinition> catalogDefinitions,
+            @NonNull Function<CatalogDefinition, CatalogResource> renderer,
+            @NonNull CatalogResourceSink catalogResourceSink) {
+
+        final ExecutorService formatExecutor = Executors.newFixedThreadPool(this.parallelism);
+        final ExecutorService taskExecutor = newVirtualThreadPerTaskExecutor(this.parallelism * WRITERS_PER_WORKER);
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>(catalogDefinitions.size());
+
+            catalogDefinitions.forEach(catalogDefinition -> {
+                futures.add(taskExecutor.submit(() -> {
+                    catalogResourceSink
+                            .write(formatExecutor.submit(() -> renderer.apply(catalogDefinition)).get());
+                    return null;
+                }));
+            });
+
+            awaitAll(futures);
+        } finally {
+            taskExecutor.shutdownNow();
+            formatExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 引数として渡されたタスクの完了を待機します。
+     * <p>
+     * いずれかのタスクが失敗した場合は未完了のタスクをキャンセルし、失敗の原因となった例外を非検査例外として送出します。
+     *
+     * @param futures 待機対象のタスク
+     *
+     * @exception NullPointerException  引数として {@code null} が渡された場合
+     * @exception UncheckedIOException  タスクの中で入出力エラーが発生した場合
+     * @exception IllegalStateException 待機中に割り込まれた場合
+     */
+    private static void awaitAll(@NonNull List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw asUncheckedException(e.getCause());
+        }
+    }
+
+    /**
+     * 引数として渡された例外を非検査例外へ変換し返却します。
+     * <p>
+     * {@link ExecutionException} は原因となった例外まで遡って変換されます。
+     *
+     * @param cause 変換対象の例外
+     * @return 非検査例外
+     */
+    private static RuntimeException asUncheckedException(Throwable cause) {
+
+        if (cause instanceof ExecutionException && cause.getCause() != null) {
+            return asUncheckedException(cause.getCause());
+        }
+
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        if (cause instanceof IOException) {
+            return new UncheckedIOException((IOException) cause);
+        }
+
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * タスクごとに仮想スレッドを割り当てる {@link ExecutorService} を生成し返却します。
+     * <p>
+     * 仮想スレッドは Java 21 以降でのみ使用することができるため、実行環境に
+     * {@code Executors#newVirtualThreadPerTaskExecutor()} が存在しない場合は引数として渡されたスレッド数を上限とする
+     * {@link ExecutorService} を返却します。上限を超えたタスクは実行中のタスクが完了するまで待機します。
+     *
+     * @param fallbackThreads 仮想スレッドを使用できない場合に生成するプラットフォームスレッドの数
+     * @return タスクごとに仮想スレッドを割り当てる {@link ExecutorService} 、またはスレッド数が固定された {@link ExecutorService}
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor(int fallbackThreads) {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                            MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (NoSuchMethodException | IllegalAccessException | UnsupportedOperationException e) {
+            return Executors.newFixedThreadPool(fallbackThreads);
+        } catch (Throwable e) {
+            throw asUncheckedException(e);
+        }
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.sink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+import org.thinkit.generator.catalog.engine.event.OutputWriteEvent;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 生成されたカタログリソースをパッケージ構成に従ったディレクトリ配下の Java ファイルとして書き込むシンクです。
+ * <p>
+ * カタログリソースは {@code <ルートディレクトリ>/<パッケージ名のディレクトリ>/<クラス名>.java} へ書き込まれます。
+ * パッケージのディレクトリはパッケージごとに一度だけ作成されます。ファイルは同一ディレクトリ内の一時ファイルへ {@link FileChannel}
+ * を使用して書き込み、 {@link FileChannel#force(boolean)} で内容をストレージへ書き出した後に、書き込み先のファイルへアトミックに移動されるため、
+ * 書き込み途中のファイルが参照されることはなく、異常終了した場合も内容が失われたファイルが残ることはありません。
+ * 一時ファイルは {@link Files#writeString(Path, CharSequence, java.nio.file.OpenOption...)} と同様に umask に従った権限で作成され、
+ * 書き込み先のファイルが既に存在する場合は既存のファイルの権限を引き継ぎます。
+ * <p>
+ * 変更検知を有効にした場合は、書き込み先のファイルの内容が書き込む内容とバイト単位で一致する場合に書き込みを行いません。
+ * ファイルの更新日時が変化しないため、 Gradle や javac のインクリメンタルコンパイルで不要な再コンパイルが発生しません。
+ * 内容の比較はファイルサイズを比較した後に、サイズが一致した場合のみメモリマップしたファイルと比較します。
+ * 書き込んだファイル数と書き込みを省略したファイル数は {@link #getWrittenCount()} メソッドおよび {@link #getSkippedCount()}
+ * メソッドで取得することができます。
+ * <p>
+ * このクラスはスレッドセーフです。 {@link #writeAll(Collection)} メソッドを使用した場合は、並列度と同数のスレッドで並列に書き込みます。
+ * <p>
+ * 書き込みおよび書き込みの省略は {@link OutputWriteEvent} として Java Flight Recorder へ記録されます。
+ *
+ * <pre>
+ * 操作例:
+ * <code>
+ * FileSystemCatalogResourceSink.builder().root(Path.of("src/main/java")).skipUnchanged(true).build()
+ *         .writeAll(CatalogResourceFormatter.newInstance().format(catalogMatrix));
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FileSystemCatalogResourceSink implements CatalogResourceSink {
+
+    /**
+     * Java ファイルの拡張子
+     */
+    private static final String JAVA_FILE_EXTENSION = ".java";
+
+    /**
+     * 一時ファイルの拡張子
+     */
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    /**
+     * ルートディレクトリ
+     */
+    @NonNull
+    private final Path root;
+
+    /**
+     * {@link #writeAll(Collection)} メソッドで書き込みを行う並列度
+     */
+    @Builder.Default
+    private final int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 内容が一致するファイルへの書き込みを省略するか否か
+     */
+    @Builder.Default
+    private final boolean skipUnchanged = false;
+
+    /**
+     * 作成済みのパッケージ名とディレクトリのマップ
+     */
+    @ToString.Exclude
+    private final Map<String, Path> packageDirectories = new ConcurrentHashMap<>();
+
+    /**
+     * 書き込んだファイル数
+     */
+    @ToString.Exclude
+    private final LongAdder writtenCount = new LongAdder();
+
+    /**
+     * 内容が一致するため書き込みを省略したファイル数
+     */
+    @ToString.Exclude
+    private final LongAdder skippedCount = new LongAdder();
+
+    /**
+     * 引数として渡されたルートディレクトリへ書き込むシンクを生成し返却します。
+     *
+     * @param root ルートディレクトリ
+     * @return {@link FileSystemCatalogResourceSink} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static FileSystemCatalogResourceSink of(@NonNull Path root) {
+        return builder().root(root).build();
+    }
+
+    @Override
+    public void write(@NonNull CatalogResource catalogResource) throws IOException {
+
+        final OutputWriteEvent event = new OutputWriteEvent();
+        event.begin();
+
+        final Path packageDirectory = this.createPackageDirectory(catalogResource.getPackageName());
+        final String fileName = catalogResource.getClassName() + JAVA_FILE_EXTENSION;
+        final Path target = packageDirectory.resolve(fileName);
+        final byte[] content = catalogResource.getResource().getBytes(StandardCharsets.UTF_8);
+
+        if (this.skipUnchanged && this.hasSameContent(target, content)) {
+            this.skippedCount.increment();
+            commit(event, catalogResource, content.length, true);
+            return;
+        }
+
+        final Path temporaryFile = packageDirectory.resolve(String.format(".%s.%s%s", fileName,
+                Long.toUnsignedString(ThreadLocalRandom.current().nextLong()), TEMPORARY_FILE_EXTENSION));
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(content);
+
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+
+                // 異常終了時に移動のみが永続化されて内容が失われないよう、移動前に内容をストレージへ書き出す
+                channel.force(true);
+            }
+
+            this.copyPermissions(target, temporaryFile);
+            this.moveAtomically(temporaryFile, target);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+
+        this.writtenCount.increment();
+        commit(event, catalogResource, content.length, false);
+    }
+
+    /**
+     * 引数として渡された書き込みを記録するイベントを終了し、記録が有効な場合はイベントの値を設定して記録します。
+     *
+     * @param event           書き込みを記録するイベント
+     * @param catalogResource 書き込んだカタログリソース
+     * @param outputSize      書き込んだリソースのバイト数
+     * @param skipped         内容が一致したため書き込みを省略したか否か
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private static void commit(@NonNull OutputWriteEvent event, @NonNull CatalogResource catalogResource,
+            long outputSize, boolean skipped) {
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setSink(FileSystemCatalogResourceSink.class.getSimpleName());
+            event.setCatalogResource(catalogResource);
+            event.setOutputSize(outputSize);
+            event.setSkipped(skipped);
+            event.commit();
+        }
+    }
+
+    /**
+     * このシンクが書き込んだファイル数を返却します。
+     *
+     * @return 書き込んだファイル数
+     */
+    public long getWrittenCount() {
+        return this.writtenCount.sum();
+    }
+
+    /**
+     * 書き込み先のファイルと内容が一致したため、このシンクが書き込みを省略したファイル数を返却します。
+     *
+     * @return 書き込みを省略したファイル数
+     */
+    public long getSkippedCount() {
+        return this.skippedCount.sum();
+    }
+
+    /**
+     * 引数として渡されたカタログリソースを並列度と同数のスレッドで並列に書き込みます。
+     * <p>
+     * いずれかの書き込みに失敗した場合は未完了の書き込みを中断し、最初に発生した例外を送出します。
+     *
+     * @param catalogResources カタログリソースのコレクション
+     *
+     * @throws IOException 書き込み処理で入出力エラーが発生した場合
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 並列度に {@code 1} 未満の値が設定されている場合
+     * @exception IllegalStateException    処理が割り込まれた場合
+     */
+    public void writeAll(@NonNull Collection<CatalogResource> catalogResources) throws IOException {
+
+        if (this.parallelism < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Parallelism must be greater than or equal to 1 but was %d.", this.parallelism));
+        }
+
+        if (catalogResources.isEmpty()) {
+            return;
+        }
+
+        final ExecutorService executor = Executors
+                .newFixedThreadPool(Math.min(this.parallelism, catalogResources.size()));
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>(catalogResources.size());
+
+            catalogResources.forEach(catalogResource -> {
+                futures.add(executor.submit(() -> {
+                    this.write(catalogResource);
+                    return null;
+                }));
+            });
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    futures.forEach(pending -> pending.cancel(true));
+
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    }
+
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 引数として渡されたパッケージのディレクトリを作成し返却します。
+     * <p>
+     * ディレクトリの作成はパッケージごとに一度だけ行われます。
+     *
+     * @param packageName パッケージ名
+     * @return パッケージのディレクトリ
+     *
+     * @throws IOException ディレクトリの作成処理で入出力エラーが発生した場合
+     */
+    private Path createPackageDirectory(@NonNull String packageName) throws IOException {
+        try {
+            return this.packageDirectories.computeIfAbsent(packageName, name -> {
+                try {
+                    return Files.createDirectories(this.root.resolve(name.replace('.', '/')));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 引数として渡されたファイルの内容が {@code content} とバイト単位で一致するか判定します。
+     * <p>
+     * ファイルサイズが一致しない場合はファイルの内容を読み込まずに {@code false} を返却します。
+     * ファイルサイズが一致する場合はファイルをメモリマップして比較します。
+     *
+     * @param file    比較するファイル
+     * @param content 書き込む内容
+     * @return ファイルが存在し内容が一致する場合は {@code true} 、それ以外の場合は {@code false}
+     *
+     * @throws IOException ファイルの読み込み処理で入出力エラーが発生した場合
+     */
+    private boolean hasSameContent(@NonNull Path file, @NonNull byte[] content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            if (channel.size() != content.length) {
+                return false;
+            }
+
+            if (content.length == 0) {
+                return true;
+            }
+
+            final MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, content.length);
+
+            return mappedBuffer.mismatch(ByteBuffer.wrap(content)) < 0;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 書き込み先のファイルが既に存在する場合に、既存のファイルの POSIX 権限を一時ファイルへ設定します。
+     * <p>
+     * 書き込み先のファイルが存在しない場合、またはファイルシステムが POSIX 権限に対応していない場合は何もしません。
+     *
+     * @param target        書き込み先のファイル
+     * @param temporaryFile 一時ファイル
+     *
+     * @throws IOException 権限の取得または設定で入出力エラーが発生した場合
+     */
+    private void copyPermissions(@NonNull Path target, @NonNull Path temporaryFile) throws IOException {
+        try {
+            Files.setPosixFilePermissions(temporaryFile, Files.getPosixFilePermissions(target));
+        } catch (NoSuchFileException | UnsupportedOperationException e) {
+            // 新規作成されるファイルは umask に従った権限のまま移動する
+        }
+    }
+
+    /**
+     * 一時ファイルを書き込み先のファイルへアトミックに移動します。
+     * <p>
+     * ファイルシステムがアトミックな移動に対応していない場合は通常の置き換えを行います。
+     *
+     * @param source 一時ファイル
+     * @param target 書き込み先のファイル
+     *
+     * @throws IOException 移動処理で入出力エラーが発生した場合
+     */
+    private void moveAtomically(@NonNull Path source, @NonNull Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
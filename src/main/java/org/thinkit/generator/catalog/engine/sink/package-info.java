@@ -0,0 +1,4 @@
+/**
+ * 生成されたカタログリソースを出力先へ書き込むシンククラスを管理するパッケージです。
+ */
+package org.thinkit.generator.catalog.engine.sink;
@@ -0,0 +1,862 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 組み立てられたカタログリソースを構文解析を行わずに AOSP スタイルで整形するストラテジーです。
+ * <p>
+ * google-java-format はリソースを構文解析した上で全体を再配置するため、整形処理がリソース生成の大半を占めます。
+ * このストラテジーはカタログジェネレーターが組み立てるリソースの構造が既知であることを利用し、行単位の1パスで次の整形を行います。
+ * <ul>
+ * <li>波括弧の深さに応じた4桁単位のインデントと、 {@code switch} 文の {@code case} ラベルに続く文の4桁の追加インデント</li>
+ * <li>連続する空行の集約および閉じ括弧直前の空行の除去</li>
+ * <li>Javadoc の段落、ブロックタグおよび100桁での折り返しと、1行に収まる Javadoc の単一行化</li>
+ * <li>引数のないアノテーションが付与されたフィールド宣言の単一行化</li>
+ * <li>100桁を超える宣言および呼び出しの継続インデント8桁での折り返し</li>
+ * <li>100桁を超える変数宣言の代入演算子の直後または変数名の直前での折り返し</li>
+ * <li>100桁を超える型宣言の {@code extends} 節および {@code implements} 節と、拡張 {@code for} 文の段階的な折り返し</li>
+ * </ul>
+ * <p>
+ * 段階的に折り返しても最大桁数に収まらない長さの名前を持つ宣言が含まれる場合は、整形を {@link CatalogSharedGoogleJavaFormat} へ委譲します。
+ * <p>
+ * カタログジェネレーターが生成するリソースの範囲では google-java-format の AOSP スタイルと同一の結果を出力します。
+ * 同一であることは {@link org.thinkit.generator.catalog.engine.catalog.FormatMode#VERIFIED_AOSP} を使用して検証することができます。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+public final class CatalogAospFormat implements CatalogFormatStrategy {
+
+    /**
+     * シングルトンインスタンス
+     */
+    private static final CatalogAospFormat INSTANCE = new CatalogAospFormat();
+
+    /**
+     * 1行の最大桁数
+     */
+    private static final int MAX_LINE_LENGTH = 100;
+
+    /**
+     * インデントの桁数
+     */
+    private static final int INDENT_WIDTH = 4;
+
+    /**
+     * 継続行のインデントの桁数
+     */
+    private static final int CONTINUATION_INDENT_WIDTH = 8;
+
+    /**
+     * Javadoc のブロックタグの継続行のインデント
+     */
+    private static final String BLOCK_TAG_CONTINUATION_INDENT = "    ";
+
+    /**
+     * 改行コード
+     */
+    private static final char NEW_LINE = '\n';
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private CatalogAospFormat() {
+    }
+
+    /**
+     * {@link CatalogAospFormat} クラスのインスタンスを返却します。
+     *
+     * @return {@link CatalogAospFormat} クラスのインスタンス
+     */
+    public static CatalogAospFormat newInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String format(@NonNull String resource) {
+
+        final String[] lines = resource.split("\r?\n", -1);
+        final StringBuilder formatted = new StringBuilder(resource.length() + (resource.length() >> 2));
+        final List<String> annotations = new ArrayList<>();
+
+        int depth = 0;
+        int switchDepth = -1;
+        boolean blankLine = false;
+
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+
+            if (line.isEmpty()) {
+                blankLine = formatted.length() > 0;
+                continue;
+            }
+
+            if (line.startsWith("/*")) {
+                final int start = i;
+
+                while (!lines[i].contains("*/") && i + 1 < lines.length) {
+                    i++;
+                }
+
+                appendBlankLine(formatted, blankLine);
+                blankLine = false;
+
+                if (line.startsWith("/**")) {
+                    appendJavadoc(formatted, depth * INDENT_WIDTH, lines, start, i);
+                } else {
+                    appendBlockComment(formatted, depth * INDENT_WIDTH, lines, start, i);
+                }
+
+                continue;
+            }
+
+            if (isAnnotation(line)) {
+                appendBlankLine(formatted, blankLine);
+                blankLine = false;
+                annotations.add(line);
+                continue;
+            }
+
+            while (!isTerminated(line) && i + 1 < lines.length && !lines[i + 1].strip().startsWith("}")
+                    && !lines[i + 1].strip().isEmpty()) {
+                line = line + " " + lines[++i].strip();
+            }
+
+            final boolean switchLabel = isSwitchLabel(line);
+
+            if (switchLabel) {
+                switchDepth = depth;
+            }
+
+            int indentDepth = line.startsWith("}") ? depth - 1 : depth;
+
+            if (switchDepth >= 0 && indentDepth >= switchDepth && !switchLabel) {
+                indentDepth++;
+            }
+
+            final int indentWidth = Math.max(0, indentDepth) * INDENT_WIDTH;
+
+            if (!line.startsWith("}")) {
+                appendBlankLine(formatted, blankLine);
+            }
+
+            blankLine = false;
+
+            if (!annotations.isEmpty()) {
+                if (isFieldDeclaration(line)
+                        && annotations.stream().noneMatch(annotation -> annotation.contains("("))) {
+                    line = String.join(" ", annotations) + " " + line;
+                } else {
+                    annotations.forEach(annotation -> appendLine(formatted, indentWidth, annotation));
+                }
+
+                annotations.clear();
+            }
+
+            appendCode(formatted, indentWidth, line);
+            depth += countBraces(line);
+
+            if (depth < switchDepth) {
+                switchDepth = -1;
+            }
+        }
+
+        annotations.forEach(annotation -> appendLine(formatted, 0, annotation));
+
+        // 段階的な折り返しでも収まらない宣言は google-java-format と同一に折り返せないため、整形を委譲する
+        if (hasOverflowingCode(formatted)) {
+            return CatalogSharedGoogleJavaFormat.newInstance().format(resource);
+        }
+
+        return formatted.toString();
+    }
+
+    /**
+     * 引数として渡された整形結果に最大桁数を超えるコード行が含まれるか判定します。
+     * <p>
+     * 文字列リテラルおよび文字リテラルを含む行と、コメントの行は折り返すことができないため判定の対象外とします。
+     *
+     * @param formatted 整形結果
+     * @return 最大桁数を超えるコード行が含まれる場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean hasOverflowingCode(CharSequence formatted) {
+
+        int start = 0;
+
+        for (int i = 0, length = formatted.length(); i <= length; i++) {
+            if (i < length && formatted.charAt(i) != NEW_LINE) {
+                continue;
+            }
+
+            if (i - start > MAX_LINE_LENGTH && isWrappableCode(formatted, start, i)) {
+                return true;
+            }
+
+            start = i + 1;
+        }
+
+        return false;
+    }
+
+    /**
+     * 引数として渡された範囲の行が折り返し可能なコード行か判定します。
+     *
+     * @param formatted 整形結果
+     * @param start     行の開始位置
+     * @param end       行の終了位置 (改行コードの位置)
+     * @return 折り返し可能なコード行の場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isWrappableCode(CharSequence formatted, int start, int end) {
+
+        int position = start;
+
+        while (position < end && formatted.charAt(position) == ' ') {
+            position++;
+        }
+
+        if (position < end && (formatted.charAt(position) == '*' || formatted.charAt(position) == '/')) {
+            return false;
+        }
+
+        for (; position < end; position++) {
+            final char c = formatted.charAt(position);
+
+            if (c == '"' || c == '\'') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 空行を出力する必要がある場合は空行を追加します。
+     *
+     * @param formatted 整形結果
+     * @param blankLine 空行を出力するか否か
+     */
+    private static void appendBlankLine(StringBuilder formatted, boolean blankLine) {
+        if (blankLine) {
+            formatted.append(NEW_LINE);
+        }
+    }
+
+    /**
+     * インデントを付与した行を追加します。
+     *
+     * @param formatted   整形結果
+     * @param indentWidth インデントの桁数
+     * @param line        追加する行
+     */
+    private static void appendLine(StringBuilder formatted, int indentWidth, String line) {
+        formatted.append(" ".repeat(indentWidth)).append(line).append(NEW_LINE);
+    }
+
+    /**
+     * 引数として渡されたコード行を追加します。
+     * <p>
+     * 最大桁数を超える場合は、型宣言の {@code extends} および {@code implements} の直前、変数宣言の代入演算子の直後あるいは変数名の直前、
+     * 拡張 {@code for} 文のコロンの直後、または最初の丸括弧の内側で折り返します。丸括弧の内側が継続行に収まらない場合は引数ごとに折り返し、
+     * 最初の丸括弧までが1行に収まらない場合は丸括弧の直前の名前の前で折り返します。
+     *
+     * @param formatted   整形結果
+     * @param indentWidth インデントの桁数
+     * @param line        追加するコード行
+     */
+    private static void appendCode(StringBuilder formatted, int indentWidth, String line) {
+
+        if (indentWidth + line.length() <= MAX_LINE_LENGTH) {
+            appendLine(formatted, indentWidth, line);
+            return;
+        }
+
+        final int continuationWidth = indentWidth + CONTINUATION_INDENT_WIDTH;
+        final int typeClause = indexOfTypeClause(line);
+
+        if (typeClause > 0 && line.endsWith("{")) {
+            appendLine(formatted, indentWidth, line.substring(0, typeClause));
+            appendTypeClause(formatted, continuationWidth, line.substring(typeClause + 1));
+            return;
+        }
+
+        if (isFieldDeclaration(line) && appendVariableDeclaration(formatted, indentWidth, line)) {
+            return;
+        }
+
+        final int iteration = line.startsWith("for (") ? line.indexOf(" : ") : -1;
+
+        if (iteration > 0 && indentWidth + iteration + " :".length() <= MAX_LINE_LENGTH) {
+            appendLine(formatted, indentWidth, line.substring(0, iteration + " :".length()));
+            appendLine(formatted, continuationWidth, line.substring(iteration + " : ".length()));
+            return;
+        }
+
+        final int open = indexOfTopLevel(line, "(");
+        final int close = open < 0 ? -1 : indexOfClosingParenthesis(line, open);
+
+        if (close < 0 || close == open + 1) {
+            appendLine(formatted, indentWidth, line);
+            return;
+        }
+
+        final int name = line.lastIndexOf(' ', open);
+
+        if (indentWidth + open + 1 > MAX_LINE_LENGTH && name > 0) {
+            appendLine(formatted, indentWidth, line.substring(0, name));
+            appendCode(formatted, continuationWidth, line.substring(name + 1));
+            return;
+        }
+
+        appendLine(formatted, indentWidth, line.substring(0, open + 1));
+
+        final String arguments = line.substring(open + 1, close);
+        final String tail = line.substring(close);
+
+        if (continuationWidth + arguments.length() + tail.length() <= MAX_LINE_LENGTH) {
+            appendLine(formatted, continuationWidth, arguments + tail);
+            return;
+        }
+
+        final List<String> splitArguments = splitTopLevel(arguments);
+
+        for (int i = 0, size = splitArguments.size(); i < size; i++) {
+            appendLine(formatted, continuationWidth, splitArguments.get(i) + (i < size - 1 ? "," : tail));
+        }
+    }
+
+    /**
+     * 引数として渡された変数宣言を代入演算子の直後、あるいは変数名の直前で折り返して追加します。
+     * <p>
+     * 代入演算子までと初期化式がそれぞれ1行に収まる場合は代入演算子の直後で折り返し、
+     * 収まらない場合は変数名以降が継続行に収まれば変数名の直前で折り返し、収まらなければ変数名の直前と代入演算子の直後の両方で折り返します。
+     * 型を持たない代入文は、初期化式が継続行に収まらない場合でも代入演算子の直後で折り返します。
+     *
+     * @param formatted   整形結果
+     * @param indentWidth インデントの桁数
+     * @param line        追加する変数宣言
+     * @return 折り返して追加した場合は {@code true} 、それ以外の場合は {@code false}
+     */
+    private static boolean appendVariableDeclaration(StringBuilder formatted, int indentWidth, String line) {
+
+        final int assignment = indexOfTopLevel(line, " = ");
+
+        if (assignment < 0) {
+            return false;
+        }
+
+        final int continuationWidth = indentWidth + CONTINUATION_INDENT_WIDTH;
+        final String declaration = line.substring(0, assignment + " =".length());
+        final String initializer = line.substring(assignment + " = ".length());
+
+        if (indentWidth + declaration.length() <= MAX_LINE_LENGTH
+                && continuationWidth + initializer.length() <= MAX_LINE_LENGTH) {
+            appendLine(formatted, indentWidth, declaration);
+            appendLine(formatted, continuationWidth, initializer);
+            return true;
+        }
+
+        final int name = line.lastIndexOf(' ', assignment - 1);
+
+        if (name < 0 && indentWidth + declaration.length() <= MAX_LINE_LENGTH) {
+            appendLine(formatted, indentWidth, declaration);
+            appendLine(formatted, continuationWidth, initializer);
+            return true;
+        }
+
+        if (name > 0 && continuationWidth + line.length() - name - 1 <= MAX_LINE_LENGTH) {
+            appendLine(formatted, indentWidth, line.substring(0, name));
+            appendLine(formatted, continuationWidth, line.substring(name + 1));
+            return true;
+        }
+
+        if (name > 0 && continuationWidth + assignment - name - 1 + " =".length() <= MAX_LINE_LENGTH) {
+            appendLine(formatted, indentWidth, line.substring(0, name));
+            appendLine(formatted, continuationWidth, line.substring(name + 1, assignment + " =".length()));
+            appendLine(formatted, continuationWidth + CONTINUATION_INDENT_WIDTH, initializer);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * 引数として渡された型宣言の {@code extends} または {@code implements} 節を継続行として追加します。
+     * <p>
+     * 継続行に収まらない場合はキーワードの直後で折り返し、さらに収まらない場合は型引数の山括弧の内側で折り返します。
+     * 型引数が1行に収まらない場合は型引数ごとに折り返します。折り返すごとに継続インデントを8桁ずつ加算します。
+     *
+     * @param formatted   整形結果
+     * @param indentWidth 継続行のインデントの桁数
+     * @param clause      {@code extends} または {@code implements} から始まり波括弧で終わる節
+     */
+    private static void appendTypeClause(StringBuilder formatted, int indentWidth, String clause) {
+
+        final int keyword = clause.indexOf(' ');
+
+        if (indentWidth + clause.length() <= MAX_LINE_LENGTH || keyword < 0) {
+            appendLine(formatted, indentWidth, clause);
+            return;
+        }
+
+        appendLine(formatted, indentWidth, clause.substring(0, keyword));
+
+        final int typeWidth = indentWidth + CONTINUATION_INDENT_WIDTH;
+        final String type = clause.substring(keyword + 1);
+        final int open = type.indexOf('<');
+        final int close = type.lastIndexOf('>');
+
+        if (typeWidth + type.length() <= MAX_LINE_LENGTH || open < 0 || close < open) {
+            appendLine(formatted, typeWidth, type);
+            return;
+        }
+
+        appendLine(formatted, typeWidth, type.substring(0, open + 1));
+
+        final int argumentWidth = typeWidth + CONTINUATION_INDENT_WIDTH;
+        final String arguments = type.substring(open + 1, close);
+        final String tail = type.substring(close);
+
+        if (argumentWidth + arguments.length() + tail.length() <= MAX_LINE_LENGTH) {
+            appendLine(formatted, argumentWidth, arguments + tail);
+            return;
+        }
+
+        final List<String> splitArguments = splitTopLevel(arguments);
+
+        for (int i = 0, size = splitArguments.size(); i < size; i++) {
+            appendLine(formatted, argumentWidth, splitArguments.get(i) + (i < size - 1 ? "," : tail));
+        }
+    }
+
+    /**
+     * 引数として渡された範囲の Javadoc を整形して追加します。
+     * <p>
+     * 空行で区切られた2つ目以降の段落には {@code <p>} を付与し、ブロックタグの前には空行を出力します。
+     * 本文は最大桁数で折り返され、整形結果が1行に収まる場合は単一行の Javadoc として出力します。
+     *
+     * @param formatted   整形結果
+     * @param indentWidth インデントの桁数
+     * @param lines       リソースの行
+     * @param start       Javadoc の開始行
+     * @param end         Javadoc の終了行
+     */
+    private static void appendJavadoc(StringBuilder formatted, int indentWidth, String[] lines, int start, int end) {
+
+        final List<String> contents = new ArrayList<>();
+
+        for (int i = start; i <= end; i++) {
+            String content = lines[i].strip();
+
+            if (i == start) {
+                content = content.substring("/**".length());
+            }
+
+            if (i == end) {
+                content = content.substring(0, content.lastIndexOf("*/"));
+            }
+
+            content = content.strip();
+
+            if (content.startsWith("*")) {
+                content = content.substring(1).strip();
+            }
+
+            contents.add(content);
+        }
+
+        final int width = MAX_LINE_LENGTH - indentWidth - " * ".length();
+        final List<String> javadocLines = new ArrayList<>();
+        final List<String> words = new ArrayList<>();
+
+        boolean blockTag = false;
+
+        for (String content : contents) {
+            if (content.isEmpty()) {
+                if (!blockTag && !words.isEmpty()) {
+                    appendParagraph(javadocLines, words, width);
+                }
+
+                continue;
+            }
+
+            if (content.startsWith("@")) {
+                if (!words.isEmpty()) {
+                    if (blockTag) {
+                        appendBlockTag(javadocLines, words, width);
+                    } else {
+                        appendParagraph(javadocLines, words, width);
+                    }
+                }
+
+                if (!blockTag && !javadocLines.isEmpty()) {
+                    javadocLines.add("");
+                }
+
+                blockTag = true;
+            } else if (!blockTag && content.startsWith("<p>")) {
+                if (!words.isEmpty()) {
+                    appendParagraph(javadocLines, words, width);
+                }
+
+                content = content.substring("<p>".length()).strip();
+            }
+
+            addWords(words, content);
+        }
+
+        if (!words.isEmpty()) {
+            if (blockTag) {
+                appendBlockTag(javadocLines, words, width);
+            } else {
+                appendParagraph(javadocLines, words, width);
+            }
+        }
+
+        final String indent = " ".repeat(indentWidth);
+
+        if (javadocLines.isEmpty()) {
+            formatted.append(indent).append("/** */").append(NEW_LINE);
+            return;
+        }
+
+        if (javadocLines.size() == 1
+                && javadocLines.get(0).length() <= MAX_LINE_LENGTH - "/**  */".length() - indentWidth) {
+            formatted.append(indent).append("/** ").append(javadocLines.get(0)).append(" */").append(NEW_LINE);
+            return;
+        }
+
+        formatted.append(indent).append("/**").append(NEW_LINE);
+        javadocLines.forEach(javadocLine -> {
+            formatted.append(indent).append(javadocLine.isEmpty() ? " *" : " * " + javadocLine).append(NEW_LINE);
+        });
+        formatted.append(indent).append(" */").append(NEW_LINE);
+    }
+
+    /**
+     * 蓄積された単語を段落として折り返して追加し、蓄積された単語を破棄します。
+     * <p>
+     * 2つ目以降の段落は空行で区切り、先頭に {@code <p>} を付与します。
+     *
+     * @param javadocLines Javadoc の行
+     * @param words        蓄積された単語
+     * @param width        1行の最大桁数
+     */
+    private static void appendParagraph(List<String> javadocLines, List<String> words, int width) {
+
+        if (!javadocLines.isEmpty()) {
+            javadocLines.add("");
+            words.set(0, "<p>" + words.get(0));
+        }
+
+        wrap(javadocLines, words, width, "");
+        words.clear();
+    }
+
+    /**
+     * 蓄積された単語をブロックタグとして折り返して追加し、蓄積された単語を破棄します。
+     *
+     * @param javadocLines Javadoc の行
+     * @param words        蓄積された単語
+     * @param width        1行の最大桁数
+     */
+    private static void appendBlockTag(List<String> javadocLines, List<String> words, int width) {
+        wrap(javadocLines, words, width, BLOCK_TAG_CONTINUATION_INDENT);
+        words.clear();
+    }
+
+    /**
+     * 単語を最大桁数で折り返した行を追加します。
+     *
+     * @param javadocLines       Javadoc の行
+     * @param words              単語
+     * @param width              1行の最大桁数
+     * @param continuationIndent 継続行のインデント
+     */
+    private static void wrap(List<String> javadocLines, List<String> words, int width, String continuationIndent) {
+
+        final StringBuilder javadocLine = new StringBuilder(words.get(0));
+
+        for (int i = 1, size = words.size(); i < size; i++) {
+            final String word = words.get(i);
+
+            if (javadocLine.length() + 1 + word.length() > width) {
+                javadocLines.add(javadocLine.toString());
+                javadocLine.setLength(0);
+                javadocLine.append(continuationIndent).append(word);
+            } else {
+                javadocLine.append(' ').append(word);
+            }
+        }
+
+        javadocLines.add(javadocLine.toString());
+    }
+
+    /**
+     * 引数として渡された本文を空白で単語に分割して追加します。
+     *
+     * @param words   単語
+     * @param content 本文
+     */
+    private static void addWords(List<String> words, String content) {
+        for (String word : content.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+    }
+
+    /**
+     * 引数として渡された範囲のブロックコメントを追加します。
+     * <p>
+     * {@code *} で始まる行は開始行の {@code /*} に揃えてインデントします。
+     *
+     * @param formatted   整形結果
+     * @param indentWidth インデントの桁数
+     * @param lines       リソースの行
+     * @param start       ブロックコメントの開始行
+     * @param end         ブロックコメントの終了行
+     */
+    private static void appendBlockComment(StringBuilder formatted, int indentWidth, String[] lines, int start,
+            int end) {
+        for (int i = start; i <= end; i++) {
+            final String line = lines[i].strip();
+            appendLine(formatted, line.startsWith("*") ? indentWidth + 1 : indentWidth, line);
+        }
+    }
+
+    /**
+     * 引数として渡された行がアノテーションのみで構成されているか判定します。
+     *
+     * @param line 行
+     * @return アノテーションのみで構成されている場合は {@code true} 、それ以外の場合は {@code false}
+     */
+    private static boolean isAnnotation(String line) {
+
+        if (!line.startsWith("@") || line.startsWith("@interface")) {
+            return false;
+        }
+
+        final int open = line.indexOf('(');
+
+        return open < 0 ? line.indexOf(' ') < 0 : indexOfClosingParenthesis(line, open) == line.length() - 1;
+    }
+
+    /**
+     * 引数として渡された行が {@code switch} 文の {@code case} ラベルまたは {@code default} ラベルであるか判定します。
+     *
+     * @param line 行
+     * @return {@code switch} 文のラベルの場合は {@code true} 、それ以外の場合は {@code false}
+     */
+    private static boolean isSwitchLabel(String line) {
+        return (line.startsWith("case ") || line.startsWith("default")) && line.endsWith(":");
+    }
+
+    /**
+     * 引数として渡された行がフィールド宣言であるか判定します。
+     *
+     * @param line 行
+     * @return フィールド宣言の場合は {@code true} 、それ以外の場合は {@code false}
+     */
+    private static boolean isFieldDeclaration(String line) {
+
+        if (!line.endsWith(";") || line.startsWith("return ")) {
+            return false;
+        }
+
+        final int open = line.indexOf('(');
+        final int assignment = line.indexOf('=');
+
+        return open < 0 || (assignment >= 0 && assignment < open);
+    }
+
+    /**
+     * 引数として渡された行で文または宣言が終了しているか判定します。
+     *
+     * @param line 行
+     * @return 文または宣言が終了している場合は {@code true} 、それ以外の場合は {@code false}
+     */
+    private static boolean isTerminated(String line) {
+        return line.endsWith(";") || line.endsWith("{") || line.endsWith("}") || line.endsWith(",")
+                || isSwitchLabel(line) || line.startsWith("//") || line.startsWith("package ")
+                || line.startsWith("import ");
+    }
+
+    /**
+     * 引数として渡された行の文字列リテラルおよびコメントを除いた波括弧の増減を返却します。
+     *
+     * @param line 行
+     * @return 開き波括弧の数から閉じ波括弧の数を引いた値
+     */
+    private static int countBraces(String line) {
+
+        int count = 0;
+
+        for (int i = 0, length = line.length(); i < length; i++) {
+            final char c = line.charAt(i);
+
+            if (c == '"' || c == '\'') {
+                i = skipLiteral(line, i);
+            } else if (c == '/' && i + 1 < length && line.charAt(i + 1) == '/') {
+                break;
+            } else if (c == '{') {
+                count++;
+            } else if (c == '}') {
+                count--;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * 文字列リテラルおよび括弧の外側で最初に出現する {@code target} の位置を返却します。
+     *
+     * @param line   行
+     * @param target 検索する文字列
+     * @return 最初に出現する位置、出現しない場合は {@code -1}
+     */
+    private static int indexOfTopLevel(String line, String target) {
+
+        int nesting = 0;
+
+        for (int i = 0, length = line.length(); i < length; i++) {
+            final char c = line.charAt(i);
+
+            if (nesting == 0 && line.startsWith(target, i)) {
+                return i;
+            }
+
+            if (c == '"' || c == '\'') {
+                i = skipLiteral(line, i);
+            } else if (c == '(' || c == '<') {
+                nesting++;
+            } else if ((c == ')' || c == '>') && nesting > 0) {
+                nesting--;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 型宣言の {@code extends} 句または {@code implements} 句のうち先に出現する句の直前の空白の位置を返却します。
+     *
+     * @param line 行
+     * @return 句の直前の空白の位置、句が存在しない場合は {@code -1}
+     */
+    private static int indexOfTypeClause(String line) {
+
+        final int extendsClause = indexOfTopLevel(line, " extends ");
+        final int implementsClause = indexOfTopLevel(line, " implements ");
+
+        if (extendsClause < 0 || implementsClause < 0) {
+            return Math.max(extendsClause, implementsClause);
+        }
+
+        return Math.min(extendsClause, implementsClause);
+    }
+
+    /**
+     * 引数として渡された開き丸括弧に対応する閉じ丸括弧の位置を返却します。
+     *
+     * @param line 行
+     * @param open 開き丸括弧の位置
+     * @return 閉じ丸括弧の位置、存在しない場合は {@code -1}
+     */
+    private static int indexOfClosingParenthesis(String line, int open) {
+
+        int nesting = 0;
+
+        for (int i = open, length = line.length(); i < length; i++) {
+            final char c = line.charAt(i);
+
+            if (c == '"' || c == '\'') {
+                i = skipLiteral(line, i);
+            } else if (c == '(') {
+                nesting++;
+            } else if (c == ')' && --nesting == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 文字列リテラルおよび括弧の外側にあるカンマで引数を分割します。
+     *
+     * @param arguments 引数
+     * @return 分割された引数
+     */
+    private static List<String> splitTopLevel(String arguments) {
+
+        final List<String> splitArguments = new ArrayList<>();
+
+        int nesting = 0;
+        int start = 0;
+
+        for (int i = 0, length = arguments.length(); i < length; i++) {
+            final char c = arguments.charAt(i);
+
+            if (c == '"' || c == '\'') {
+                i = skipLiteral(arguments, i);
+            } else if (c == '(' || c == '<' || c == '{') {
+                nesting++;
+            } else if (c == ')' || c == '>' || c == '}') {
+                nesting--;
+            } else if (c == ',' && nesting == 0) {
+                splitArguments.add(arguments.substring(start, i).strip());
+                start = i + 1;
+            }
+        }
+
+        splitArguments.add(arguments.substring(start).strip());
+
+        return splitArguments;
+    }
+
+    /**
+     * 引数として渡された位置から始まる文字列リテラルまたは文字リテラルの終端の位置を返却します。
+     *
+     * @param line  行
+     * @param start リテラルの開始位置
+     * @return リテラルの終端の位置
+     */
+    private static int skipLiteral(String line, int start) {
+
+        final char quote = line.charAt(start);
+
+        for (int i = start + 1, length = line.length(); i < length; i++) {
+            final char c = line.charAt(i);
+
+            if (c == '\\') {
+                i++;
+            } else if (c == quote) {
+                return i;
+            }
+        }
+
+        return line.length() - 1;
+    }
+}
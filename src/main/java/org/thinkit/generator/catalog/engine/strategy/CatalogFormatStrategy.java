@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.strategy;
+
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+
+/**
+ * 組み立てられたカタログリソースを整形する処理を定義したストラテジーです。
+ * <p>
+ * このインターフェースの実装クラスは複数のスレッドから同時に使用されるため、スレッドセーフである必要があります。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public interface CatalogFormatStrategy {
+
+    /**
+     * 引数として渡されたカタログリソースを整形した結果を返却します。
+     *
+     * @param resource 組み立てられたカタログリソース
+     * @return 整形されたカタログリソース
+     *
+     * @exception IllegalStateException 整形処理に失敗した場合
+     */
+    String format(String resource);
+
+    /**
+     * 引数として渡された整形方式に対応するストラテジーを返却します。
+     *
+     * @param formatMode 整形方式
+     * @return 整形方式に対応するストラテジー
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static CatalogFormatStrategy of(FormatMode formatMode) {
+        return switch (formatMode) {
+            case NONE -> CatalogRawFormat.newInstance();
+            case SHARED_GJF -> CatalogSharedGoogleJavaFormat.newInstance();
+            case STRICT_GJF -> CatalogStrictGoogleJavaFormat.newInstance();
+            case NATIVE_AOSP -> CatalogAospFormat.newInstance();
+            case VERIFIED_AOSP -> CatalogVerifiedAospFormat.newInstance();
+        };
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.strategy;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 整形を行わず、組み立てられたカタログリソースをそのまま返却するストラテジーです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+public final class CatalogRawFormat implements CatalogFormatStrategy {
+
+    /**
+     * シングルトンインスタンス
+     */
+    private static final CatalogRawFormat INSTANCE = new CatalogRawFormat();
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private CatalogRawFormat() {
+    }
+
+    /**
+     * {@link CatalogRawFormat} クラスのインスタンスを返却します。
+     *
+     * @return {@link CatalogRawFormat} クラスのインスタンス
+     */
+    public static CatalogRawFormat newInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String format(@NonNull String resource) {
+        return resource;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.strategy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.googlejavaformat.java.Formatter;
+import com.google.googlejavaformat.java.FormatterException;
+import com.google.googlejavaformat.java.JavaFormatterOptions;
+import com.google.googlejavaformat.java.JavaFormatterOptions.Style;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 整形オプションごとに1つだけ生成した google-java-format のフォーマッターを共有して整形するストラテジーです。
+ * <p>
+ * google-java-format の {@link Formatter} は不変でありスレッドセーフなため、複数のスレッドから同時に使用することができます。
+ * フォーマッターの生成コストをカタログリソースごとに支払う必要がないため、 {@link CatalogStrictGoogleJavaFormat}
+ * よりも高速に整形することができます。整形結果は {@link CatalogStrictGoogleJavaFormat} と同一です。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+public final class CatalogSharedGoogleJavaFormat implements CatalogFormatStrategy {
+
+    /**
+     * スタイルごとのストラテジー
+     */
+    private static final Map<Style, CatalogSharedGoogleJavaFormat> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * スタイル
+     */
+    private final Style style;
+
+    /**
+     * 共有されるフォーマッター
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Formatter formatter;
+
+    /**
+     * コンストラクタ
+     *
+     * @param style スタイル
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private CatalogSharedGoogleJavaFormat(@NonNull Style style) {
+        this.style = style;
+        this.formatter = new Formatter(JavaFormatterOptions.builder().style(style).build());
+    }
+
+    /**
+     * AOSP スタイルで整形する {@link CatalogSharedGoogleJavaFormat} クラスのインスタンスを返却します。
+     *
+     * @return {@link CatalogSharedGoogleJavaFormat} クラスのインスタンス
+     */
+    public static CatalogSharedGoogleJavaFormat newInstance() {
+        return of(Style.AOSP);
+    }
+
+    /**
+     * 引数として渡されたスタイルで整形する {@link CatalogSharedGoogleJavaFormat} クラスのインスタンスを返却します。
+     * <p>
+     * 同一のスタイルに対しては常に同一のインスタンスを返却します。
+     *
+     * @param style スタイル
+     * @return {@link CatalogSharedGoogleJavaFormat} クラスのインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static CatalogSharedGoogleJavaFormat of(@NonNull Style style) {
+        return INSTANCES.computeIfAbsent(style, CatalogSharedGoogleJavaFormat::new);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 生成されたカタログリソースに文法エラーが存在する場合は実行時に {@link IllegalStateException} が発生します。
+     */
+    @Override
+    public String format(@NonNull String resource) {
+        try {
+            return this.formatter.formatSource(resource);
+        } catch (FormatterException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
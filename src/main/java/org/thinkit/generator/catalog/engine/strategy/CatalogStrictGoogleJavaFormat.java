@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.strategy;
+
+import com.google.googlejavaformat.java.Formatter;
+import com.google.googlejavaformat.java.FormatterException;
+import com.google.googlejavaformat.java.JavaFormatterOptions;
+import com.google.googlejavaformat.java.JavaFormatterOptions.Style;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * カタログリソースごとに google-java-format のフォーマッターを生成し、AOSP スタイルで整形するストラテジーです。
+ * <p>
+ * バージョン 1.0.8 以前の整形処理と同一の振る舞いです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+public final class CatalogStrictGoogleJavaFormat implements CatalogFormatStrategy {
+
+    /**
+     * シングルトンインスタンス
+     */
+    private static final CatalogStrictGoogleJavaFormat INSTANCE = new CatalogStrictGoogleJavaFormat();
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private CatalogStrictGoogleJavaFormat() {
+    }
+
+    /**
+     * {@link CatalogStrictGoogleJavaFormat} クラスのインスタンスを返却します。
+     *
+     * @return {@link CatalogStrictGoogleJavaFormat} クラスのインスタンス
+     */
+    public static CatalogStrictGoogleJavaFormat newInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 生成されたカタログリソースに文法エラーが存在する場合は実行時に {@link IllegalStateException} が発生します。
+     */
+    @Override
+    public String format(@NonNull String resource) {
+        try {
+            return new Formatter(JavaFormatterOptions.builder().style(Style.AOSP).build()).formatSource(resource);
+        } catch (FormatterException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
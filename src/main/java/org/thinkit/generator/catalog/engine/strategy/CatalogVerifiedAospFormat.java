@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.strategy;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * {@link CatalogAospFormat} で整形した結果が google-java-format で整形した結果とバイト単位で一致することを検証するストラテジーです。
+ * <p>
+ * 両方の整形処理を実行するため {@link CatalogStrictGoogleJavaFormat} よりも低速です。既存のカタログ定義に対して
+ * {@link CatalogAospFormat} を使用できることを確認する場合に使用してください。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+public final class CatalogVerifiedAospFormat implements CatalogFormatStrategy {
+
+    /**
+     * シングルトンインスタンス
+     */
+    private static final CatalogVerifiedAospFormat INSTANCE = new CatalogVerifiedAospFormat();
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private CatalogVerifiedAospFormat() {
+    }
+
+    /**
+     * {@link CatalogVerifiedAospFormat} クラスのインスタンスを返却します。
+     *
+     * @return {@link CatalogVerifiedAospFormat} クラスのインスタンス
+     */
+    public static CatalogVerifiedAospFormat newInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 整形結果が google-java-format で整形した結果と一致しない場合は、最初に一致しない行を含む {@link IllegalStateException} が発生します。
+     */
+    @Override
+    public String format(@NonNull String resource) {
+
+        final String formatted = CatalogAospFormat.newInstance().format(resource);
+        final String expected = CatalogSharedGoogleJavaFormat.newInstance().format(resource);
+
+        if (!formatted.equals(expected)) {
+            final String[] formattedLines = formatted.split("\n", -1);
+            final String[] expectedLines = expected.split("\n", -1);
+
+            int line = 0;
+
+            while (line < formattedLines.length && line < expectedLines.length
+                    && formattedLines[line].equals(expectedLines[line])) {
+                line++;
+            }
+
+            throw new IllegalStateException(String.format(
+                    "Native AOSP format differs from google-java-format at line %d: expected [%s] but was [%s].",
+                    line + 1, line < expectedLines.length ? expectedLines[line] : "",
+                    line < formattedLines.length ? formattedLines[line] : ""));
+        }
+
+        return formatted;
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.workload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.EnumerationDistribution;
+import org.thinkit.generator.catalog.engine.catalog.ScalingMode;
+import org.thinkit.generator.catalog.engine.dto.CatalogCreator;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogEnumeration;
+import org.thinkit.generator.catalog.engine.dto.CatalogField;
+import org.thinkit.generator.catalog.engine.dto.CatalogMatrix;
+import org.thinkit.generator.catalog.engine.dto.CatalogMeta;
+import org.thinkit.generator.common.duke.catalog.LombokState;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 負荷試験および耐久試験に使用するカタログ定義を乱数から合成するクラスです。
+ * <p>
+ * カタログ定義の件数、列挙子の件数の分布、疎なコード値の割合、 {@link CatalogType#BI_CATALOG} の割合、 Lombok
+ * を使用する割合、説明の文字数および ASCII 以外の文字を含む単語の割合を {@link #builder()} メソッドから指定することができます。
+ * 合成される内容はシード値とカタログ定義の番号のみから決まるため、同一の設定からは常に同一のカタログ定義が合成されます。
+ * カタログ定義ごとに独立した乱数を使用するため、 {@link #stream()} メソッドで返却されるストリームを並列化した場合も結果は変わりません。
+ * <p>
+ * {@link #stream()} メソッドはカタログ定義を要求されるたびに合成するため、カタログ定義の件数に関係なく使用するメモリ量は一定です。
+ * 件数の多いカタログ定義を生成する場合は
+ * {@link org.thinkit.generator.catalog.engine.formatter.CatalogResourceFormatter#format(CatalogCreator, Stream, java.util.function.Consumer)}
+ * メソッドと組み合わせて使用してください。
+ * <p>
+ * このクラスはスレッドセーフです。
+ *
+ * <pre>
+ * 操作例:
+ * <code>
+ * CatalogWorkload workload = CatalogWorkload.builder().seed(42L).definitionCount(1000000)
+ *         .enumerationDistribution(EnumerationDistribution.SKEWED).maxEnumerationCount(2000).unicodeRatio(0.2).build();
+ * CatalogResourceFormatter.newInstance().format(workload.createCatalogCreator(), workload.stream(), consumer);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+@ToString
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CatalogWorkload {
+
+    /**
+     * カタログ定義の番号から乱数のシード値を導出する際に加算する値
+     */
+    private static final long SEED_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * 単語に使用する ASCII 文字
+     */
+    private static final String ASCII_LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    /**
+     * 単語の最小文字数
+     */
+    private static final int MIN_WORD_LENGTH = 2;
+
+    /**
+     * 単語の最大文字数
+     */
+    private static final int MAX_WORD_LENGTH = 10;
+
+    /**
+     * 乱数のシード値
+     */
+    @Builder.Default
+    private final long seed = 0L;
+
+    /**
+     * 合成するカタログ定義の件数
+     */
+    @Builder.Default
+    private final int definitionCount = 100;
+
+    /**
+     * カタログ定義ごとの列挙子の最小件数
+     */
+    @Builder.Default
+    private final int minEnumerationCount = 1;
+
+    /**
+     * カタログ定義ごとの列挙子の最大件数
+     */
+    @Builder.Default
+    private final int maxEnumerationCount = 32;
+
+    /**
+     * 列挙子の件数の分布
+     */
+    @NonNull
+    @Builder.Default
+    private final EnumerationDistribution enumerationDistribution = EnumerationDistribution.UNIFORM;
+
+    /**
+     * 列挙子のコード値を疎に割り当てるカタログ定義の割合 ({@code 0.0} の場合はすべて {@code 0} から連番で割り当てる)
+     */
+    @Builder.Default
+    private final double sparseCodeRatio = 0.0;
+
+    /**
+     * 疎に割り当てるコード値の間隔の最大値
+     */
+    @Builder.Default
+    private final int sparseCodeGap = 1000;
+
+    /**
+     * {@link CatalogType#BI_CATALOG} として合成するカタログ定義の割合
+     */
+    @Builder.Default
+    private final double biCatalogRatio = 0.5;
+
+    /**
+     * Lombok を使用するカタログ定義の割合
+     */
+    @Builder.Default
+    private final double lombokRatio = 0.5;
+
+    /**
+     * 列挙子の説明の最小文字数
+     */
+    @Builder.Default
+    private final int minDescriptionLength = 8;
+
+    /**
+     * 列挙子の説明の最大文字数
+     */
+    @Builder.Default
+    private final int maxDescriptionLength = 64;
+
+    /**
+     * 説明およびタグのうち ASCII 以外の文字で構成する単語の割合
+     */
+    @Builder.Default
+    private final double unicodeRatio = 0.0;
+
+    /**
+     * 合成するカタログ定義に設定する生成方式
+     */
+    @NonNull
+    @Builder.Default
+    private final ScalingMode scalingMode = ScalingMode.NONE;
+
+    /**
+     * 合成するカタログ定義のパッケージ名
+     */
+    @NonNull
+    @Builder.Default
+    private final String packageName = "org.thinkit.generator.catalog.synthetic";
+
+    /**
+     * カタログ作成者
+     */
+    @NonNull
+    @Builder.Default
+    private final String creator = "Synthetic";
+
+    /**
+     * 設定されたカタログ作成者を返却します。
+     *
+     * @return カタログ作成者
+     */
+    public CatalogCreator createCatalogCreator() {
+        return CatalogCreator.builder().creator(this.creator).build();
+    }
+
+    /**
+     * 合成したすべてのカタログ定義を格納した {@link CatalogMatrix} を返却します。
+     * <p>
+     * すべてのカタログ定義をメモリ上に保持するため、件数の多いカタログ定義を扱う場合は {@link #stream()} メソッドを使用してください。
+     *
+     * @return 合成したカタログ定義を格納したカタログマトリクス
+     *
+     * @exception IllegalArgumentException 設定値が不正な場合
+     */
+    public CatalogMatrix createCatalogMatrix() {
+        return CatalogMatrix.builder().catalogCreator(this.createCatalogCreator())
+                .catalogDefinitions(this.stream().collect(Collectors.toList())).build();
+    }
+
+    /**
+     * 合成したカタログ定義を番号の順に返却するストリームを返却します。
+     * <p>
+     * カタログ定義はストリームの要素が要求されるたびに合成されます。
+     *
+     * @return 合成したカタログ定義のストリーム
+     *
+     * @exception IllegalArgumentException 設定値が不正な場合
+     */
+    public Stream<CatalogDefinition> stream() {
+        this.checkSettings();
+        return IntStream.range(0, this.definitionCount).mapToObj(this::synthesize);
+    }
+
+    /**
+     * 引数として渡された番号のカタログ定義を合成し返却します。
+     * <p>
+     * 返却されるカタログ定義は {@link #stream()} メソッドで同じ番号に返却されるカタログ定義と等価です。
+     *
+     * @param index カタログ定義の番号
+     * @return 合成したカタログ定義
+     *
+     * @exception IllegalArgumentException 設定値が不正な場合、または番号が範囲外の場合
+     */
+    public CatalogDefinition createCatalogDefinition(int index) {
+
+        this.checkSettings();
+
+        if (index < 0 || index >= this.definitionCount) {
+            throw new IllegalArgumentException(
+                    String.format("Index must be between 0 and %d but was %d.", this.definitionCount - 1, index));
+        }
+
+        return this.synthesize(index);
+    }
+
+    /**
+     * 引数として渡された番号のカタログ定義を合成します。
+     *
+     * @param index カタログ定義の番号
+     * @return 合成したカタログ定義
+     */
+    private CatalogDefinition synthesize(int index) {
+
+        final SplittableRandom random = new SplittableRandom(mix(mix(this.seed) + index * SEED_GAMMA));
+        final CatalogType catalogType = random.nextDouble() < this.biCatalogRatio ? CatalogType.BI_CATALOG
+                : CatalogType.CATALOG;
+        final LombokState lombokState = random.nextDouble() < this.lombokRatio ? LombokState.LOMBOK
+                : LombokState.NONE;
+        final boolean biCatalog = catalogType == CatalogType.BI_CATALOG;
+        final boolean sparseCode = random.nextDouble() < this.sparseCodeRatio;
+        final int enumerationCount = this.nextEnumerationCount(random);
+
+        final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>(enumerationCount);
+        int code = sparseCode ? random.nextInt(this.sparseCodeGap) : 0;
+
+        for (int i = 0; i < enumerationCount; i++) {
+            catalogEnumerations.add(CatalogEnumeration.builder()
+                    .literal(String.format("%s_%d", this.nextAsciiWord(random).toUpperCase(Locale.ROOT), i)).code(code)
+                    .tag(biCatalog ? this.nextWord(random) + i : "").description(this.nextDescription(random))
+                    .build());
+            code += sparseCode ? 1 + random.nextInt(this.sparseCodeGap) : 1;
+        }
+
+        final List<CatalogField> catalogFields = new ArrayList<>(2);
+        catalogFields.add(CatalogField.builder().variableName("code").dataType("int").description("The code").build());
+
+        if (biCatalog) {
+            catalogFields
+                    .add(CatalogField.builder().variableName("tag").dataType("String").description("The tag").build());
+        }
+
+        return CatalogDefinition.builder()
+                .catalogMeta(CatalogMeta.builder().version("1.0.0").catalogType(catalogType).lombokState(lombokState)
+                        .scalingMode(this.scalingMode).build())
+                .packageName(this.packageName).tagDataType(biCatalog ? "String" : "")
+                .className(String.format("Synthetic%s%d", biCatalog ? "BiCatalog" : "Catalog", index))
+                .catalogEnumerations(catalogEnumerations).catalogFields(catalogFields).build();
+    }
+
+    /**
+     * 設定された分布に従って列挙子の件数を返却します。
+     *
+     * @param random 乱数生成器
+     * @return 列挙子の件数
+     */
+    private int nextEnumerationCount(@NonNull SplittableRandom random) {
+
+        final int range = this.maxEnumerationCount - this.minEnumerationCount + 1;
+
+        return this.minEnumerationCount + switch (this.enumerationDistribution) {
+            case UNIFORM -> random.nextInt(range);
+            case SKEWED -> (int) (range * Math.pow(random.nextDouble(), 4));
+        };
+    }
+
+    /**
+     * 設定された範囲の文字数で、単語を半角スペースで区切った説明を返却します。
+     *
+     * @param random 乱数生成器
+     * @return 列挙子の説明
+     */
+    private String nextDescription(@NonNull SplittableRandom random) {
+
+        final int length = random.nextInt(this.minDescriptionLength, this.maxDescriptionLength + 1);
+        final StringBuilder description = new StringBuilder(length * 2);
+        int codePointCount = 0;
+
+        while (codePointCount < length) {
+            if (codePointCount > 0 && length - codePointCount > 1) {
+                description.append(' ');
+                codePointCount++;
+            }
+
+            final String word = this.nextWord(random);
+            final int wordLength = Math.min(word.codePointCount(0, word.length()), length - codePointCount);
+            description.append(word, 0, word.offsetByCodePoints(0, wordLength));
+            codePointCount += wordLength;
+        }
+
+        return description.toString();
+    }
+
+    /**
+     * 設定された割合に従って ASCII 文字、または ASCII 以外の文字で構成された単語を返却します。
+     *
+     * @param random 乱数生成器
+     * @return 単語
+     */
+    private String nextWord(@NonNull SplittableRandom random) {
+        return random.nextDouble() < this.unicodeRatio ? this.nextUnicodeWord(random) : this.nextAsciiWord(random);
+    }
+
+    /**
+     * 英小文字で構成された単語を返却します。
+     *
+     * @param random 乱数生成器
+     * @return 単語
+     */
+    private String nextAsciiWord(@NonNull SplittableRandom random) {
+
+        final int length = random.nextInt(MIN_WORD_LENGTH, MAX_WORD_LENGTH + 1);
+        final StringBuilder word = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            word.append(ASCII_LETTERS.charAt(random.nextInt(ASCII_LETTERS.length())));
+        }
+
+        return word.toString();
+    }
+
+    /**
+     * ひらがな、漢字、およびサロゲートペアで表現される絵文字で構成された単語を返却します。
+     *
+     * @param random 乱数生成器
+     * @return 単語
+     */
+    private String nextUnicodeWord(@NonNull SplittableRandom random) {
+
+        final int length = random.nextInt(MIN_WORD_LENGTH, MAX_WORD_LENGTH + 1);
+        final StringBuilder word = new StringBuilder(length * 2);
+
+        for (int i = 0; i < length; i++) {
+            final int kind = random.nextInt(10);
+
+            if (kind < 5) {
+                word.appendCodePoint(random.nextInt(0x3041, 0x3094));
+            } else if (kind < 9) {
+                word.appendCodePoint(random.nextInt(0x4e00, 0x9fa6));
+            } else {
+                word.appendCodePoint(random.nextInt(0x1f600, 0x1f650));
+            }
+        }
+
+        return word.toString();
+    }
+
+    /**
+     * 設定値を検証します。
+     *
+     * @exception IllegalArgumentException 設定値が不正な場合
+     */
+    private void checkSettings() {
+
+        if (this.definitionCount < 1) {
+            throw new IllegalArgumentException(String
+                    .format("Definition count must be greater than or equal to 1 but was %d.", this.definitionCount));
+        }
+
+        if (this.minEnumerationCount < 1 || this.maxEnumerationCount < this.minEnumerationCount) {
+            throw new IllegalArgumentException(
+                    String.format("Enumeration count range must satisfy 1 <= min <= max but was [%d, %d].",
+                            this.minEnumerationCount, this.maxEnumerationCount));
+        }
+
+        if (this.minDescriptionLength < 1 || this.maxDescriptionLength < this.minDescriptionLength) {
+            throw new IllegalArgumentException(
+                    String.format("Description length range must satisfy 1 <= min <= max but was [%d, %d].",
+                            this.minDescriptionLength, this.maxDescriptionLength));
+        }
+
+        if (this.sparseCodeGap < 1 || (long) this.maxEnumerationCount * this.sparseCodeGap > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(
+                    "Sparse code gap must be between 1 and %d but was %d.",
+                    Integer.MAX_VALUE / this.maxEnumerationCount, this.sparseCodeGap));
+        }
+
+        checkRatio("Sparse code ratio", this.sparseCodeRatio);
+        checkRatio("BiCatalog ratio", this.biCatalogRatio);
+        checkRatio("Lombok ratio", this.lombokRatio);
+        checkRatio("Unicode ratio", this.unicodeRatio);
+    }
+
+    /**
+     * 引数として渡された割合が {@code 0.0} 以上 {@code 1.0} 以下であることを検証します。
+     *
+     * @param name  設定値の名前
+     * @param ratio 割合
+     *
+     * @exception IllegalArgumentException 割合が範囲外の場合
+     */
+    private static void checkRatio(@NonNull String name, double ratio) {
+        if (!(ratio >= 0.0 && ratio <= 1.0)) {
+            throw new IllegalArgumentException(
+                    String.format("%s must be between 0.0 and 1.0 but was %s.", name, ratio));
+        }
+    }
+
+    /**
+     * 引数として渡された値を SplitMix64 の混合関数で攪拌し返却します。
+     *
+     * @param value 値
+     * @return 攪拌した値
+     */
+    private static long mix(long value) {
+        long z = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
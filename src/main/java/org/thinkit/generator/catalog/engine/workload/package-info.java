@@ -0,0 +1,4 @@
+/**
+ * 負荷試験および耐久試験に使用する合成したカタログ定義を生成するクラスを管理するパッケージです。
+ */
+package org.thinkit.generator.catalog.engine.workload;
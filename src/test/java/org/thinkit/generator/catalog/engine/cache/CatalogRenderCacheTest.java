@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link CatalogRenderCache} のUnitテストを管理するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class CatalogRenderCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testGetAfterReopen() throws Exception {
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            renderCache.put("key1", "resource 1");
+            renderCache.put("key2", "リソース 2");
+        }
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            assertEquals(2, renderCache.size());
+            assertEquals(Optional.of("resource 1"), renderCache.get("key1"));
+            assertEquals(Optional.of("リソース 2"), renderCache.get("key2"));
+            assertEquals(Optional.empty(), renderCache.get("key3"));
+        }
+    }
+
+    @Test
+    void testComputeIfAbsent() throws Exception {
+
+        final List<String> renderedKeys = new ArrayList<>();
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            renderCache.put("key1", "resource 1");
+
+            assertEquals("resource 1", renderCache.computeIfAbsent("key1", () -> {
+                renderedKeys.add("key1");
+                return "rendered 1";
+            }));
+            assertEquals("rendered 2", renderCache.computeIfAbsent("key2", () -> {
+                renderedKeys.add("key2");
+                return "rendered 2";
+            }));
+            assertEquals(Optional.of("rendered 2"), renderCache.get("key2"));
+        }
+
+        assertEquals(List.of("key2"), renderedKeys);
+    }
+
+    @Test
+    void testRebuildIndexFromSegments() throws Exception {
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            renderCache.put("key1", "resource 1");
+        }
+
+        Files.delete(this.directory.resolve("index.bin"));
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            assertEquals(Optional.of("resource 1"), renderCache.get("key1"));
+        }
+    }
+
+    @Test
+    void testDiscardWhenEngineVersionChanged() throws Exception {
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            renderCache.put("key1", "resource 1");
+        }
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.1")) {
+            assertEquals(0, renderCache.size());
+            assertEquals(Optional.empty(), renderCache.get("key1"));
+        }
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsed() throws Exception {
+
+        final String resource = "x".repeat(16 * 1024);
+        final long maxBytes = 256 * 1024;
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, maxBytes, "1.0.0")) {
+            renderCache.put("first", resource);
+
+            for (int i = 0; i < 64; i++) {
+                assertEquals(Optional.of(resource), renderCache.get("first"));
+                renderCache.put("key" + i, resource);
+            }
+
+            assertTrue(renderCache.getDiskBytes() <= maxBytes);
+            assertEquals(Optional.of(resource), renderCache.get("first"));
+            assertEquals(Optional.empty(), renderCache.get("key0"));
+            assertEquals(Optional.of(resource), renderCache.get("key63"));
+        }
+    }
+
+    @Test
+    void testConcurrentGetAndPut() throws Exception {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            final List<Future<?>> futures = new ArrayList<>();
+
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        final String key = "key" + i;
+                        renderCache.put(key, "resource " + i);
+                        assertEquals(Optional.of("resource " + i), renderCache.get(key));
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            assertEquals(200, renderCache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetAndPutAfterReaderInterrupted() throws Exception {
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            renderCache.put("key1", "resource 1");
+
+            Thread.currentThread().interrupt();
+
+            try {
+                assertEquals(Optional.empty(), renderCache.get("key1"));
+                assertTrue(Thread.currentThread().isInterrupted());
+            } finally {
+                Thread.interrupted();
+            }
+
+            assertEquals(Optional.of("resource 1"), renderCache.get("key1"));
+
+            renderCache.put("key2", "resource 2");
+            assertEquals(Optional.of("resource 2"), renderCache.get("key2"));
+        }
+    }
+
+    @Test
+    void testGetAndPutAfterWriterInterrupted() throws Exception {
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            renderCache.put("key1", "resource 1");
+
+            Thread.currentThread().interrupt();
+
+            try {
+                assertThrows(UncheckedIOException.class, () -> renderCache.put("key2", "resource 2"));
+            } finally {
+                Thread.interrupted();
+            }
+
+            assertEquals(Optional.of("resource 1"), renderCache.get("key1"));
+            assertEquals(Optional.empty(), renderCache.get("key2"));
+
+            renderCache.put("key3", "resource 3");
+            assertEquals(Optional.of("resource 3"), renderCache.get("key3"));
+        }
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024 * 1024, "1.0.0")) {
+            assertEquals(2, renderCache.size());
+            assertEquals(Optional.of("resource 1"), renderCache.get("key1"));
+            assertEquals(Optional.of("resource 3"), renderCache.get("key3"));
+        }
+    }
+
+    @Test
+    void testPutAfterClose() throws Exception {
+
+        final CatalogRenderCache renderCache = CatalogRenderCache.open(this.directory, 1024, "1.0.0");
+        renderCache.close();
+
+        assertThrows(IllegalStateException.class, () -> renderCache.put("key", "resource"));
+    }
+}
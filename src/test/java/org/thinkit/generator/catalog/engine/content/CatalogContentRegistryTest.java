@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.content.entity.LombokPackage;
+
+/**
+ * {@link CatalogContentRegistry} のUnitテストを管理するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class CatalogContentRegistryTest {
+
+    @Test
+    void testGetCatalogPackage() {
+
+        final CatalogContentRegistry contentRegistry = CatalogContentRegistry.getInstance();
+
+        assertEquals("org.thinkit.api.catalog.Catalog",
+                contentRegistry.getCatalogPackage(CatalogType.CATALOG).getPackageName());
+        assertEquals("org.thinkit.api.catalog.BiCatalog",
+                contentRegistry.getCatalogPackage(CatalogType.BI_CATALOG).getPackageName());
+        assertSame(contentRegistry.getCatalogPackage(CatalogType.CATALOG),
+                CatalogContentRegistry.getInstance().getCatalogPackage(CatalogType.CATALOG));
+    }
+
+    @Test
+    void testGetLombokPackages() {
+
+        final List<LombokPackage> lombokPackages = CatalogContentRegistry.getInstance().getLombokPackages();
+
+        assertEquals(List.of("lombok.Getter", "lombok.RequiredArgsConstructor"),
+                lombokPackages.stream().map(LombokPackage::getPackageName).collect(Collectors.toList()));
+        assertThrows(UnsupportedOperationException.class, () -> lombokPackages.clear());
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.dto;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.thinkit.framework.envali.annotation.RequireNonEmpty;
+import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.annotation.RequirePositive;
+import org.thinkit.generator.catalog.engine.catalog.ScalingMode;
+import org.thinkit.generator.catalog.engine.workload.CatalogWorkload;
+
+/**
+ * {@link CatalogValidator} のUnitテストを管理するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class CatalogValidatorTest {
+
+    /**
+     * 検証対象のDTOクラスと、カタログマトリクスから検証対象のインスタンスを取得する関数
+     */
+    private static final Map<Class<?>, Function<CatalogMatrix, Object>> TARGETS = Map.of(
+            CatalogMatrix.class, catalogMatrix -> catalogMatrix,
+            CatalogCreator.class, CatalogMatrix::getCatalogCreator,
+            CatalogDefinition.class, catalogMatrix -> catalogMatrix.getCatalogDefinitions().get(1),
+            CatalogMeta.class, catalogMatrix -> catalogMatrix.getCatalogDefinitions().get(1).getCatalogMeta(),
+            CatalogEnumeration.class,
+            catalogMatrix -> catalogMatrix.getCatalogDefinitions().get(1).getCatalogEnumerations().get(2),
+            CatalogField.class,
+            catalogMatrix -> catalogMatrix.getCatalogDefinitions().get(1).getCatalogFields().get(1));
+
+    @Test
+    void testValidate() {
+        assertDoesNotThrow(() -> CatalogValidator.validate(this.getCatalogMatrix()));
+    }
+
+    @Test
+    void testValidateReportsPathToInvalidElement() {
+
+        final CatalogMatrix catalogMatrix = this.getCatalogMatrix();
+        final List<CatalogDefinition> catalogDefinitions = new ArrayList<>(catalogMatrix.getCatalogDefinitions());
+        final CatalogDefinition catalogDefinition = catalogDefinitions.get(2);
+        final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>(
+                catalogDefinition.getCatalogEnumerations());
+        catalogEnumerations.set(3, catalogEnumerations.get(3).toBuilder().code(-5).build());
+        catalogDefinitions.set(2, catalogDefinition.toBuilder().catalogEnumerations(catalogEnumerations).build());
+
+        assertEquals(
+                "catalogMatrix.catalogDefinitions[2].catalogEnumerations[3].code must not be negative but was -5.",
+                assertThrows(IllegalArgumentException.class, () -> CatalogValidator
+                        .validate(catalogMatrix.toBuilder().catalogDefinitions(catalogDefinitions).build()))
+                        .getMessage());
+
+        catalogDefinitions.set(1, null);
+
+        assertEquals("catalogMatrix.catalogDefinitions[1] must not be null.",
+                assertThrows(IllegalArgumentException.class, () -> CatalogValidator
+                        .validate(catalogMatrix.toBuilder().catalogDefinitions(catalogDefinitions).build()))
+                        .getMessage());
+
+        final List<CatalogField> catalogFields = new ArrayList<>(catalogDefinition.getCatalogFields());
+        catalogFields.set(1, catalogFields.get(1).toBuilder().dataType("").build());
+
+        assertEquals("catalogDefinition.catalogFields[1].dataType must not be empty.",
+                assertThrows(IllegalArgumentException.class, () -> CatalogValidator
+                        .validate(catalogDefinition.toBuilder().catalogFields(catalogFields).build())).getMessage());
+    }
+
+    @Test
+    void testValidateCoversEnvaliAnnotations() throws Exception {
+
+        int violationCount = 0;
+
+        for (Map.Entry<Class<?>, Function<CatalogMatrix, Object>> target : TARGETS.entrySet()) {
+            for (Field field : target.getKey().getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                field.setAccessible(true);
+
+                for (Object violation : this.getViolations(field)) {
+                    final CatalogMatrix catalogMatrix = this.getCatalogMatrix();
+                    field.set(target.getValue().apply(catalogMatrix), violation);
+
+                    final String message = assertThrows(IllegalArgumentException.class,
+                            () -> CatalogValidator.validate(catalogMatrix), field.toString()).getMessage();
+                    assertTrue(message.contains("." + field.getName() + " must"), message);
+                    violationCount++;
+                }
+            }
+        }
+
+        assertTrue(violationCount > TARGETS.size());
+    }
+
+    @Test
+    void testValidateWhenScaledCatalogHasTooManyEnumerations() {
+
+        final CatalogDefinition catalogDefinition = this.getCatalogMatrix().getCatalogDefinitions().get(0);
+        final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>();
+
+        for (int i = 0; i <= CatalogValidator.MAX_SCALED_CATALOG_ENUMERATIONS; i++) {
+            catalogEnumerations.add(catalogDefinition.getCatalogEnumerations().get(0).toBuilder()
+                    .literal(String.format("TEST%d", i)).code(i).build());
+        }
+
+        final CatalogDefinition scaledCatalogDefinition = catalogDefinition.toBuilder()
+                .catalogMeta(catalogDefinition.getCatalogMeta().toBuilder().scalingMode(ScalingMode.AUTO).build())
+                .catalogEnumerations(catalogEnumerations).build();
+
+        assertTrue(assertThrows(IllegalArgumentException.class,
+                () -> CatalogValidator.validate(scaledCatalogDefinition)).getMessage()
+                .startsWith("catalogDefinition.catalogEnumerations must not have more than 4000 elements"));
+        assertDoesNotThrow(() -> CatalogValidator.validate(scaledCatalogDefinition.toBuilder()
+                .catalogEnumerations(catalogEnumerations.subList(0, CatalogValidator.MAX_SCALED_CATALOG_ENUMERATIONS))
+                .build()));
+        assertDoesNotThrow(() -> CatalogValidator.validate(scaledCatalogDefinition.toBuilder()
+                .catalogMeta(catalogDefinition.getCatalogMeta().toBuilder().scalingMode(ScalingMode.NONE).build())
+                .build()));
+    }
+
+    @Test
+    void testValidateMatrixElements() {
+
+        final CatalogMatrix catalogMatrix = this.getCatalogMatrix();
+        final CatalogDefinition catalogDefinition = catalogMatrix.getCatalogDefinitions().get(2);
+
+        assertDoesNotThrow(() -> CatalogValidator.validateMatrixCreator(catalogMatrix.getCatalogCreator()));
+        assertDoesNotThrow(() -> CatalogValidator.validateMatrixDefinition(catalogDefinition, 2));
+        assertDoesNotThrow(() -> CatalogValidator.validateMatrixDefinitionCount(1L));
+
+        assertEquals("catalogMatrix.catalogCreator must not be null.",
+                assertThrows(IllegalArgumentException.class, () -> CatalogValidator.validateMatrixCreator(null))
+                        .getMessage());
+        assertEquals("catalogMatrix.catalogCreator.creator must not be empty.",
+                assertThrows(IllegalArgumentException.class,
+                        () -> CatalogValidator.validateMatrixCreator(CatalogCreator.builder().creator("").build()))
+                        .getMessage());
+        assertEquals("catalogMatrix.catalogDefinitions[4] must not be null.",
+                assertThrows(IllegalArgumentException.class, () -> CatalogValidator.validateMatrixDefinition(null, 4))
+                        .getMessage());
+        assertEquals("catalogMatrix.catalogDefinitions[3].className must not be empty.",
+                assertThrows(IllegalArgumentException.class, () -> CatalogValidator
+                        .validateMatrixDefinition(catalogDefinition.toBuilder().className("").build(), 3))
+                        .getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogValidator.validateMatrixDefinition(catalogDefinition, -1));
+        assertEquals("catalogMatrix.catalogDefinitions must not be empty.",
+                assertThrows(IllegalArgumentException.class, () -> CatalogValidator.validateMatrixDefinitionCount(0L))
+                        .getMessage());
+    }
+
+    @Test
+    void testValidateWhenEntityIsUnsupported() {
+        assertThrows(IllegalArgumentException.class, () -> CatalogValidator.validate(CatalogMeta.builder().build()));
+    }
+
+    /**
+     * 引数として渡されたフィールドに設定された検証用のアノテーションに違反する値を返却します。
+     *
+     * @param field フィールド
+     * @return アノテーションに違反する値
+     */
+    private List<Object> getViolations(Field field) {
+
+        final List<Object> violations = new ArrayList<>();
+
+        if (field.isAnnotationPresent(RequirePositive.class)) {
+            violations.add(-1);
+        }
+
+        if (field.isAnnotationPresent(RequireNonNull.class) || field.isAnnotationPresent(RequireNonEmpty.class)) {
+            violations.add(null);
+        }
+
+        if (field.isAnnotationPresent(RequireNonEmpty.class)) {
+            violations.add(field.getType() == String.class ? "" : List.of());
+        }
+
+        return violations;
+    }
+
+    private CatalogMatrix getCatalogMatrix() {
+        return CatalogWorkload.builder().seed(1L).definitionCount(3).minEnumerationCount(4).biCatalogRatio(1.0).build()
+                .createCatalogMatrix();
+    }
+}
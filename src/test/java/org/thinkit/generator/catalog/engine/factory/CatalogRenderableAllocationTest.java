@@ -0,0 +1,471 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import com.sun.management.ThreadMXBean;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.thinkit.common.catalog.Brace;
+import org.thinkit.common.catalog.Delimiter;
+import org.thinkit.common.catalog.Indentation;
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.strategy.CatalogRawFormat;
+import org.thinkit.generator.common.duke.catalog.ParameterDataType;
+import org.thinkit.generator.common.duke.factory.ClassBody;
+import org.thinkit.generator.common.duke.factory.ClassDescription;
+import org.thinkit.generator.common.duke.factory.Copyright;
+import org.thinkit.generator.common.duke.factory.Description;
+import org.thinkit.generator.common.duke.factory.EnumDefinition;
+import org.thinkit.generator.common.duke.factory.Enumeration;
+import org.thinkit.generator.common.duke.factory.Field;
+import org.thinkit.generator.common.duke.factory.FieldDefinition;
+import org.thinkit.generator.common.duke.factory.Generics;
+import org.thinkit.generator.common.duke.factory.Interface;
+import org.thinkit.generator.common.duke.factory.Package;
+import org.thinkit.generator.common.duke.factory.Resource;
+
+/**
+ * {@link CatalogRenderable#render(StringBuilder)} によるリソースの組み立てと、変更前のファクトリー製品ごとに文字列を生成する組み立てのアロケーション量を比較するテストクラスです。
+ * <p>
+ * 変更前の組み立ては、各ファクトリー製品が {@link String#format(String, Object...)} や {@link String#formatted(Object...)}
+ * で子要素を含むリソースを文字列として生成し、親要素がその文字列を複製するものです。
+ * このテストクラスでは変更前の {@code createResource()} を {@code Legacy} で始まる入れ子クラスとして複製し、
+ * 同一の内容のファクトリー製品のツリーを両方の方式で組み立てて、生成されるリソースが一致することとアロケーション量を比較します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class CatalogRenderableAllocationTest {
+
+    /**
+     * 改行コード
+     */
+    private static final String RETURN = Indentation.RETURN.getTag();
+
+    /**
+     * 作成者
+     */
+    private static final String CREATOR = "Shinya";
+
+    /**
+     * リソース名
+     */
+    private static final String RESOURCE_NAME = "TestCatalog";
+
+    /**
+     * 列挙子の件数
+     */
+    private static final int ENUMERATION_COUNT = 200;
+
+    /**
+     * ウォームアップの回数
+     */
+    private static final int WARMUP_ITERATIONS = 20;
+
+    /**
+     * 計測の回数
+     */
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    /**
+     * バッファへの組み立てが変更前の組み立てに対して許容されるアロケーション量の割合
+     */
+    private static final double MAX_ALLOCATION_RATIO = 0.5;
+
+    @Test
+    void testRenderAllocatesLessThanLegacyStringPerNode() {
+
+        final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final Resource resource = this.createResource();
+        final Resource legacyResource = this.createLegacyResource();
+
+        assertEquals(legacyResource.createResource(), resource.createResource());
+
+        final long legacyBytes = this.measure(threadMXBean, legacyResource::createResource);
+        final long singleBufferBytes = this.measure(threadMXBean, resource::createResource);
+
+        assertTrue(singleBufferBytes <= legacyBytes * MAX_ALLOCATION_RATIO,
+                String.format("render(StringBuilder) allocated %d bytes but String-per-node allocated %d bytes.",
+                        singleBufferBytes, legacyBytes));
+    }
+
+    private long measure(ThreadMXBean threadMXBean, Supplier<String> assembly) {
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertTrue(assembly.get().length() > 0);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        long allocatedBytes = Long.MAX_VALUE;
+
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            final long start = threadMXBean.getThreadAllocatedBytes(threadId);
+            assertTrue(assembly.get().length() > 0);
+            allocatedBytes = Math.min(allocatedBytes, threadMXBean.getThreadAllocatedBytes(threadId) - start);
+        }
+
+        return allocatedBytes;
+    }
+
+    private Resource createResource() {
+
+        // コンストラクタとメソッドを持たないクラスとして組み立てるため、両方の方式で Lombok 適用済みとします
+        final CatalogResourceFactory factory = (CatalogResourceFactory) CatalogResourceFactory.getInstance();
+        final ClassBody classBody = factory.createClassBody(factory.createClassDescription(CREATOR, "1.0.0"),
+                RESOURCE_NAME);
+        classBody.add(
+                factory.createInterface(CatalogType.CATALOG.getTag(), factory.createGenerics().add(RESOURCE_NAME)));
+
+        for (int i = 0; i < ENUMERATION_COUNT; i++) {
+            classBody.add(factory.createEnumeration(
+                    factory.createEnumDefinition(String.format("TEST%d", i)).put(ParameterDataType.DEFAULT, i),
+                    factory.createDescription(String.format("Description %d", i))));
+        }
+
+        classBody.add(factory.createField(factory.createFieldDefinition("int", "code"),
+                factory.createDescription("The code")));
+        classBody.applyLombok();
+
+        return factory.createResource(factory.createCopyright(CREATOR),
+                factory.createPackage("org.thinkit.generator.catalog.test"), classBody, CatalogRawFormat.newInstance());
+    }
+
+    private Resource createLegacyResource() {
+
+        final ClassBody classBody = new LegacyClassBody(new LegacyClassDescription(CREATOR, "1.0.0"), RESOURCE_NAME);
+        classBody.add(new LegacyInterface(CatalogType.CATALOG.getTag(), new LegacyGenerics().add(RESOURCE_NAME)));
+
+        for (int i = 0; i < ENUMERATION_COUNT; i++) {
+            classBody.add(new LegacyEnumeration(
+                    new LegacyEnumDefinition(String.format("TEST%d", i)).put(ParameterDataType.DEFAULT, i),
+                    new LegacyDescription(String.format("Description %d", i))));
+        }
+
+        classBody.add(new LegacyField(new LegacyFieldDefinition("int", "code"), new LegacyDescription("The code")));
+        classBody.applyLombok();
+
+        return new LegacyResource(new LegacyCopyright(CREATOR), new LegacyPackage("org.thinkit.generator.catalog.test"),
+                classBody);
+    }
+
+    /**
+     * 変更前の {@code CatalogResource} の組み立てです。整形処理は含みません。
+     */
+    private static final class LegacyResource extends Resource {
+
+        LegacyResource(Copyright copyright, Package packageName, ClassBody classBody) {
+            super(copyright, packageName, classBody);
+        }
+
+        @Override
+        public String createResource() {
+
+            final StringBuilder resource = new StringBuilder();
+            resource.append(super.getCopyright().createResource()).append(RETURN);
+            resource.append(super.getPackageName().createResource()).append(RETURN).append(RETURN);
+            super.getDependentPackages().forEach(dependentPackage -> {
+                resource.append(dependentPackage.createResource()).append(RETURN);
+            });
+            resource.append(RETURN);
+            resource.append(super.getClassBody().createResource());
+
+            return resource.toString();
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogCopyright} の組み立てです。
+     */
+    private static final class LegacyCopyright extends Copyright {
+
+        LegacyCopyright(String creator) {
+            super(creator);
+        }
+
+        @Override
+        public String createResource() {
+            return """
+                    /*
+                     * Copyright %s %s.
+                     *
+                     * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+                     * in compliance with the License. You may obtain a copy of the License at
+                     *
+                     *     http://www.apache.org/licenses/LICENSE-2.0
+                     *
+                     * Unless required by applicable law or agreed to in writing, software distributed under the License
+                     * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+                     * or implied. See the License for the specific language governing permissions and limitations under
+                     * the License.
+                     */
+                    """.formatted(super.getCreationYear(), super.getCreator());
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogPackage} の組み立てです。
+     */
+    private static final class LegacyPackage extends Package {
+
+        LegacyPackage(String packageName) {
+            super(packageName);
+        }
+
+        @Override
+        public String createResource() {
+            return String.format("package %s;", super.getPackageName());
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogClassDescription} の組み立てです。
+     */
+    private static final class LegacyClassDescription extends ClassDescription {
+
+        LegacyClassDescription(String creator, String version) {
+            super(creator, version);
+        }
+
+        @Override
+        public String createResource() {
+            return """
+                    /**
+                     * This catalog class was created by Catalog Generator.
+                     * <p>
+                     * You may learn more about the Catalog API at
+                     *
+                     *     https://github.com/myConsciousness/catalog-api
+                     *
+                     * @author %s
+                     * @since %s
+                     */""".formatted(super.getCreator(), super.getVersion());
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogClassBody} の組み立てです。
+     */
+    private static final class LegacyClassBody extends ClassBody {
+
+        LegacyClassBody(ClassDescription classDescription, String resourceName) {
+            super(classDescription, resourceName);
+        }
+
+        @Override
+        public String createResource() {
+
+            final StringBuilder classBody = new StringBuilder();
+            classBody.append(super.getClassDescription().createResource()).append(RETURN);
+
+            if (this.isAppliedLombok()) {
+                super.getAnnotations().forEach(annotation -> {
+                    classBody.append(annotation.createResource()).append(RETURN);
+                });
+            }
+
+            classBody.append(String.format("public enum %s implements %s {", super.getResourceName(),
+                    super.getInterfaces().get(0).createResource()));
+            classBody.append(RETURN).append(RETURN);
+
+            super.getEnumerations().forEach(enumeration -> {
+                classBody.append(String.format("%s,", enumeration.createResource()));
+                classBody.append(RETURN).append(RETURN);
+            });
+
+            classBody.setLength(classBody.length() - (1 + RETURN.length() * 2));
+            classBody.append(Delimiter.SEMICOLON.getTag()).append(RETURN).append(RETURN);
+
+            super.getFields().forEach(field -> {
+                classBody.append(field.createResource()).append(RETURN).append(RETURN);
+            });
+
+            classBody.setLength(classBody.length() - RETURN.length());
+
+            if (!this.isAppliedLombok()) {
+                super.getConstructors().forEach(constructor -> {
+                    classBody.append(constructor.createResource()).append(RETURN).append(RETURN);
+                });
+
+                classBody.setLength(classBody.length() - RETURN.length());
+
+                super.getMethods().forEach(method -> {
+                    classBody.append(method.createResource()).append(RETURN).append(RETURN);
+                });
+
+                classBody.setLength(classBody.length() - RETURN.length());
+            }
+
+            classBody.append(Brace.END.getTag()).append(RETURN);
+
+            return classBody.toString();
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogInterface} の組み立てです。
+     */
+    private static final class LegacyInterface extends Interface {
+
+        LegacyInterface(String literal, Generics generics) {
+            super(literal, generics);
+        }
+
+        @Override
+        public String createResource() {
+
+            final StringBuilder _interface = new StringBuilder(super.getLiteral());
+            final Generics generics = super.getGenerics();
+
+            if (!generics.isEmpty()) {
+                _interface.append(generics.createResource());
+            }
+
+            return _interface.toString();
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogGenerics} の組み立てです。
+     */
+    private static final class LegacyGenerics extends Generics {
+
+        @Override
+        public String createResource() {
+            return """
+                    <%s>""".formatted(String.join(", ", super.getGenerics()));
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogEnumeration} の組み立てです。
+     */
+    private static final class LegacyEnumeration extends Enumeration {
+
+        LegacyEnumeration(EnumDefinition enumDefinition, Description description) {
+            super(enumDefinition, description);
+        }
+
+        @Override
+        public String createResource() {
+
+            final StringBuilder enumeration = new StringBuilder();
+            enumeration.append(super.getDescription().createResource()).append(Indentation.returnCode());
+            enumeration.append(super.getEnumDefinition().createResource());
+
+            return enumeration.toString();
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogEnumDefinition} の組み立てです。
+     */
+    private static final class LegacyEnumDefinition extends EnumDefinition {
+
+        LegacyEnumDefinition(String literal) {
+            super(literal);
+        }
+
+        @Override
+        public String createResource() {
+
+            final String codeValue = super.getCodeValue();
+
+            if (StringUtils.isEmpty(codeValue)) {
+                return super.getLiteral();
+            }
+
+            return """
+                    %s(%s)""".formatted(super.getLiteral(), codeValue);
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogDescription} の組み立てです。
+     */
+    private static final class LegacyDescription extends Description {
+
+        LegacyDescription(String description) {
+            super(description);
+        }
+
+        @Override
+        public String createResource() {
+            return """
+                    /**
+                     * %s
+                     */""".formatted(super.getDescription());
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogField} の組み立てです。
+     */
+    private static final class LegacyField extends Field {
+
+        LegacyField(FieldDefinition fieldDefinition, Description description) {
+            super(fieldDefinition, description);
+        }
+
+        @Override
+        public String createResource() {
+
+            final StringBuilder field = new StringBuilder();
+            field.append(super.getDescription().createResource()).append(RETURN);
+
+            if (this.isAppliedLombok()) {
+                super.getAnnotations().forEach(annotation -> {
+                    field.append(annotation.createResource()).append(RETURN);
+                });
+            }
+
+            field.append(super.getFieldDefinition().createResource());
+
+            return field.toString();
+        }
+    }
+
+    /**
+     * 変更前の {@code CatalogFieldDefinition} の組み立てです。
+     */
+    private static final class LegacyFieldDefinition extends FieldDefinition {
+
+        LegacyFieldDefinition(String dataType, String variableName) {
+            super(dataType, variableName);
+        }
+
+        @Override
+        public String createResource() {
+            return switch (super.getLombokState()) {
+                case LOMBOK -> """
+                        private final %s %s;
+                        """.formatted(super.getDataType(), super.getVariableName());
+                case NONE -> """
+                        private %s %s;
+                        """.formatted(super.getDataType(), super.getVariableName());
+            };
+        }
+    }
+}
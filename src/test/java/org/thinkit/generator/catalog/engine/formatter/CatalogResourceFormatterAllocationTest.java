@@ -0,0 +1,227 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.formatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.sun.management.ThreadMXBean;
+
+import org.junit.jupiter.api.Test;
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.dto.CatalogCreator;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogEnumeration;
+import org.thinkit.generator.catalog.engine.dto.CatalogField;
+import org.thinkit.generator.catalog.engine.dto.CatalogMatrix;
+import org.thinkit.generator.catalog.engine.dto.CatalogMeta;
+import org.thinkit.generator.catalog.engine.dto.CatalogResourceGroup;
+import org.thinkit.generator.common.duke.catalog.LombokState;
+
+/**
+ * {@link CatalogResourceFormatter#format(CatalogMatrix)} のカタログ定義ごとのアロケーション量を検証するテストクラスです。
+ * <p>
+ * 整形方式ごとに定義された {@link #ALLOCATION_BUDGETS} を超えるアロケーションが発生した場合にテストは失敗します。
+ * 予算は JDK のフィーチャーリリースごとに計測しており、予算が定義されていないリリースでは最も近いリリースの予算を使用します。
+ * アロケーション量は {@link ThreadMXBean#getThreadAllocatedBytes(long)} を使用してテストを実行するスレッドで計測するため、
+ * 整形は逐次実行で行います。 JIT コンパイルによる揺らぎを除外するため、ウォームアップ後に複数回計測した最小値を比較します。
+ * <p>
+ * 整形処理を変更してアロケーション量が意図的に増加した場合は、増加した理由を確認したうえで予算を更新してください。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class CatalogResourceFormatterAllocationTest {
+
+    /**
+     * JDK のフィーチャーリリースごとの、整形方式ごとのカタログ定義1件あたりのアロケーション予算 (バイト)
+     * <p>
+     * 各リリースで計測した値に約25%の余裕を持たせた値です。
+     * {@link FormatMode#NONE} と {@link FormatMode#NATIVE_AOSP} の予算は google-java-format に依存しないため、
+     * ファクトリークラスのアロケーション量が倍増した場合は必ず予算を超えます。
+     */
+    private static final NavigableMap<Integer, Map<FormatMode, Long>> ALLOCATION_BUDGETS = new TreeMap<>();
+
+    static {
+        final Map<FormatMode, Long> jdk17 = new EnumMap<>(FormatMode.class);
+        jdk17.put(FormatMode.NONE, 8_500L);
+        jdk17.put(FormatMode.SHARED_GJF, 2_420_000L);
+        jdk17.put(FormatMode.STRICT_GJF, 2_440_000L);
+        jdk17.put(FormatMode.NATIVE_AOSP, 59_000L);
+        jdk17.put(FormatMode.VERIFIED_AOSP, 2_470_000L);
+        ALLOCATION_BUDGETS.put(17, jdk17);
+
+        final Map<FormatMode, Long> jdk21 = new EnumMap<>(FormatMode.class);
+        jdk21.put(FormatMode.NONE, 8_500L);
+        jdk21.put(FormatMode.SHARED_GJF, 2_400_000L);
+        jdk21.put(FormatMode.STRICT_GJF, 2_430_000L);
+        jdk21.put(FormatMode.NATIVE_AOSP, 59_000L);
+        jdk21.put(FormatMode.VERIFIED_AOSP, 2_450_000L);
+        ALLOCATION_BUDGETS.put(21, jdk21);
+    }
+
+    /**
+     * 計測に使用するカタログ定義の種類ごとの件数
+     */
+    private static final int DEFINITIONS_PER_KIND = 4;
+
+    /**
+     * カタログ定義ごとの列挙子の件数
+     */
+    private static final int ENUMERATION_COUNT = 8;
+
+    /**
+     * ウォームアップの回数
+     */
+    private static final int WARMUP_ITERATIONS = 10;
+
+    /**
+     * 計測の回数
+     */
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    @Test
+    void testAllocationWhenFormatModeIsNone() {
+        this.assertAllocationWithinBudget(FormatMode.NONE);
+    }
+
+    @Test
+    void testAllocationWhenFormatModeIsSharedGjf() {
+        this.assertAllocationWithinBudget(FormatMode.SHARED_GJF);
+    }
+
+    @Test
+    void testAllocationWhenFormatModeIsStrictGjf() {
+        this.assertAllocationWithinBudget(FormatMode.STRICT_GJF);
+    }
+
+    @Test
+    void testAllocationWhenFormatModeIsNativeAosp() {
+        this.assertAllocationWithinBudget(FormatMode.NATIVE_AOSP);
+    }
+
+    @Test
+    void testAllocationWhenFormatModeIsVerifiedAosp() {
+        this.assertAllocationWithinBudget(FormatMode.VERIFIED_AOSP);
+    }
+
+    private void assertAllocationWithinBudget(FormatMode formatMode) {
+
+        final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final Map.Entry<Integer, Map<FormatMode, Long>> budgets = this.getAllocationBudgets();
+        final long allocatedBytes = this.measureAllocatedBytesPerDefinition(threadMXBean, formatMode);
+        final long budget = budgets.getValue().get(formatMode);
+
+        assertTrue(allocatedBytes <= budget,
+                String.format("%s allocated %d bytes per definition but the JDK %d budget is %d bytes.", formatMode,
+                        allocatedBytes, budgets.getKey(), budget));
+    }
+
+    private Map.Entry<Integer, Map<FormatMode, Long>> getAllocationBudgets() {
+
+        final int feature = Runtime.version().feature();
+        final Map.Entry<Integer, Map<FormatMode, Long>> floor = ALLOCATION_BUDGETS.floorEntry(feature);
+        final Map.Entry<Integer, Map<FormatMode, Long>> ceiling = ALLOCATION_BUDGETS.ceilingEntry(feature);
+
+        if (floor == null) {
+            return ceiling;
+        }
+
+        if (ceiling == null) {
+            return floor;
+        }
+
+        return feature - floor.getKey() <= ceiling.getKey() - feature ? floor : ceiling;
+    }
+
+    private long measureAllocatedBytesPerDefinition(ThreadMXBean threadMXBean, FormatMode formatMode) {
+
+        final CatalogResourceFormatter formatter = CatalogResourceFormatter.builder().formatMode(formatMode).build();
+        final CatalogMatrix catalogMatrix = this.getCatalogMatrix();
+        final int definitionCount = catalogMatrix.getCatalogDefinitions().size();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(definitionCount, formatter.format(catalogMatrix).size());
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        long allocatedBytes = Long.MAX_VALUE;
+
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            final long start = threadMXBean.getThreadAllocatedBytes(threadId);
+            final CatalogResourceGroup catalogResourceGroup = formatter.format(catalogMatrix);
+            allocatedBytes = Math.min(allocatedBytes, threadMXBean.getThreadAllocatedBytes(threadId) - start);
+
+            assertEquals(definitionCount, catalogResourceGroup.size());
+        }
+
+        return allocatedBytes / definitionCount;
+    }
+
+    private CatalogMatrix getCatalogMatrix() {
+
+        final List<CatalogDefinition> catalogDefinitions = new ArrayList<>();
+
+        for (int i = 0; i < DEFINITIONS_PER_KIND; i++) {
+            catalogDefinitions.add(this.getCatalogDefinition(CatalogType.CATALOG, LombokState.NONE, i));
+            catalogDefinitions.add(this.getCatalogDefinition(CatalogType.CATALOG, LombokState.LOMBOK, i));
+            catalogDefinitions.add(this.getCatalogDefinition(CatalogType.BI_CATALOG, LombokState.NONE, i));
+            catalogDefinitions.add(this.getCatalogDefinition(CatalogType.BI_CATALOG, LombokState.LOMBOK, i));
+        }
+
+        return CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                .catalogDefinitions(catalogDefinitions).build();
+    }
+
+    private CatalogDefinition getCatalogDefinition(CatalogType catalogType, LombokState lombokState, int index) {
+
+        final boolean biCatalog = catalogType == CatalogType.BI_CATALOG;
+        final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>();
+
+        for (int i = 0; i < ENUMERATION_COUNT; i++) {
+            catalogEnumerations.add(CatalogEnumeration.builder().literal(String.format("TEST%s", i + 1)).code(i)
+                    .tag(biCatalog ? String.format("tag %s", i + 1) : "")
+                    .description(String.format("Description %s", i + 1)).build());
+        }
+
+        final List<CatalogField> catalogFields = new ArrayList<>();
+        catalogFields.add(CatalogField.builder().variableName("code").dataType("int").description("The code").build());
+
+        if (biCatalog) {
+            catalogFields
+                    .add(CatalogField.builder().variableName("tag").dataType("String").description("The tag").build());
+        }
+
+        return CatalogDefinition.builder()
+                .catalogMeta(CatalogMeta.builder().version("1.0.0").catalogType(catalogType).lombokState(lombokState)
+                        .build())
+                .packageName("org.thinkit.generator.catalog.test").tagDataType(biCatalog ? "String" : "")
+                .className(String.format("Test%s%s%s", catalogType.name(), lombokState.name(), index))
+                .catalogEnumerations(catalogEnumerations).catalogFields(catalogFields).build();
+    }
+}
@@ -16,22 +16,55 @@ package org.thinkit.generator.catalog.engine.formatter;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.thinkit.generator.catalog.engine.cache.CatalogRenderCache;
 import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.catalog.GenerationStage;
+import org.thinkit.generator.catalog.engine.catalog.ScalingMode;
+import org.thinkit.generator.catalog.engine.dto.CatalogChangeSet;
 import org.thinkit.generator.catalog.engine.dto.CatalogCreator;
 import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
 import org.thinkit.generator.catalog.engine.dto.CatalogEnumeration;
 import org.thinkit.generator.catalog.engine.dto.CatalogField;
 import org.thinkit.generator.catalog.engine.dto.CatalogMatrix;
 import org.thinkit.generator.catalog.engine.dto.CatalogMeta;
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
 import org.thinkit.generator.catalog.engine.dto.CatalogResourceGroup;
+import org.thinkit.generator.catalog.engine.dto.CatalogValidator;
+import org.thinkit.generator.catalog.engine.metrics.GenerationRecorder;
+import org.thinkit.generator.catalog.engine.metrics.GenerationReport;
+import org.thinkit.generator.catalog.engine.metrics.GenerationStatistics;
+import org.thinkit.generator.catalog.engine.sink.FileSystemCatalogResourceSink;
+import org.thinkit.generator.catalog.engine.strategy.CatalogSharedGoogleJavaFormat;
 import org.thinkit.generator.common.duke.catalog.LombokState;
 
 /**
@@ -127,6 +160,697 @@ public final class CatalogResourceFormatterTest {
         }
     }
 
+    @Test
+    void testFormatWhenDefinitionsShareShape() {
+
+        final CatalogDefinition mockCatalogDefinition = this.getCatalogDefinition().toBuilder()
+                .packageName("org.thinkit.generator.catalog.mock").className("MockCatalog").build();
+
+        final CatalogResourceGroup catalogResourceGroup = CatalogResourceFormatter.newInstance()
+                .format(CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                        .catalogDefinitions(List.of(this.getCatalogDefinition(), this.getBiCatalogDefintiion(),
+                                mockCatalogDefinition))
+                        .build());
+
+        assertEquals(TEMPLATE_CATALOG_CLASS, catalogResourceGroup.get(0).getResource());
+        assertEquals(TEMPLATE_BICATALOG_CLASS, catalogResourceGroup.get(1).getResource());
+        assertEquals(TEMPLATE_CATALOG_CLASS.replace("org.thinkit.generator.catalog.test",
+                "org.thinkit.generator.catalog.mock").replace("TestCatalog", "MockCatalog"),
+                catalogResourceGroup.get(2).getResource());
+    }
+
+    @Test
+    void testFormatWithCodeLookup() {
+
+        final CatalogDefinition catalogDefinition = this.getCatalogDefinition();
+        final CatalogDefinition denseCatalogDefinition = catalogDefinition.toBuilder()
+                .catalogMeta(catalogDefinition.getCatalogMeta().toBuilder().codeLookup(true).build()).build();
+
+        final List<CatalogEnumeration> sparseCatalogEnumerations = new ArrayList<>();
+        final List<CatalogEnumeration> largeCatalogEnumerations = new ArrayList<>();
+
+        for (int i = 0; i < 300; i++) {
+            final CatalogEnumeration catalogEnumeration = CatalogEnumeration.builder()
+                    .literal(String.format("TEST%s", i + 1)).code(i * 1000).description("Description").build();
+
+            if (i < 3) {
+                sparseCatalogEnumerations.add(catalogEnumeration);
+            }
+
+            largeCatalogEnumerations.add(catalogEnumeration);
+        }
+
+        final CatalogMatrix catalogMatrix = CatalogMatrix.builder()
+                .catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                .catalogDefinitions(List.of(denseCatalogDefinition,
+                        denseCatalogDefinition.toBuilder().catalogEnumerations(sparseCatalogEnumerations).build(),
+                        denseCatalogDefinition.toBuilder().catalogEnumerations(largeCatalogEnumerations).build()))
+                .build();
+
+        final CatalogResourceGroup catalogResourceGroup = CatalogResourceFormatter.builder()
+                .formatMode(FormatMode.VERIFIED_AOSP).build().format(catalogMatrix);
+
+        catalogResourceGroup.forEach(catalogResource -> {
+            assertTrue(catalogResource.getResource().contains("public static TestCatalog fromCode(int code) {"));
+        });
+
+        assertTrue(catalogResourceGroup.get(0).getResource()
+                .contains("private static final TestCatalog[] CONSTANTS = new TestCatalog[3];"));
+        assertTrue(catalogResourceGroup.get(1).getResource()
+                .contains("            case 2000:\n                return TEST3;"));
+        assertTrue(catalogResourceGroup.get(2).getResource()
+                .contains("private static final TestCatalog[] CONSTANTS = new TestCatalog[1024];"));
+
+        final CatalogDefinition duplicateCatalogDefinition = denseCatalogDefinition.toBuilder()
+                .catalogEnumerations(List.of(sparseCatalogEnumerations.get(0), sparseCatalogEnumerations.get(0)))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> CatalogResourceFormatter.newInstance()
+                .format(CatalogCreator.builder().creator("Shinya").build(), duplicateCatalogDefinition));
+    }
+
+    @Test
+    void testFormatWithTagLookup() {
+
+        final CatalogDefinition catalogDefinition = this.getBiCatalogDefintiion();
+        final CatalogDefinition stringCatalogDefinition = catalogDefinition.toBuilder()
+                .catalogMeta(catalogDefinition.getCatalogMeta().toBuilder().tagLookup(true).build()).build();
+
+        final List<CatalogEnumeration> characterCatalogEnumerations = new ArrayList<>();
+        final List<CatalogEnumeration> largeCatalogEnumerations = new ArrayList<>();
+
+        for (int i = 0; i < 300; i++) {
+            final CatalogEnumeration catalogEnumeration = CatalogEnumeration.builder()
+                    .literal(String.format("TEST%s", i + 1)).code(i).tag(String.format("%s", (char) ('a' + i)))
+                    .description("Description").build();
+
+            if (i < 3) {
+                characterCatalogEnumerations.add(catalogEnumeration);
+            }
+
+            largeCatalogEnumerations.add(catalogEnumeration);
+        }
+
+        final CatalogMatrix catalogMatrix = CatalogMatrix.builder()
+                .catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                .catalogDefinitions(List.of(stringCatalogDefinition,
+                        stringCatalogDefinition.toBuilder().tagDataType("Character")
+                                .catalogEnumerations(characterCatalogEnumerations)
+                                .catalogFields(List.of(stringCatalogDefinition.getCatalogFields().get(0),
+                                        CatalogField.builder().variableName("tag").dataType("Character")
+                                                .description("The tag").build()))
+                                .build(),
+                        stringCatalogDefinition.toBuilder().catalogEnumerations(largeCatalogEnumerations).build()))
+                .build();
+
+        final CatalogResourceGroup catalogResourceGroup = CatalogResourceFormatter.builder()
+                .formatMode(FormatMode.VERIFIED_AOSP).build().format(catalogMatrix);
+
+        assertTrue(catalogResourceGroup.get(0).getResource()
+                .contains("            case \"tag 3\":\n                return TEST3;"));
+        assertTrue(catalogResourceGroup.get(1).getResource()
+                .contains("public static TestBiCatalog fromTag(char tag) {"));
+        assertTrue(catalogResourceGroup.get(1).getResource()
+                .contains("CONSTANTS[constant.getTag() - 97] = constant;"));
+        assertTrue(catalogResourceGroup.get(2).getResource()
+                .contains("private static final String[] TAGS = new String[1024];"));
+
+        assertFalse(CatalogResourceFormatter.newInstance()
+                .format(CatalogCreator.builder().creator("Shinya").build(),
+                        this.getCatalogDefinition().toBuilder()
+                                .catalogMeta(CatalogMeta.builder().version("1.0.0").tagLookup(true).build()).build())
+                .getResource().contains("fromTag"));
+    }
+
+    @Test
+    void testFormatWithPrimitiveTag() {
+
+        final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            catalogEnumerations.add(CatalogEnumeration.builder().literal(String.format("TEST%s", i + 1)).code(i)
+                    .tag(String.valueOf(10000000000L + i)).description("Description").build());
+        }
+
+        final CatalogDefinition catalogDefinition = this.getBiCatalogDefintiion().toBuilder()
+                .catalogMeta(CatalogMeta.builder().version("1.0.0").catalogType(CatalogType.BI_CATALOG)
+                        .primitiveTag(true).build())
+                .tagDataType("Long").catalogEnumerations(catalogEnumerations)
+                .catalogFields(List.of(
+                        CatalogField.builder().variableName("code").dataType("int").description("The code").build(),
+                        CatalogField.builder().variableName("tag").dataType("Long").description("The tag").build()))
+                .build();
+
+        final CatalogResourceGroup catalogResourceGroup = CatalogResourceFormatter.builder()
+                .formatMode(FormatMode.VERIFIED_AOSP).build()
+                .format(CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                        .catalogDefinitions(List.of(catalogDefinition,
+                                catalogDefinition.toBuilder().catalogMeta(catalogDefinition.getCatalogMeta()
+                                        .toBuilder().lombokState(LombokState.LOMBOK).build()).build()))
+                        .build());
+
+        catalogResourceGroup.forEach(catalogResource -> {
+            final String resource = catalogResource.getResource();
+
+            assertTrue(resource.contains("implements BiCatalog<TestBiCatalog, Long> {"));
+            assertTrue(resource.contains("TEST1(0, 10000000000L),"));
+            assertTrue(resource.contains("long tag;"));
+            assertTrue(resource.contains("    @Override\n    public Long getTag() {\n        return this.tag;\n    }"));
+            assertTrue(resource.contains("    public long getTagAsLong() {\n        return this.tag;\n    }"));
+        });
+
+        assertTrue(catalogResourceGroup.get(0).getResource().contains("TestBiCatalog(int code, long tag) {"));
+        assertTrue(catalogResourceGroup.get(1).getResource().contains("    private final long tag;"));
+    }
+
+    @Test
+    void testFormatWithScalingMode() {
+
+        final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>();
+
+        for (int i = 0; i < CatalogValidator.MAX_SCALED_CATALOG_ENUMERATIONS; i++) {
+            catalogEnumerations.add(CatalogEnumeration.builder().literal(String.format("TEST%s", i + 1)).code(i * 2)
+                    .tag(String.format("tag%s", i)).description("Description").build());
+        }
+
+        final CatalogDefinition catalogDefinition = this.getBiCatalogDefintiion().toBuilder()
+                .catalogMeta(CatalogMeta.builder().version("1.0.0").catalogType(CatalogType.BI_CATALOG)
+                        .scalingMode(ScalingMode.AUTO).build())
+                .catalogEnumerations(catalogEnumerations).build();
+
+        final CatalogResourceFormatter formatter = CatalogResourceFormatter.builder()
+                .formatMode(FormatMode.VERIFIED_AOSP).build();
+        final CatalogResourceGroup catalogResourceGroup = formatter
+                .format(CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                        .catalogDefinitions(List.of(catalogDefinition)).build());
+
+        assertEquals(1, catalogResourceGroup.size());
+        assertEquals("TestBiCatalog", catalogResourceGroup.get(0).getClassName());
+
+        final String resource = catalogResourceGroup.get(0).getResource();
+
+        assertTrue(resource.contains("    TEST1,\n"));
+        assertTrue(resource.contains("    TEST4000;\n"));
+        assertFalse(resource.contains("TestBiCatalog(int code, String tag) {"));
+        assertTrue(resource
+                .contains("    public int getCode() {\n        return CodeTable.VALUES[this.ordinal()];\n    }"));
+        assertTrue(resource.contains("            VALUES[3999] = \"tag3999\";\n"));
+    }
+
+    @Test
+    void testFormatWhenScaledCatalogHasTooManyEnumerations() {
+
+        final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>();
+
+        for (int i = 0; i <= CatalogValidator.MAX_SCALED_CATALOG_ENUMERATIONS; i++) {
+            catalogEnumerations.add(CatalogEnumeration.builder().literal(String.format("TEST%s", i + 1)).code(i)
+                    .tag("").description("Description").build());
+        }
+
+        final CatalogDefinition catalogDefinition = this.getCatalogDefinition().toBuilder()
+                .catalogMeta(CatalogMeta.builder().version("1.0.0").catalogType(CatalogType.CATALOG)
+                        .scalingMode(ScalingMode.AUTO).build())
+                .catalogEnumerations(catalogEnumerations).build();
+        final CatalogCreator catalogCreator = CatalogCreator.builder().creator("Shinya").build();
+        final CatalogResourceFormatter formatter = CatalogResourceFormatter.newInstance();
+
+        assertEquals("catalogMatrix.catalogDefinitions[0].catalogEnumerations must not have more than 4000 elements "
+                + "because an enum cannot declare more constants, but had 4001. "
+                + "Split the catalog into multiple definitions.",
+                assertThrows(IllegalArgumentException.class,
+                        () -> formatter.format(CatalogMatrix.builder().catalogCreator(catalogCreator)
+                                .catalogDefinitions(List.of(catalogDefinition)).build()))
+                        .getMessage());
+        assertThrows(IllegalArgumentException.class, () -> formatter.format(catalogCreator, catalogDefinition));
+        assertThrows(IllegalArgumentException.class,
+                () -> formatter.format(catalogCreator, List.of(catalogDefinition).iterator(), catalogResource -> {
+                }));
+    }
+
+    @Test
+    void testFormatWithGenerationListener() {
+
+        final GenerationRecorder recorder = GenerationRecorder.of(1);
+        final CatalogResourceGroup catalogResourceGroup = CatalogResourceFormatter.builder()
+                .generationListener(recorder).build()
+                .format(CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                        .catalogDefinitions(List.of(this.getCatalogDefinition(), this.getCatalogDefinition(),
+                                this.getBiCatalogDefintiion()))
+                        .build());
+
+        final GenerationReport report = recorder.report();
+        final Map<GenerationStage, GenerationStatistics> stageStatistics = report.getStageStatistics();
+
+        assertEquals(1, stageStatistics.get(GenerationStage.VALIDATION).getCount());
+        assertEquals(2, stageStatistics.get(GenerationStage.CONTENT_LOOKUP).getCount());
+        assertEquals(3, stageStatistics.get(GenerationStage.ASSEMBLY).getCount());
+        assertEquals(3, stageStatistics.get(GenerationStage.RENDERING).getCount());
+        assertEquals(3, stageStatistics.get(GenerationStage.FORMATTING).getCount());
+        assertEquals(3, report.getDefinitionStatistics().getCount());
+
+        long renderedBytes = 0L;
+
+        for (CatalogResource catalogResource : catalogResourceGroup) {
+            renderedBytes += catalogResource.getResource().getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        assertEquals(renderedBytes, report.getRenderedBytes());
+        assertEquals(1, report.getSlowestDefinitions().size());
+        assertEquals(report.getDefinitionStatistics().getMaxNanos(),
+                report.getSlowestDefinitions().get(0).getElapsedNanos());
+    }
+
+    @Test
+    void testFormatRecordsFlightRecorderEvents(@TempDir Path directory) throws Exception {
+
+        final Path recordingFile = directory.resolve("catalog.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("org.thinkit.generator.catalog.*");
+            recording.start();
+
+            CatalogResourceFormatter.builder().build()
+                    .format(CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                            .catalogDefinitions(List.of(this.getCatalogDefinition(), this.getBiCatalogDefintiion()))
+                            .build(), FileSystemCatalogResourceSink.of(directory.resolve("src")));
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        final Map<String, List<RecordedEvent>> recordedEvents = new ConcurrentHashMap<>();
+
+        for (RecordedEvent recordedEvent : RecordingFile.readAllEvents(recordingFile)) {
+            recordedEvents.computeIfAbsent(recordedEvent.getEventType().getName(), name -> new ArrayList<>())
+                    .add(recordedEvent);
+        }
+
+        assertEquals(1, recordedEvents.get("org.thinkit.generator.catalog.CatalogMatrixFormat").size());
+        assertEquals(2, recordedEvents.get("org.thinkit.generator.catalog.CatalogDefinitionRender").size());
+        assertEquals(2, recordedEvents.get("org.thinkit.generator.catalog.CatalogSourceFormat").size());
+        assertEquals(2, recordedEvents.get("org.thinkit.generator.catalog.ContentLookup").size());
+
+        final RecordedEvent matrixFormatEvent = recordedEvents.get("org.thinkit.generator.catalog.CatalogMatrixFormat")
+                .get(0);
+        assertEquals(2, matrixFormatEvent.getInt("definitionCount"));
+        assertEquals(6L, matrixFormatEvent.getLong("enumerationCount"));
+
+        final List<RecordedEvent> outputWriteEvents = recordedEvents.get("org.thinkit.generator.catalog.OutputWrite");
+        assertEquals(2, outputWriteEvents.size());
+
+        for (RecordedEvent outputWriteEvent : outputWriteEvents) {
+            assertEquals("FileSystemCatalogResourceSink", outputWriteEvent.getString("sink"));
+            assertFalse(outputWriteEvent.getBoolean("skipped"));
+            assertTrue(outputWriteEvent.getLong("outputSize") > 0L);
+        }
+    }
+
+    @Test
+    void testFormatInParallelKeepsDefinitionOrder() {
+
+        final List<String> templates = List.of(TEMPLATE_CATALOG_CLASS, TEMPLATE_LOMBOK_CATALOG_CLASS,
+                TEMPLATE_BICATALOG_CLASS, TEMPLATE_LOMBOK_BICATALOG_CLASS);
+        final List<CatalogDefinition> catalogDefinitions = new ArrayList<>();
+
+        for (int i = 0; i < 16; i++) {
+            catalogDefinitions.add(this.getCatalogDefinition());
+            catalogDefinitions.add(this.getCatalogDefinitionWithLombok());
+            catalogDefinitions.add(this.getBiCatalogDefintiion());
+            catalogDefinitions.add(this.getBiCatalogDefintiionWithLombok());
+        }
+
+        final CatalogResourceGroup catalogResourceGroup = assertDoesNotThrow(
+                () -> CatalogResourceFormatter.builder().parallelism(4).build()
+                        .format(CatalogMatrix.builder()
+                                .catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                                .catalogDefinitions(catalogDefinitions).build()));
+
+        assertNotNull(catalogResourceGroup);
+        assertTrue(catalogResourceGroup.size() == catalogDefinitions.size());
+
+        for (int i = 0, size = catalogResourceGroup.size(); i < size; i++) {
+            assertEquals(templates.get(i % templates.size()), catalogResourceGroup.get(i).getResource());
+        }
+    }
+
+    @Test
+    void testFormatWithFormatMode() {
+
+        final CatalogMatrix catalogMatrix = CatalogMatrix.builder()
+                .catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                .catalogDefinitions(List.of(this.getCatalogDefinition(), this.getBiCatalogDefintiionWithLombok()))
+                .build();
+
+        final CatalogResourceGroup sharedResourceGroup = CatalogResourceFormatter.builder()
+                .formatMode(FormatMode.SHARED_GJF).build().format(catalogMatrix);
+
+        assertEquals(TEMPLATE_CATALOG_CLASS, sharedResourceGroup.get(0).getResource());
+        assertEquals(TEMPLATE_LOMBOK_BICATALOG_CLASS, sharedResourceGroup.get(1).getResource());
+
+        final CatalogResourceGroup rawResourceGroup = CatalogResourceFormatter.builder().formatMode(FormatMode.NONE)
+                .build().format(catalogMatrix);
+
+        assertNotEquals(TEMPLATE_CATALOG_CLASS, rawResourceGroup.get(0).getResource());
+        assertEquals(TEMPLATE_CATALOG_CLASS,
+                CatalogSharedGoogleJavaFormat.newInstance().format(rawResourceGroup.get(0).getResource()));
+    }
+
+    @Test
+    void testFormatWithNativeAospFormat() {
+
+        final List<String> templates = List.of(TEMPLATE_CATALOG_CLASS, TEMPLATE_LOMBOK_CATALOG_CLASS,
+                TEMPLATE_BICATALOG_CLASS, TEMPLATE_LOMBOK_BICATALOG_CLASS);
+        final CatalogMatrix catalogMatrix = CatalogMatrix.builder()
+                .catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                .catalogDefinitions(List.of(this.getCatalogDefinition(), this.getCatalogDefinitionWithLombok(),
+                        this.getBiCatalogDefintiion(), this.getBiCatalogDefintiionWithLombok()))
+                .build();
+
+        for (FormatMode formatMode : List.of(FormatMode.NATIVE_AOSP, FormatMode.VERIFIED_AOSP)) {
+            final CatalogResourceGroup catalogResourceGroup = assertDoesNotThrow(
+                    () -> CatalogResourceFormatter.builder().formatMode(formatMode).build().format(catalogMatrix));
+
+            for (int i = 0; i < templates.size(); i++) {
+                assertEquals(templates.get(i), catalogResourceGroup.get(i).getResource());
+            }
+        }
+    }
+
+    @Test
+    void testFormatWhenParallelismIsLessThanOne() {
+        assertThrows(IllegalArgumentException.class, () -> CatalogResourceFormatter.builder().parallelism(0).build()
+                .format(CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                        .catalogDefinitions(List.of(this.getCatalogDefinition())).build()));
+    }
+
+    @Test
+    void testFormatToSink() {
+
+        final List<CatalogDefinition> catalogDefinitions = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            catalogDefinitions.add(this.getCatalogDefinition().toBuilder().className("TestCatalog" + i).build());
+        }
+
+        final Map<String, CatalogResource> catalogResources = new ConcurrentHashMap<>();
+
+        assertDoesNotThrow(() -> CatalogResourceFormatter.builder().parallelism(2).build().format(
+                CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                        .catalogDefinitions(catalogDefinitions).build(),
+                catalogResource -> catalogResources.put(catalogResource.getClassName(), catalogResource)));
+
+        assertEquals(catalogDefinitions.size(), catalogResources.size());
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals(TEMPLATE_CATALOG_CLASS.replace("TestCatalog", "TestCatalog" + i),
+                    catalogResources.get("TestCatalog" + i).getResource());
+        }
+    }
+
+    @Test
+    void testFormatToSinkBoundsPlatformThreads() {
+
+        final List<CatalogDefinition> catalogDefinitions = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            catalogDefinitions.add(this.getCatalogDefinition().toBuilder().className("TestCatalog" + i).build());
+        }
+
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        final int baseThreadCount = threadMXBean.getThreadCount();
+        final AtomicInteger peakThreadCount = new AtomicInteger(baseThreadCount);
+
+        CatalogResourceFormatter.builder().parallelism(2).formatMode(FormatMode.NONE).build().format(
+                CatalogMatrix.builder().catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                        .catalogDefinitions(catalogDefinitions).build(),
+                catalogResource -> {
+                    peakThreadCount.accumulateAndGet(threadMXBean.getThreadCount(), Math::max);
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                });
+
+        assertTrue(peakThreadCount.get() - baseThreadCount <= 32,
+                String.format("%d platform threads were started.", peakThreadCount.get() - baseThreadCount));
+    }
+
+    @Test
+    void testFormatStream() {
+
+        final List<String> templates = List.of(TEMPLATE_CATALOG_CLASS, TEMPLATE_LOMBOK_CATALOG_CLASS,
+                TEMPLATE_BICATALOG_CLASS, TEMPLATE_LOMBOK_BICATALOG_CLASS);
+        final List<CatalogResource> catalogResources = new ArrayList<>();
+
+        assertDoesNotThrow(() -> CatalogResourceFormatter.newInstance().format(
+                CatalogCreator.builder().creator("Shinya").build(),
+                Stream.of(this.getCatalogDefinition(), this.getCatalogDefinitionWithLombok(),
+                        this.getBiCatalogDefintiion(), this.getBiCatalogDefintiionWithLombok()),
+                catalogResources::add));
+
+        assertTrue(catalogResources.size() == 4);
+
+        for (int i = 0, size = catalogResources.size(); i < size; i++) {
+            assertEquals(templates.get(i), catalogResources.get(i).getResource());
+        }
+    }
+
+    @Test
+    void testFormatStreamRecordsFlightRecorderEvents(@TempDir Path directory) throws Exception {
+
+        final Path recordingFile = directory.resolve("catalog.jfr");
+        final AtomicInteger catalogResourceCount = new AtomicInteger();
+
+        try (Recording recording = new Recording()) {
+            recording.enable("org.thinkit.generator.catalog.*");
+            recording.start();
+
+            CatalogResourceFormatter.newInstance().format(CatalogCreator.builder().creator("Shinya").build(),
+                    Stream.of(this.getCatalogDefinition(), this.getBiCatalogDefintiion()),
+                    catalogResource -> catalogResourceCount.incrementAndGet());
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        final List<RecordedEvent> matrixFormatEvents = new ArrayList<>();
+
+        for (RecordedEvent recordedEvent : RecordingFile.readAllEvents(recordingFile)) {
+            if ("org.thinkit.generator.catalog.CatalogMatrixFormat".equals(recordedEvent.getEventType().getName())) {
+                matrixFormatEvents.add(recordedEvent);
+            }
+        }
+
+        assertEquals(2, catalogResourceCount.get());
+        assertEquals(1, matrixFormatEvents.size());
+        assertEquals(2, matrixFormatEvents.get(0).getInt("definitionCount"));
+        assertEquals(6L, matrixFormatEvents.get(0).getLong("enumerationCount"));
+        assertEquals((long) (TEMPLATE_CATALOG_CLASS + TEMPLATE_BICATALOG_CLASS).getBytes(StandardCharsets.UTF_8).length,
+                matrixFormatEvents.get(0).getLong("outputSize"));
+    }
+
+    @Test
+    void testFormatStreamValidatesLikeMatrix() {
+
+        final CatalogCreator catalogCreator = CatalogCreator.builder().creator("Shinya").build();
+        final List<CatalogResource> catalogResources = new ArrayList<>();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogResourceFormatter.builder().parallelism(0).build().format(catalogCreator,
+                        Stream.of(this.getCatalogDefinition()), catalogResources::add));
+        assertEquals("catalogMatrix.catalogCreator.creator must not be empty.",
+                assertThrows(IllegalArgumentException.class,
+                        () -> CatalogResourceFormatter.newInstance().format(
+                                CatalogCreator.builder().creator("").build(), Stream.of(this.getCatalogDefinition()),
+                                catalogResources::add))
+                        .getMessage());
+        assertEquals("catalogMatrix.catalogDefinitions[1] must not be null.",
+                assertThrows(IllegalArgumentException.class,
+                        () -> CatalogResourceFormatter.newInstance().format(catalogCreator,
+                                Stream.of(this.getCatalogDefinition(), null), catalogResources::add))
+                        .getMessage());
+        assertEquals("catalogMatrix.catalogDefinitions must not be empty.",
+                assertThrows(IllegalArgumentException.class,
+                        () -> CatalogResourceFormatter.newInstance().format(catalogCreator, Stream.empty(),
+                                catalogResources::add))
+                        .getMessage());
+
+        assertEquals(1, catalogResources.size());
+    }
+
+    @Test
+    void testPublishWithBackpressure() throws Exception {
+
+        final List<String> templates = List.of(TEMPLATE_CATALOG_CLASS, TEMPLATE_LOMBOK_CATALOG_CLASS,
+                TEMPLATE_BICATALOG_CLASS, TEMPLATE_LOMBOK_BICATALOG_CLASS);
+        final List<CatalogResource> catalogResources = new ArrayList<>();
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        try (SubmissionPublisher<CatalogDefinition> catalogDefinitionPublisher = new SubmissionPublisher<>()) {
+            CatalogResourceFormatter.newInstance()
+                    .publish(CatalogCreator.builder().creator("Shinya").build(), catalogDefinitionPublisher)
+                    .subscribe(new Flow.Subscriber<CatalogResource>() {
+
+                        private Flow.Subscription subscription;
+
+                        @Override
+                        public void onSubscribe(Flow.Subscription subscription) {
+                            this.subscription = subscription;
+                            subscription.request(1);
+                        }
+
+                        @Override
+                        public void onNext(CatalogResource catalogResource) {
+                            catalogResources.add(catalogResource);
+                            this.subscription.request(1);
+                        }
+
+                        @Override
+                        public void onError(Throwable throwable) {
+                            completion.completeExceptionally(throwable);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            completion.complete(null);
+                        }
+                    });
+
+            catalogDefinitionPublisher.submit(this.getCatalogDefinition());
+            catalogDefinitionPublisher.submit(this.getCatalogDefinitionWithLombok());
+            catalogDefinitionPublisher.submit(this.getBiCatalogDefintiion());
+            catalogDefinitionPublisher.submit(this.getBiCatalogDefintiionWithLombok());
+        }
+
+        completion.get(30, TimeUnit.SECONDS);
+
+        assertTrue(catalogResources.size() == 4);
+
+        for (int i = 0, size = catalogResources.size(); i < size; i++) {
+            assertEquals(templates.get(i), catalogResources.get(i).getResource());
+        }
+    }
+
+    @Test
+    void testPublishWhenSubscriberThrowsOnNext() throws Exception {
+
+        final IllegalStateException failure = new IllegalStateException("onNext failed");
+        final AtomicInteger requestedCount = new AtomicInteger();
+        final AtomicInteger deliveredCount = new AtomicInteger();
+        final CompletableFuture<Void> upstreamCancellation = new CompletableFuture<>();
+        final CompletableFuture<Throwable> completion = new CompletableFuture<>();
+
+        final Flow.Publisher<CatalogDefinition> catalogDefinitionPublisher = subscriber -> subscriber
+                .onSubscribe(new Flow.Subscription() {
+
+                    @Override
+                    public void request(long n) {
+                        for (long i = 0; i < n && !upstreamCancellation.isDone(); i++) {
+                            requestedCount.incrementAndGet();
+                            subscriber.onNext(getCatalogDefinition());
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        upstreamCancellation.complete(null);
+                    }
+                });
+
+        CatalogResourceFormatter.newInstance()
+                .publish(CatalogCreator.builder().creator("Shinya").build(), catalogDefinitionPublisher)
+                .subscribe(new Flow.Subscriber<CatalogResource>() {
+
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscription.request(3);
+                    }
+
+                    @Override
+                    public void onNext(CatalogResource catalogResource) {
+                        deliveredCount.incrementAndGet();
+                        throw failure;
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        completion.complete(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completion.completeExceptionally(new AssertionError("onComplete must not be signalled"));
+                    }
+                });
+
+        assertEquals(failure, completion.get(30, TimeUnit.SECONDS));
+        upstreamCancellation.get(30, TimeUnit.SECONDS);
+
+        assertEquals(3, requestedCount.get());
+        assertEquals(1, deliveredCount.get());
+    }
+
+    @Test
+    void testFormatIncrementally() {
+
+        final CatalogCreator catalogCreator = CatalogCreator.builder().creator("Shinya").build();
+        final CatalogResourceFormatter catalogResourceFormatter = CatalogResourceFormatter.newInstance();
+
+        final CatalogChangeSet initialChangeSet = catalogResourceFormatter.formatIncrementally(
+                CatalogMatrix.builder().catalogCreator(catalogCreator)
+                        .catalogDefinitions(List.of(this.getCatalogDefinition(), this.getBiCatalogDefintiion()))
+                        .build(),
+                Map.of());
+
+        assertEquals(2, initialChangeSet.getChangedCatalogResources().size());
+        assertEquals(TEMPLATE_CATALOG_CLASS, initialChangeSet.getChangedCatalogResources().get(0).getResource());
+        assertEquals(TEMPLATE_BICATALOG_CLASS, initialChangeSet.getChangedCatalogResources().get(1).getResource());
+        assertTrue(initialChangeSet.getUnchangedCatalogs().isEmpty());
+        assertTrue(initialChangeSet.getRemovedCatalogs().isEmpty());
+        assertEquals(2, initialChangeSet.getFingerprints().size());
+
+        final CatalogDefinition changedCatalogDefinition = this.getCatalogDefinitionWithLombok();
+
+        final CatalogChangeSet changeSet = catalogResourceFormatter.formatIncrementally(
+                CatalogMatrix.builder().catalogCreator(catalogCreator)
+                        .catalogDefinitions(List.of(changedCatalogDefinition)).build(),
+                initialChangeSet.getFingerprints());
+
+        assertEquals(1, changeSet.getChangedCatalogResources().size());
+        assertEquals(TEMPLATE_LOMBOK_CATALOG_CLASS, changeSet.getChangedCatalogResources().get(0).getResource());
+        assertTrue(changeSet.getUnchangedCatalogs().isEmpty());
+        assertEquals(List.of("org.thinkit.generator.catalog.test.TestBiCatalog"), changeSet.getRemovedCatalogs());
+
+        final CatalogChangeSet unchangedChangeSet = catalogResourceFormatter.formatIncrementally(
+                CatalogMatrix.builder().catalogCreator(catalogCreator)
+                        .catalogDefinitions(List.of(changedCatalogDefinition)).build(),
+                changeSet.getFingerprints());
+
+        assertTrue(unchangedChangeSet.getChangedCatalogResources().isEmpty());
+        assertEquals(List.of("org.thinkit.generator.catalog.test.TestCatalog"),
+                unchangedChangeSet.getUnchangedCatalogs());
+        assertTrue(unchangedChangeSet.getRemovedCatalogs().isEmpty());
+    }
+
+    @Test
+    void testFormatWithRenderCache(@TempDir Path directory) throws Exception {
+
+        final CatalogMatrix catalogMatrix = CatalogMatrix.builder()
+                .catalogCreator(CatalogCreator.builder().creator("Shinya").build())
+                .catalogDefinitions(List.of(this.getCatalogDefinition(), this.getBiCatalogDefintiion())).build();
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(directory, 1024 * 1024)) {
+            CatalogResourceFormatter.builder().renderCache(renderCache).build().format(catalogMatrix);
+            assertEquals(2, renderCache.size());
+        }
+
+        try (CatalogRenderCache renderCache = CatalogRenderCache.open(directory, 1024 * 1024)) {
+            final CatalogResourceGroup catalogResourceGroup = CatalogResourceFormatter.builder()
+                    .renderCache(renderCache).build().format(catalogMatrix);
+
+            assertEquals(2, renderCache.size());
+            assertEquals(TEMPLATE_CATALOG_CLASS, catalogResourceGroup.get(0).getResource());
+            assertEquals(TEMPLATE_BICATALOG_CLASS, catalogResourceGroup.get(1).getResource());
+        }
+    }
+
     private CatalogDefinition getCatalogDefinition() {
 
         final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>();
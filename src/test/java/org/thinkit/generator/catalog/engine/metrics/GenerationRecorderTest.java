@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.thinkit.generator.catalog.engine.catalog.GenerationStage;
+
+/**
+ * {@link GenerationRecorder} のUnitテストを管理するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class GenerationRecorderTest {
+
+    @Test
+    void testReportStageStatistics() {
+
+        final GenerationRecorder recorder = GenerationRecorder.newInstance();
+
+        for (int i = 1; i <= 1000; i++) {
+            recorder.onStage(GenerationStage.FORMATTING, "org.thinkit.Test", i * 1000L);
+        }
+
+        final GenerationReport report = recorder.report();
+        final GenerationStatistics statistics = report.getStageStatistics().get(GenerationStage.FORMATTING);
+
+        assertEquals(1000, statistics.getCount());
+        assertEquals(500500000L, statistics.getTotalNanos());
+        assertEquals(1000000L, statistics.getMaxNanos());
+        assertTrue(Math.abs(statistics.getP50Nanos() - 500000L) <= 500000L * 0.04);
+        assertTrue(Math.abs(statistics.getP99Nanos() - 990000L) <= 990000L * 0.04);
+        assertFalse(report.getStageStatistics().containsKey(GenerationStage.VALIDATION));
+    }
+
+    @Test
+    void testReportSlowestDefinitionsInParallel() {
+
+        final GenerationRecorder recorder = GenerationRecorder.of(3);
+
+        IntStream.range(0, 10000).parallel().forEach(i -> {
+            recorder.onDefinition(String.format("org.thinkit.Test%s", i), i, 10L);
+        });
+
+        final GenerationReport report = recorder.report();
+
+        assertEquals(10000, report.getDefinitionStatistics().getCount());
+        assertEquals(100000L, report.getRenderedBytes());
+        assertEquals(List.of(9999L, 9998L, 9997L), report.getSlowestDefinitions().stream()
+                .map(DefinitionTiming::getElapsedNanos).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testOfWhenSlowestDefinitionCountIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> GenerationRecorder.of(-1));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.sink;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+import org.thinkit.generator.catalog.engine.sink.ArchiveCatalogResourceSink.CompressionMethod;
+
+/**
+ * {@link ArchiveCatalogResourceSink} のUnitテストを管理するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class ArchiveCatalogResourceSinkTest {
+
+    @Test
+    void testWriteAllInDeterministicOrder() throws Exception {
+
+        final List<CatalogResource> catalogResources = getCatalogResources();
+        final byte[] archive = archive(catalogResources, CompressionMethod.STORED);
+
+        final List<CatalogResource> reversedCatalogResources = new ArrayList<>(catalogResources);
+        Collections.reverse(reversedCatalogResources);
+
+        assertArrayEquals(archive, archive(reversedCatalogResources, CompressionMethod.STORED));
+
+        final List<String> entryNames = new ArrayList<>();
+
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+
+                if (entry.getName().equals("org/thinkit/b/TestCatalog1.java")) {
+                    assertEquals("// カタログ 1", new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        assertEquals(List.of("META-INF/", "META-INF/MANIFEST.MF", "org/", "org/thinkit/", "org/thinkit/a/",
+                "org/thinkit/a/TestCatalog0.java", "org/thinkit/a/TestCatalog2.java", "org/thinkit/b/",
+                "org/thinkit/b/TestCatalog1.java", "org/thinkit/b/TestCatalog3.java"), entryNames);
+    }
+
+    @Test
+    void testWriteDeflated() throws Exception {
+
+        final byte[] stored = archive(getCatalogResources(), CompressionMethod.STORED);
+        final byte[] deflated = archive(getCatalogResources(), CompressionMethod.DEFLATED);
+
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(deflated))) {
+            ZipEntry entry;
+            int count = 0;
+
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                zipInputStream.readAllBytes();
+                count++;
+                assertEquals(ZipEntry.DEFLATED, entry.getMethod());
+            }
+
+            assertEquals(10, count);
+        }
+
+        assertFalse(Arrays.equals(stored, deflated));
+    }
+
+    private static byte[] archive(List<CatalogResource> catalogResources, CompressionMethod compressionMethod)
+            throws Exception {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ArchiveCatalogResourceSink sink = ArchiveCatalogResourceSink.builder().outputStream(outputStream).jar(true)
+                .compressionMethod(compressionMethod).compressionLevel(9).build()) {
+            sink.writeAll(catalogResources);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private static List<CatalogResource> getCatalogResources() {
+
+        final List<CatalogResource> catalogResources = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            catalogResources.add(CatalogResource.builder().packageName(i % 2 == 0 ? "org.thinkit.a" : "org.thinkit.b")
+                    .className("TestCatalog" + i).resource("// カタログ " + i).build());
+        }
+
+        return catalogResources;
+    }
+}
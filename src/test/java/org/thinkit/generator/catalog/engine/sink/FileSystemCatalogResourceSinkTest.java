@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.sink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.thinkit.generator.catalog.engine.dto.CatalogResource;
+
+/**
+ * {@link FileSystemCatalogResourceSink} のUnitテストを管理するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class FileSystemCatalogResourceSinkTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testWriteAll() throws Exception {
+
+        final List<CatalogResource> catalogResources = new ArrayList<>();
+
+        for (int i = 0; i < 32; i++) {
+            catalogResources.add(CatalogResource.builder().packageName("org.thinkit.test.p" + (i % 4))
+                    .className("TestCatalog" + i).resource("// カタログ " + i).build());
+        }
+
+        FileSystemCatalogResourceSink.builder().root(this.root).parallelism(4).build().writeAll(catalogResources);
+
+        for (int i = 0; i < 32; i++) {
+            assertEquals("// カタログ " + i, Files.readString(
+                    this.root.resolve("org/thinkit/test/p" + (i % 4) + "/TestCatalog" + i + ".java"),
+                    StandardCharsets.UTF_8));
+        }
+
+        try (Stream<Path> paths = Files.walk(this.root)) {
+            assertEquals(32, paths.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void testWriteSkipsUnchangedFile() throws Exception {
+
+        final CatalogResource catalogResource = CatalogResource.builder().packageName("org.thinkit.test")
+                .className("TestCatalog").resource("// unchanged").build();
+        final Path file = this.root.resolve("org/thinkit/test/TestCatalog.java");
+
+        FileSystemCatalogResourceSink.of(this.root).write(catalogResource);
+        final FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(file, lastModifiedTime);
+
+        final FileSystemCatalogResourceSink sink = FileSystemCatalogResourceSink.builder().root(this.root)
+                .skipUnchanged(true).build();
+
+        sink.write(catalogResource);
+        assertEquals(lastModifiedTime, Files.getLastModifiedTime(file));
+
+        sink.write(catalogResource.toBuilder().resource("// changed!").build());
+        sink.write(catalogResource.toBuilder().resource("// changed?").build());
+        sink.write(catalogResource.toBuilder().className("NewCatalog").build());
+
+        assertEquals("// changed?", Files.readString(file));
+        assertEquals(3, sink.getWrittenCount());
+        assertEquals(1, sink.getSkippedCount());
+    }
+
+    @Test
+    void testWriteReplacesExistingFile() throws Exception {
+
+        final FileSystemCatalogResourceSink sink = FileSystemCatalogResourceSink.of(this.root);
+
+        sink.write(CatalogResource.builder().packageName("org.thinkit.test").className("TestCatalog")
+                .resource("// before").build());
+        sink.write(CatalogResource.builder().packageName("org.thinkit.test").className("TestCatalog")
+                .resource("// after").build());
+
+        assertEquals("// after", Files.readString(this.root.resolve("org/thinkit/test/TestCatalog.java")));
+
+        try (Stream<Path> paths = Files.list(this.root.resolve("org/thinkit/test"))) {
+            assertEquals(1, paths.count());
+        }
+    }
+
+    @Test
+    void testWriteKeepsFilePermissions() throws Exception {
+
+        assumeTrue(Files.getFileStore(this.root).supportsFileAttributeView(PosixFileAttributeView.class));
+
+        final Path referenceFile = this.root.resolve("Reference.java");
+        Files.writeString(referenceFile, "// reference");
+
+        final FileSystemCatalogResourceSink sink = FileSystemCatalogResourceSink.of(this.root);
+        final CatalogResource catalogResource = CatalogResource.builder().packageName("org.thinkit.test")
+                .className("TestCatalog").resource("// created").build();
+        final Path file = this.root.resolve("org/thinkit/test/TestCatalog.java");
+
+        sink.write(catalogResource);
+        assertEquals(Files.getPosixFilePermissions(referenceFile), Files.getPosixFilePermissions(file));
+
+        final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        sink.write(catalogResource.toBuilder().resource("// replaced").build());
+        assertEquals("// replaced", Files.readString(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+}
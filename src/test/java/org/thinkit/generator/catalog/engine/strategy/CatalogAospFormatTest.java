@@ -0,0 +1,257 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.catalog.ScalingMode;
+import org.thinkit.generator.catalog.engine.dto.CatalogCreator;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogEnumeration;
+import org.thinkit.generator.catalog.engine.dto.CatalogField;
+import org.thinkit.generator.catalog.engine.dto.CatalogMeta;
+import org.thinkit.generator.catalog.engine.formatter.CatalogResourceFormatter;
+import org.thinkit.generator.common.duke.catalog.LombokState;
+
+/**
+ * {@link CatalogAospFormat} のUnitテストを管理するテストクラスです。
+ * <p>
+ * カタログ種別、Lombok の使用有無、コードおよびタグの逆引き、プリミティブ型のタグ、タグのデータ型、サイドテーブルの使用有無、
+ * ならびに折り返しが必要な長さの名前および説明の組み合わせごとにカタログ定義を生成し、整形結果を google-java-format
+ * の整形結果と比較します。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class CatalogAospFormatTest {
+
+    /**
+     * バイカタログのタグのデータ型とタグの値の書式
+     */
+    private static final Map<String, String> TAG_FORMATS = Map.of("String", "tag value %d", "Character", "%d",
+            "Integer", "%d", "Long", "%d", "Double", "%d.5");
+
+    /**
+     * サイドテーブルを使用するために必要な列挙子の件数
+     */
+    private static final int SIDE_TABLE_ENUMERATION_COUNT = 3500;
+
+    /**
+     * 折り返しが必要な長さの説明
+     */
+    private static final String VERBOSE_DESCRIPTION = "A deliberately verbose description that keeps going well past "
+            + "the one hundred column limit so that the Javadoc has to be wrapped across several lines, "
+            + "including a {@link java.util.List} reference and an <code>inline</code> element";
+
+    @Test
+    void testFormatMatchesGoogleJavaFormat() {
+
+        final List<String> mismatches = new ArrayList<>();
+
+        for (CatalogDefinition catalogDefinition : this.getCatalogDefinitions()) {
+            final String resource = CatalogResourceFormatter.builder().formatMode(FormatMode.NONE).build()
+                    .format(CatalogCreator.builder().creator("Shinya").build(), catalogDefinition).getResource();
+            final String expected = CatalogSharedGoogleJavaFormat.newInstance().format(resource);
+            final String formatted = CatalogAospFormat.newInstance().format(resource);
+
+            if (!formatted.equals(expected)) {
+                mismatches.add(String.format("%s: %s", this.describe(catalogDefinition),
+                        this.firstDifference(expected, formatted)));
+            }
+        }
+
+        assertTrue(mismatches.isEmpty(), String.join("\n", mismatches));
+    }
+
+    @Test
+    void testFormatDelegatesWhenDeclarationCannotBeWrapped() {
+
+        final String className = "VerboseCatalogWithAClassNameSoLongThat"
+                + "EvenNestedContinuationLinesExceedTheColumnLimit";
+
+        for (CatalogDefinition catalogDefinition : List.of(
+                this.getCatalogDefinition(CatalogType.CATALOG, "", LombokState.NONE, true, false, false, false, true),
+                this.getCatalogDefinition(CatalogType.BI_CATALOG, "String", LombokState.LOMBOK, true, true, false,
+                        false, true))) {
+            final String resource = CatalogResourceFormatter.builder().formatMode(FormatMode.NONE).build()
+                    .format(CatalogCreator.builder().creator("Shinya").build(),
+                            catalogDefinition.toBuilder().className(className).build())
+                    .getResource();
+
+            assertEquals(CatalogSharedGoogleJavaFormat.newInstance().format(resource),
+                    CatalogAospFormat.newInstance().format(resource), this.describe(catalogDefinition));
+        }
+    }
+
+    /**
+     * カタログジェネレーターが生成するすべての構造を網羅するカタログ定義のリストを返却します。
+     * <p>
+     * サイドテーブルを使用するカタログ定義は Lombok を使用しないため、 Lombok を使用しない組み合わせのみを生成します。
+     * また、列挙子の件数が多く整形に時間を要するため、コードの逆引きを生成する組み合わせのみを生成します。
+     *
+     * @return カタログ定義のリスト
+     */
+    private List<CatalogDefinition> getCatalogDefinitions() {
+
+        final List<CatalogDefinition> catalogDefinitions = new ArrayList<>();
+
+        for (boolean sideTable : new boolean[] { false, true }) {
+            for (LombokState lombokState : sideTable ? new LombokState[] { LombokState.NONE } : LombokState.values()) {
+                for (boolean codeLookup : sideTable ? new boolean[] { true } : new boolean[] { false, true }) {
+                    for (boolean verbose : new boolean[] { false, true }) {
+                        catalogDefinitions.add(this.getCatalogDefinition(CatalogType.CATALOG, "", lombokState,
+                                codeLookup, false, false, sideTable, verbose));
+
+                        for (String tagDataType : TAG_FORMATS.keySet()) {
+                            for (boolean tagLookup : this.supportsTagLookup(tagDataType, sideTable)
+                                    ? new boolean[] { false, true }
+                                    : new boolean[] { false }) {
+                                for (boolean primitiveTag : new boolean[] { false, true }) {
+                                    catalogDefinitions.add(this.getCatalogDefinition(CatalogType.BI_CATALOG,
+                                            tagDataType, lombokState, codeLookup, tagLookup, primitiveTag, sideTable,
+                                            verbose));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return catalogDefinitions;
+    }
+
+    /**
+     * 引数として渡された組み合わせのカタログ定義を生成し返却します。
+     *
+     * @param catalogType  カタログ種別
+     * @param tagDataType  タグのデータ型
+     * @param lombokState  Lombok の使用有無
+     * @param codeLookup   コードの逆引きを生成するか否か
+     * @param tagLookup    タグの逆引きを生成するか否か
+     * @param primitiveTag プリミティブ型のタグを生成するか否か
+     * @param sideTable    サイドテーブルを使用するか否か
+     * @param verbose      折り返しが必要な長さの名前および説明を使用するか否か
+     * @return カタログ定義
+     */
+    private CatalogDefinition getCatalogDefinition(CatalogType catalogType, String tagDataType,
+            LombokState lombokState, boolean codeLookup, boolean tagLookup, boolean primitiveTag, boolean sideTable,
+            boolean verbose) {
+
+        final boolean biCatalog = catalogType == CatalogType.BI_CATALOG;
+        final int enumerationCount = sideTable ? SIDE_TABLE_ENUMERATION_COUNT : 3;
+        final List<CatalogEnumeration> catalogEnumerations = new ArrayList<>(enumerationCount);
+
+        for (int i = 0; i < enumerationCount; i++) {
+            final int code = verbose ? Integer.MAX_VALUE - i : i;
+            final String tag = biCatalog
+                    ? String.format(TAG_FORMATS.get(tagDataType), "Character".equals(tagDataType) ? i % 10 : i)
+                    : "";
+
+            catalogEnumerations.add(CatalogEnumeration.builder()
+                    .literal(verbose ? String.format("LITERAL_WITH_A_RATHER_LONG_NAME_THAT_NEEDS_WRAPPING_%d", i)
+                            : String.format("TEST%d", i))
+                    .code(code)
+                    .tag("String".equals(tagDataType) && verbose ? tag + " " + VERBOSE_DESCRIPTION : tag)
+                    .description(verbose ? VERBOSE_DESCRIPTION : String.format("Description %d", i)).build());
+        }
+
+        final List<CatalogField> catalogFields = new ArrayList<>(2);
+        catalogFields.add(CatalogField.builder().variableName("code").dataType("int")
+                .description(verbose ? VERBOSE_DESCRIPTION : "The code").build());
+
+        if (biCatalog) {
+            catalogFields.add(CatalogField.builder().variableName("tag").dataType(tagDataType)
+                    .description(verbose ? VERBOSE_DESCRIPTION : "The tag").build());
+        }
+
+        return CatalogDefinition.builder()
+                .catalogMeta(CatalogMeta.builder().version("1.0.0").catalogType(catalogType)
+                        .dependentPackages(verbose
+                                ? List.of("org.thinkit.generator.catalog.test.dependency.with.a.lengthy.namespace.Name",
+                                        "java.util.concurrent.atomic.AtomicReferenceFieldUpdater")
+                                : List.of())
+                        .lombokState(lombokState).codeLookup(codeLookup).tagLookup(tagLookup)
+                        .primitiveTag(primitiveTag).scalingMode(sideTable ? ScalingMode.AUTO : ScalingMode.NONE)
+                        .build())
+                .packageName(verbose ? "org.thinkit.generator.catalog.test.with.a.rather.lengthy.namespace.to.wrap"
+                        : "org.thinkit.generator.catalog.test")
+                .className(verbose ? "VerboseCatalogWithAClassNameLongEnoughToForceTheDeclarationToWrap"
+                        : "TestCatalog")
+                .tagDataType(tagDataType).catalogEnumerations(catalogEnumerations).catalogFields(catalogFields)
+                .build();
+    }
+
+    /**
+     * 引数として渡されたタグのデータ型でタグの逆引きを生成できるか判定します。
+     * <p>
+     * 文字型のタグは1桁の数字で表すため、タグが重複するサイドテーブルの組み合わせではタグの逆引きを生成できません。
+     *
+     * @param tagDataType タグのデータ型
+     * @param sideTable   サイドテーブルを使用するか否か
+     * @return タグの逆引きを生成できる場合は {@code true} 、それ以外は {@code false}
+     */
+    private boolean supportsTagLookup(String tagDataType, boolean sideTable) {
+        return "String".equals(tagDataType) || "Character".equals(tagDataType) && !sideTable;
+    }
+
+    /**
+     * 引数として渡されたカタログ定義の組み合わせを表す文字列を返却します。
+     *
+     * @param catalogDefinition カタログ定義
+     * @return 組み合わせを表す文字列
+     */
+    private String describe(CatalogDefinition catalogDefinition) {
+
+        final CatalogMeta catalogMeta = catalogDefinition.getCatalogMeta();
+
+        return String.format("%s<%s> lombok=%s codeLookup=%b tagLookup=%b primitiveTag=%b scaling=%s verbose=%b",
+                catalogMeta.getCatalogType(), catalogDefinition.getTagDataType(), catalogMeta.getLombokState(),
+                catalogMeta.isCodeLookup(), catalogMeta.isTagLookup(), catalogMeta.isPrimitiveTag(),
+                catalogMeta.getScalingMode(), !catalogMeta.getDependentPackages().isEmpty());
+    }
+
+    /**
+     * 引数として渡された2つの整形結果で最初に一致しない行を表す文字列を返却します。
+     *
+     * @param expected  google-java-format の整形結果
+     * @param formatted 検証対象の整形結果
+     * @return 最初に一致しない行を表す文字列
+     */
+    private String firstDifference(String expected, String formatted) {
+
+        final String[] expectedLines = expected.split("\n", -1);
+        final String[] formattedLines = formatted.split("\n", -1);
+
+        int line = 0;
+
+        while (line < expectedLines.length && line < formattedLines.length
+                && expectedLines[line].equals(formattedLines[line])) {
+            line++;
+        }
+
+        return String.format("line %d expected [%s] but was [%s]", line + 1,
+                line < expectedLines.length ? expectedLines[line] : "",
+                line < formattedLines.length ? formattedLines[line] : "");
+    }
+}
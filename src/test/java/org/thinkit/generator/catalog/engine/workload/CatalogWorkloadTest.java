@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.catalog.engine.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.thinkit.generator.catalog.engine.catalog.CatalogType;
+import org.thinkit.generator.catalog.engine.catalog.EnumerationDistribution;
+import org.thinkit.generator.catalog.engine.catalog.FormatMode;
+import org.thinkit.generator.catalog.engine.dto.CatalogDefinition;
+import org.thinkit.generator.catalog.engine.dto.CatalogEnumeration;
+import org.thinkit.generator.catalog.engine.dto.CatalogResourceGroup;
+import org.thinkit.generator.catalog.engine.formatter.CatalogResourceFormatter;
+
+/**
+ * {@link CatalogWorkload} のUnitテストを管理するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0.9
+ */
+public final class CatalogWorkloadTest {
+
+    @Test
+    void testStreamIsDeterministic() {
+
+        final CatalogWorkload workload = CatalogWorkload.builder().seed(42L).definitionCount(50).unicodeRatio(0.3)
+                .sparseCodeRatio(0.5).build();
+        final List<CatalogDefinition> catalogDefinitions = workload.stream().collect(Collectors.toList());
+
+        assertEquals(catalogDefinitions, workload.stream().parallel().collect(Collectors.toList()));
+        assertEquals(catalogDefinitions.get(17), workload.createCatalogDefinition(17));
+        assertNotEquals(catalogDefinitions,
+                workload.toBuilder().seed(43L).build().stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testStreamFollowsSettings() {
+
+        final List<CatalogDefinition> catalogDefinitions = CatalogWorkload.builder().definitionCount(2000)
+                .minEnumerationCount(3).maxEnumerationCount(500).enumerationDistribution(EnumerationDistribution.SKEWED)
+                .sparseCodeRatio(1.0).biCatalogRatio(0.25).minDescriptionLength(5).maxDescriptionLength(20)
+                .unicodeRatio(1.0).build().stream().collect(Collectors.toList());
+
+        long biCatalogCount = 0L;
+        long smallCatalogCount = 0L;
+
+        for (CatalogDefinition catalogDefinition : catalogDefinitions) {
+            final List<CatalogEnumeration> catalogEnumerations = catalogDefinition.getCatalogEnumerations();
+            assertTrue(catalogEnumerations.size() >= 3 && catalogEnumerations.size() <= 500);
+
+            if (catalogDefinition.getCatalogMeta().getCatalogType() == CatalogType.BI_CATALOG) {
+                biCatalogCount++;
+            }
+
+            if (catalogEnumerations.size() < 100) {
+                smallCatalogCount++;
+            }
+
+            for (int i = 0; i < catalogEnumerations.size(); i++) {
+                final String description = catalogEnumerations.get(i).getDescription();
+                final int length = description.codePointCount(0, description.length());
+
+                assertTrue(length >= 5 && length <= 20, description);
+                assertTrue(description.chars().allMatch(c -> c == ' ' || c > 0x7f), description);
+
+                if (i > 0) {
+                    assertTrue(catalogEnumerations.get(i).getCode() > catalogEnumerations.get(i - 1).getCode());
+                }
+            }
+        }
+
+        assertTrue(Math.abs(biCatalogCount - 500) < 100);
+        assertTrue(smallCatalogCount > catalogDefinitions.size() / 2);
+    }
+
+    @Test
+    void testStreamDoesNotMaterializeDefinitions() {
+        assertEquals(3, CatalogWorkload.builder().definitionCount(Integer.MAX_VALUE).build().stream().limit(3).count());
+    }
+
+    @Test
+    void testFormatSynthesizedMatrix() {
+
+        final CatalogResourceGroup catalogResourceGroup = CatalogResourceFormatter.builder()
+                .formatMode(FormatMode.VERIFIED_AOSP).build().format(CatalogWorkload.builder().seed(7L)
+                        .definitionCount(20).sparseCodeRatio(0.5).unicodeRatio(0.5).build().createCatalogMatrix());
+
+        assertEquals(20, catalogResourceGroup.size());
+    }
+
+    @Test
+    void testStreamWhenSettingsAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> CatalogWorkload.builder().definitionCount(0).build().stream());
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogWorkload.builder().minEnumerationCount(10).maxEnumerationCount(5).build().stream());
+        assertThrows(IllegalArgumentException.class, () -> CatalogWorkload.builder().lombokRatio(1.5).build().stream());
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogWorkload.builder().unicodeRatio(Double.NaN).build().stream());
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogWorkload.builder().maxEnumerationCount(10).sparseCodeGap(Integer.MAX_VALUE).build()
+                        .stream());
+    }
+}